@@ -0,0 +1,100 @@
+package com.adobe.aio.cloudmanager.benchmark;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.adobe.aio.cloudmanager.impl.environment.EnvironmentImpl;
+import com.adobe.aio.cloudmanager.impl.generated.EnvironmentList;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionListRepresentation;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineList;
+import com.adobe.aio.cloudmanager.impl.pipeline.PipelineImpl;
+import com.adobe.aio.cloudmanager.impl.pipeline.execution.PipelineExecutionImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding of HAL list responses into the generated models, and wrapping of the decoded items as the APIs do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecodeBenchmark {
+
+  @Param({ "20", "1000" })
+  private int size;
+
+  private byte[] executions;
+  private byte[] pipelines;
+  private byte[] environments;
+
+  @Setup
+  public void setup() {
+    executions = Payloads.list("pipeline/execution/list.json", "executions", size);
+    pipelines = Payloads.list("pipeline/list.json", "pipelines", size);
+    environments = Payloads.list("environment/list.json", "environments", size);
+  }
+
+  @Benchmark
+  public PipelineExecutionListRepresentation decodeExecutions() throws IOException {
+    return Payloads.MAPPER.readValue(executions, PipelineExecutionListRepresentation.class);
+  }
+
+  @Benchmark
+  public List<PipelineExecutionImpl> wrapExecutions() throws IOException {
+    return decodeExecutions().getEmbedded().getExecutions().stream().map(e -> new PipelineExecutionImpl(e, null)).collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public PipelineList decodePipelines() throws IOException {
+    return Payloads.MAPPER.readValue(pipelines, PipelineList.class);
+  }
+
+  @Benchmark
+  public List<PipelineImpl> wrapPipelines() throws IOException {
+    return decodePipelines().getEmbedded().getPipelines().stream().map(p -> new PipelineImpl(p, null, null)).collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public EnvironmentList decodeEnvironments() throws IOException {
+    return Payloads.MAPPER.readValue(environments, EnvironmentList.class);
+  }
+
+  @Benchmark
+  public List<EnvironmentImpl> wrapEnvironments() throws IOException {
+    return decodeEnvironments().getEmbedded().getEnvironments().stream().map(e -> new EnvironmentImpl(e, null)).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,79 @@
+package com.adobe.aio.cloudmanager.benchmark;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Builds benchmark payloads from the library's test fixtures.
+ */
+final class Payloads {
+
+  static final ObjectMapper MAPPER = FeignUtil.getMapper();
+
+  private Payloads() {
+  }
+
+  static String load(String resource) {
+    try (InputStream in = Payloads.class.getClassLoader().getResourceAsStream(resource)) {
+      if (in == null) {
+        throw new IllegalArgumentException("Missing payload: " + resource);
+      }
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * A HAL list payload with the embedded items of the fixture repeated up to the requested size.
+   *
+   * @param resource the list fixture
+   * @param embedded the name of the embedded item list
+   * @param size     the number of items
+   * @return the payload
+   */
+  static byte[] list(String resource, String embedded, int size) {
+    try {
+      ObjectNode root = (ObjectNode) MAPPER.readTree(load(resource));
+      ArrayNode items = (ArrayNode) root.path("_embedded").path(embedded);
+      ArrayNode repeated = MAPPER.createArrayNode();
+      for (int i = 0; i < size; i++) {
+        JsonNode item = items.get(i % items.size()).deepCopy();
+        ((ObjectNode) item).put("id", String.valueOf(i));
+        repeated.add(item);
+      }
+      ((ObjectNode) root.get("_embedded")).set(embedded, repeated);
+      return MAPPER.writeValueAsBytes(root);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
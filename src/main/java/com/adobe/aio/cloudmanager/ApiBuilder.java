@@ -22,15 +22,26 @@ package com.adobe.aio.cloudmanager;
 
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 import jakarta.validation.constraints.NotNull;
 
 import com.adobe.aio.workspace.Workspace;
+import com.adobe.aio.cloudmanager.impl.HttpTransportImpl;
+import com.adobe.aio.cloudmanager.impl.JsonCodecs;
+import com.adobe.aio.cloudmanager.impl.content.AsyncContentSetApiImpl;
 import com.adobe.aio.cloudmanager.impl.content.ContentSetApiImpl;
+import com.adobe.aio.cloudmanager.impl.environment.AsyncEnvironmentApiImpl;
 import com.adobe.aio.cloudmanager.impl.environment.EnvironmentApiImpl;
+import com.adobe.aio.cloudmanager.impl.pipeline.AsyncPipelineApiImpl;
 import com.adobe.aio.cloudmanager.impl.pipeline.PipelineApiImpl;
+import com.adobe.aio.cloudmanager.impl.pipeline.execution.AsyncPipelineExecutionApiImpl;
 import com.adobe.aio.cloudmanager.impl.pipeline.execution.PipelineExecutionApiImpl;
+import com.adobe.aio.cloudmanager.impl.program.AsyncProgramApiImpl;
 import com.adobe.aio.cloudmanager.impl.program.ProgramApiImpl;
+import com.adobe.aio.cloudmanager.impl.repository.AsyncRepositoryApiImpl;
 import com.adobe.aio.cloudmanager.impl.repository.RepositoryApiImpl;
+import com.adobe.aio.cloudmanager.impl.tenant.AsyncTenantApiImpl;
 import com.adobe.aio.cloudmanager.impl.tenant.TenantApiImpl;
 
 /**
@@ -42,6 +53,12 @@ public class ApiBuilder<A> {
   private final Class<A> clazz;
   private Workspace workspace;
   private URL url;
+  private HttpTransport transport;
+  private ExecutorService executor;
+  private Duration maxStaleness;
+  private Duration eventStaleness;
+  private RetryPolicy retryPolicy;
+  private Instrumentation instrumentation;
 
   /**
    * Create new instance of an API Builder, scoped to the desired interface.
@@ -75,6 +92,81 @@ public class ApiBuilder<A> {
     return this;
   }
 
+  /**
+   * (Optional) HTTP transport for this API. Pass the same transport to every builder so that all APIs share one connection pool.
+   * If not provided, then a default transport shared by all APIs will be used.
+   *
+   * @param transport the transport for requests
+   * @return this builder
+   */
+  public ApiBuilder<A> transport(@NotNull HttpTransport transport) {
+    this.transport = transport;
+    return this;
+  }
+
+  /**
+   * (Optional) Executor for bulk operations which fan out one request per item, such as {@link PipelineApi#listByTenant(String)}, {@link EnvironmentApi#downloadLogs(String, String, LogOption, int, java.io.File)}, {@link PipelineExecutionApi#archive(PipelineExecution, java.io.File)} or verifying the signatures of a batch given to an {@link EventIngestor}.
+   * Paged streams, such as {@link RepositoryApi#stream(String)}, also prefetch their next page on it.
+   * On Java 21 and later a virtual thread executor ({@code Executors.newVirtualThreadPerTaskExecutor()}) removes the need to size a pool; concurrency is then bounded by the API itself.
+   * A bounded executor may be shared with the caller's own tasks: requests the executor has not started when a bulk operation waits for them run on the waiting thread, so bulk operations may be called from tasks running on the executor.
+   * If not provided, bulk operations run sequentially on the calling thread, and pages are fetched as they are needed. APIs without bulk operations ignore this value. The caller remains responsible for shutting down the executor.
+   *
+   * @param executor the executor for bulk operations
+   * @return this builder
+   */
+  public ApiBuilder<A> executor(@NotNull ExecutorService executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  /**
+   * (Optional) How old a {@link PipelineExecution} passed to a step operation, such as {@link PipelineExecutionApi#advance(PipelineExecution)}, may be and still be used without retrieving it again.
+   * If not provided, executions are always retrieved again. APIs without step operations ignore this value.
+   *
+   * @param maxStaleness the staleness bound
+   * @return this builder
+   */
+  public ApiBuilder<A> maxStaleness(@NotNull Duration maxStaleness) {
+    this.maxStaleness = maxStaleness;
+    return this;
+  }
+
+  /**
+   * (Optional) How long the execution of a step event's {@link PipelineExecutionStepState} is reused for, so step events for one execution handled one after another retrieve it once.
+   * Concurrent retrievals of an execution are always shared; zero disables reuse beyond that. If not provided, executions are reused for five seconds. APIs without events ignore this value.
+   *
+   * @param eventStaleness the staleness bound
+   * @return this builder
+   */
+  public ApiBuilder<A> eventStaleness(@NotNull Duration eventStaleness) {
+    this.eventStaleness = eventStaleness;
+    return this;
+  }
+
+  /**
+   * (Optional) Policy for retrying requests which failed transiently. The API shares the connections of its transport, but only it applies the policy.
+   * If not provided, the client's default handling of I/O errors applies and failed responses are not retried.
+   *
+   * @param retryPolicy the retry policy
+   * @return this builder
+   */
+  public ApiBuilder<A> retryPolicy(@NotNull RetryPolicy retryPolicy) {
+    this.retryPolicy = retryPolicy;
+    return this;
+  }
+
+  /**
+   * (Optional) Instrumentation notified of each request made by the API, such as an {@link InstrumentationRegistry}.
+   * If not provided, requests are only logged.
+   *
+   * @param instrumentation the instrumentation
+   * @return this builder
+   */
+  public ApiBuilder<A> instrumentation(@NotNull Instrumentation instrumentation) {
+    this.instrumentation = instrumentation;
+    return this;
+  }
+
   /**
    * Build a new instance of the requested API.
    *
@@ -89,6 +181,12 @@ public class ApiBuilder<A> {
       throw new IllegalStateException("Workspace must specify AuthContext.");
     }
     workspace.getAuthContext().validate();
+    if (maxStaleness != null && maxStaleness.isNegative()) {
+      throw new IllegalStateException("Max staleness cannot be negative.");
+    }
+    if (eventStaleness != null && eventStaleness.isNegative()) {
+      throw new IllegalStateException("Event staleness cannot be negative.");
+    }
 
     try {
       Class impl;
@@ -106,13 +204,67 @@ public class ApiBuilder<A> {
         impl = RepositoryApiImpl.class;
       } else if (clazz == TenantApi.class) {
         impl = TenantApiImpl.class;
+      } else if (clazz == AsyncContentSetApi.class) {
+        impl = AsyncContentSetApiImpl.class;
+      } else if (clazz == AsyncEnvironmentApi.class) {
+        impl = AsyncEnvironmentApiImpl.class;
+      } else if (clazz == AsyncPipelineApi.class) {
+        impl = AsyncPipelineApiImpl.class;
+      } else if (clazz == AsyncPipelineExecutionApi.class) {
+        impl = AsyncPipelineExecutionApiImpl.class;
+      } else if (clazz == AsyncProgramApi.class) {
+        impl = AsyncProgramApiImpl.class;
+      } else if (clazz == AsyncRepositoryApi.class) {
+        impl = AsyncRepositoryApiImpl.class;
+      } else if (clazz == AsyncTenantApi.class) {
+        impl = AsyncTenantApiImpl.class;
       } else {
         throw new CloudManagerApiException("Unknown API requested (%s).".formatted(clazz));
       }
-      return (A) impl.getDeclaredConstructor(Workspace.class, URL.class).newInstance(workspace, url);
+      HttpTransport shared = transport == null ? HttpTransportImpl.getDefault() : transport;
+      if (retryPolicy != null) {
+        shared = ((HttpTransportImpl) shared).withRetryPolicy(retryPolicy);
+      }
+      if (instrumentation != null) {
+        shared = ((HttpTransportImpl) shared).withInstrumentation(instrumentation);
+      }
+      A api = null;
+      if (executor != null) {
+        try {
+          api = (A) impl.getDeclaredConstructor(Workspace.class, URL.class, HttpTransport.class, ExecutorService.class).newInstance(workspace, url, shared, executor);
+        } catch (NoSuchMethodException ignored) {
+          // No bulk operations on this API.
+        }
+      }
+      if (api == null) {
+        api = (A) impl.getDeclaredConstructor(Workspace.class, URL.class, HttpTransport.class).newInstance(workspace, url, shared);
+      }
+      if (maxStaleness != null) {
+        if (api instanceof PipelineExecutionApiImpl) {
+          ((PipelineExecutionApiImpl) api).setMaxStaleness(maxStaleness);
+        } else if (api instanceof AsyncPipelineExecutionApiImpl) {
+          ((AsyncPipelineExecutionApiImpl) api).setMaxStaleness(maxStaleness);
+        }
+      }
+      if (eventStaleness != null) {
+        if (api instanceof PipelineExecutionApiImpl) {
+          ((PipelineExecutionApiImpl) api).setEventStaleness(eventStaleness);
+        } else if (api instanceof AsyncPipelineExecutionApiImpl) {
+          ((AsyncPipelineExecutionApiImpl) api).setEventStaleness(eventStaleness);
+        }
+      }
+      return api;
     } catch (NoSuchMethodException | InvocationTargetException | InstantiationException | IllegalAccessException ex) {
       // How did this happen?
       throw new RuntimeException(ex);
     }
   }
+
+  /**
+   * Optionally prepares the JSON processing of the API representations, which is otherwise done lazily on the first responses.
+   * Call it during application start-up to avoid slow first requests; it is shared by all APIs and need only be called once.
+   */
+  public static void warmUp() {
+    JsonCodecs.warmUp();
+  }
 }
@@ -0,0 +1,153 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import jakarta.validation.constraints.NotNull;
+
+import static com.adobe.aio.cloudmanager.ContentSet.*;
+
+/**
+ * Asynchronous Content Set API, the non-blocking companion of {@link ContentSetApi}.
+ * <p>
+ * Returned futures complete exceptionally with a {@link CloudManagerApiException} when any error occurs.
+ */
+public interface AsyncContentSetApi {
+
+  /**
+   * List content sets within the specified program.
+   *
+   * @param programId the id of the program context
+   * @return future list of content sets
+   */
+  @NotNull
+  CompletableFuture<Collection<ContentSet>> list(@NotNull String programId);
+
+  /**
+   * List content sets within the specified program, using the specified limit and starting at the specified position.
+   *
+   * @param programId the id of the program context
+   * @param start     the starting position of the results
+   * @param limit     the number of flows to return
+   * @return future list of content sets
+   */
+  @NotNull
+  CompletableFuture<Collection<ContentSet>> list(@NotNull String programId, int start, int limit);
+
+  /**
+   * Create a new ContentSet in the specified program.
+   *
+   * @param programId   the id of the program context
+   * @param name        name of the content set
+   * @param description optional description
+   * @param definitions path definitions for the content set
+   * @return future created content set
+   */
+  @NotNull
+  CompletableFuture<ContentSet> create(@NotNull String programId, @NotNull String name, String description, @NotNull Collection<PathDefinition> definitions);
+
+  /**
+   * Get the content set.
+   *
+   * @param programId the id of the program context
+   * @param id        the content set id
+   * @return future content set
+   */
+  @NotNull
+  CompletableFuture<ContentSet> get(@NotNull String programId, @NotNull String id);
+
+  /**
+   * Update the content set with the provided details.
+   *
+   * @param programId   the id of the program context
+   * @param id          the content set id
+   * @param name        the new name, or {@code null} to leave unchanged
+   * @param description the new description, or {@code null} to leave unchanged
+   * @param definitions the new definitions, or {@code null} to leave unchanged
+   * @return future updated content set
+   */
+  @NotNull
+  CompletableFuture<ContentSet> update(@NotNull String programId, @NotNull String id, String name, String description, Collection<PathDefinition> definitions);
+
+  /**
+   * Delete the content set.
+   *
+   * @param programId the id of the program context
+   * @param id        the content set id
+   * @return future completed when the content set is deleted
+   */
+  @NotNull
+  CompletableFuture<Void> delete(@NotNull String programId, @NotNull String id);
+
+  /**
+   * List content flows within the specified program.
+   *
+   * @param programId the id of the program context
+   * @return future list of content flows
+   */
+  @NotNull
+  CompletableFuture<Collection<ContentFlow>> listFlows(@NotNull String programId);
+
+  /**
+   * List content flows within the specified program, using the specified limit and starting at the specified position.
+   *
+   * @param programId the id of the program context
+   * @param start     the starting position of the results
+   * @param limit     the number of flows to return
+   * @return future list of content flows
+   */
+  @NotNull
+  CompletableFuture<Collection<ContentFlow>> listFlows(@NotNull String programId, int start, int limit);
+
+  /**
+   * Start a content flow between the specified environments, using the specified content set.
+   *
+   * @param programId         the id of the program context
+   * @param id                the id of the content set to use
+   * @param srcEnvironmentId  the id of the source environment
+   * @param destEnvironmentId the id of the destination environment
+   * @param includeAcl        whether to include the content's ACL definitions
+   * @return future content flow
+   */
+  @NotNull
+  CompletableFuture<ContentFlow> startFlow(@NotNull String programId, @NotNull String id, @NotNull String srcEnvironmentId, @NotNull String destEnvironmentId, boolean includeAcl);
+
+  /**
+   * Retrieve the content flow.
+   *
+   * @param programId the id of the program context
+   * @param id        the id of the content flow
+   * @return future content flow
+   */
+  @NotNull
+  CompletableFuture<ContentFlow> getFlow(@NotNull String programId, @NotNull String id);
+
+  /**
+   * Cancel the content flow.
+   *
+   * @param programId the id of the program context
+   * @param id        the id of the content flow
+   * @return future content flow
+   */
+  @NotNull
+  CompletableFuture<ContentFlow> cancelFlow(@NotNull String programId, @NotNull String id);
+}
@@ -0,0 +1,168 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import jakarta.validation.constraints.NotNull;
+
+import com.adobe.aio.cloudmanager.exception.DeleteInProgressException;
+
+/**
+ * Asynchronous Environment API, the non-blocking companion of {@link EnvironmentApi}.
+ * <p>
+ * Returned futures complete exceptionally with a {@link CloudManagerApiException} when any error occurs.
+ */
+public interface AsyncEnvironmentApi {
+
+  /**
+   * List all environments in the program.
+   *
+   * @param programId the program id
+   * @return future list of environments
+   */
+  @NotNull
+  CompletableFuture<Collection<Environment>> list(@NotNull String programId);
+
+  /**
+   * List all environments in the program, of the specified type.
+   *
+   * @param programId the program id
+   * @param type      the type of environments to list
+   * @return future list of environments
+   */
+  @NotNull
+  CompletableFuture<Collection<Environment>> list(@NotNull String programId, Environment.Type type);
+
+  /**
+   * Create a new environment in the program.
+   *
+   * @param programId   the program in which to create the environment
+   * @param name        the name of the new environment
+   * @param type        the type of environment to create
+   * @param region      the region in which to create the environment
+   * @param description optional description of the environment
+   * @return future newly created environment
+   */
+  @NotNull
+  CompletableFuture<Environment> create(@NotNull String programId, @NotNull String name, @NotNull Environment.Type type, @NotNull String region, String description);
+
+  /**
+   * Retrieve the environment within the program context.
+   *
+   * @param programId     the program id
+   * @param environmentId the environment id
+   * @return future environment
+   */
+  @NotNull
+  CompletableFuture<Environment> get(@NotNull String programId, @NotNull String environmentId);
+
+  /**
+   * Delete the environment, with option to ignore resource deletion failure.
+   * <p>
+   * The future completes exceptionally with a {@link DeleteInProgressException} if the delete operation is already active.
+   *
+   * @param programId     the program id of the environment context
+   * @param environmentId the environment to delete
+   * @param ignoreFailure flag to ignore failures
+   * @return future completed when the environment is deleted
+   */
+  @NotNull
+  CompletableFuture<Void> delete(@NotNull String programId, @NotNull String environmentId, boolean ignoreFailure);
+
+  /**
+   * List logs of the specified type for the environment.
+   *
+   * @param programId     the program id for the environment
+   * @param environmentId the environment id
+   * @param option        the type of logs to list
+   * @param days          then number of days of logs to list
+   * @return future list of environment logs
+   */
+  @NotNull
+  CompletableFuture<Collection<EnvironmentLog>> listLogs(@NotNull String programId, @NotNull String environmentId, @NotNull LogOption option, int days);
+
+  /**
+   * Get the fully qualified URL to the log file for download.
+   *
+   * @param programId     the program id for the environment
+   * @param environmentId the environment id
+   * @param option        the type of logs to download
+   * @param date          the date of the logs to download
+   * @return future log file download url
+   */
+  @NotNull
+  CompletableFuture<String> getLogDownloadUrl(@NotNull String programId, @NotNull String environmentId, @NotNull LogOption option, @NotNull LocalDate date);
+
+  /**
+   * Get the region deployment.
+   *
+   * @param programId     the program id of the deployment
+   * @param environmentId the environment id of the deployment
+   * @param deploymentId  the id of the deployment
+   * @return future region deployment details
+   */
+  @NotNull
+  CompletableFuture<RegionDeployment> getRegionDeployment(@NotNull String programId, @NotNull String environmentId, @NotNull String deploymentId);
+
+  /**
+   * List the region deployments of the environment.
+   *
+   * @param programId     the program id context
+   * @param environmentId the environment id context
+   * @return future list of region deployments
+   */
+  @NotNull
+  CompletableFuture<Collection<RegionDeployment>> listRegionDeployments(@NotNull String programId, @NotNull String environmentId);
+
+  /**
+   * List all variables associated with the environment.
+   *
+   * @param programId     the program id of the environment
+   * @param environmentId the environment id
+   * @return future set of variables in the environment
+   */
+  @NotNull
+  CompletableFuture<Set<Variable>> getVariables(@NotNull String programId, @NotNull String environmentId);
+
+  /**
+   * Set the variables in the environment.
+   *
+   * @param programId     the program id of the environment
+   * @param environmentId the environment id
+   * @param variables     the variables to set
+   * @return future updated list of variables in the environment
+   */
+  @NotNull
+  CompletableFuture<Set<Variable>> setVariables(@NotNull String programId, @NotNull String environmentId, Variable... variables);
+
+  /**
+   * Reset the Rapid Development Environment. If the environment is not an RDE, result is undefined.
+   *
+   * @param programId     the program id of the environment
+   * @param environmentId the environment id
+   * @return future completed when the reset is accepted
+   */
+  @NotNull
+  CompletableFuture<Void> resetRde(@NotNull String programId, @NotNull String environmentId);
+}
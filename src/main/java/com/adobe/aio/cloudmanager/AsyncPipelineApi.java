@@ -0,0 +1,105 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Asynchronous Pipeline API, the non-blocking companion of {@link PipelineApi}.
+ * <p>
+ * Returned futures complete exceptionally with a {@link CloudManagerApiException} when any error occurs.
+ */
+public interface AsyncPipelineApi {
+
+  /**
+   * List all pipelines within the specified program.
+   *
+   * @param programId the program id
+   * @return future list of pipelines
+   */
+  @NotNull
+  CompletableFuture<Collection<Pipeline>> list(@NotNull String programId);
+
+  /**
+   * Get the pipeline within the specified program.
+   *
+   * @param programId  the program id
+   * @param pipelineId the pipeline id
+   * @return future {@link Pipeline}
+   */
+  @NotNull
+  CompletableFuture<Pipeline> get(@NotNull String programId, @NotNull String pipelineId);
+
+  /**
+   * Delete the pipeline.
+   *
+   * @param programId  the program context for the pipeline
+   * @param pipelineId the id of the pipeline to delete
+   * @return future completed when the pipeline is deleted
+   */
+  @NotNull
+  CompletableFuture<Void> delete(@NotNull String programId, @NotNull String pipelineId);
+
+  /**
+   * Change details about a pipeline.
+   *
+   * @param programId  the program id for pipeline context
+   * @param pipelineId the id of the pipeline to change
+   * @param updates    the updates to make to the pipeline
+   * @return future updated pipeline
+   */
+  @NotNull
+  CompletableFuture<Pipeline> update(@NotNull String programId, @NotNull String pipelineId, @NotNull PipelineUpdate updates);
+
+  /**
+   * Invalidate the build cache for the pipeline.
+   *
+   * @param programId  the program id for the pipeline context
+   * @param pipelineId the id of the pipeline
+   * @return future completed when the cache is invalidated
+   */
+  @NotNull
+  CompletableFuture<Void> invalidateCache(@NotNull String programId, @NotNull String pipelineId);
+
+  /**
+   * List the variables associated with a pipeline.
+   *
+   * @param programId  the program id of the pipeline
+   * @param pipelineId the pipeline id
+   * @return future set of variables in the pipeline
+   */
+  @NotNull
+  CompletableFuture<Set<Variable>> getVariables(@NotNull String programId, @NotNull String pipelineId);
+
+  /**
+   * Set the variables associated with a pipeline.
+   *
+   * @param programId  the program id of the pipeline
+   * @param pipelineId the pipeline id
+   * @param variables  the variables to set
+   * @return future updated set of variables in the pipeline
+   */
+  @NotNull
+  CompletableFuture<Set<Variable>> setVariables(@NotNull String programId, @NotNull String pipelineId, Variable... variables);
+}
@@ -0,0 +1,175 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Asynchronous Pipeline Execution API, the non-blocking companion of {@link PipelineExecutionApi}.
+ * <p>
+ * Returned futures complete exceptionally with a {@link CloudManagerApiException} when any error occurs.
+ */
+public interface AsyncPipelineExecutionApi {
+
+  /**
+   * Get the current execution of the specified pipeline, if one exists.
+   *
+   * @param programId  the program id context of the pipeline
+   * @param pipelineId the pipeline id of to find the execution
+   * @return future optional containing the execution details of the pipeline
+   */
+  @NotNull
+  CompletableFuture<Optional<PipelineExecution>> getCurrent(@NotNull String programId, @NotNull String pipelineId);
+
+  /**
+   * Start the specified pipeline.
+   * <p>
+   * Note: This API call may complete before the requested action takes effect. i.e. The Pipelines are <i>scheduled</i> to start once called. However, an immediate subsequent call to {@link #getCurrent(String, String)} may not return a result.
+   *
+   * @param programId  the program id context of the pipeline
+   * @param pipelineId the id of the pipeline
+   * @return future new execution
+   */
+  @NotNull
+  CompletableFuture<PipelineExecution> start(@NotNull String programId, @NotNull String pipelineId);
+
+  /**
+   * Get the specified execution of the pipeline.
+   *
+   * @param programId   the program id context of the pipeline
+   * @param pipelineId  the pipeline id
+   * @param executionId the id of the execution to retrieve
+   * @return future execution details
+   */
+  @NotNull
+  CompletableFuture<PipelineExecution> get(@NotNull String programId, @NotNull String pipelineId, @NotNull String executionId);
+
+  /**
+   * Get the specified action step for the pipeline execution.
+   *
+   * @param execution the execution context
+   * @param action    the step state action (see {@link StepAction})
+   * @return future step state details
+   */
+  @NotNull
+  CompletableFuture<PipelineExecutionStepState> getStepState(@NotNull PipelineExecution execution, @NotNull StepAction action);
+
+  /**
+   * Advance the execution of the specified pipeline execution, if in an appropriate state.
+   *
+   * @param programId   the program id context of the pipeline
+   * @param pipelineId  the id of the pipeline to cancel
+   * @param executionId the execution id to be advanced
+   * @return future completed when the execution is advanced
+   */
+  @NotNull
+  CompletableFuture<Void> advance(@NotNull String programId, @NotNull String pipelineId, @NotNull String executionId);
+
+  /**
+   * Cancel the execution of the specified pipeline execution, if in an appropriate state.
+   *
+   * @param programId   the program id context of the pipeline
+   * @param pipelineId  the id of the pipeline to cancel
+   * @param executionId the execution id to be canceled
+   * @return future completed when the execution is canceled
+   */
+  @NotNull
+  CompletableFuture<Void> cancel(@NotNull String programId, @NotNull String pipelineId, @NotNull String executionId);
+
+  /**
+   * Get the fully qualified URL to the specified step's log file.
+   *
+   * @param programId   the program id of the pipeline context
+   * @param pipelineId  the pipeline id for the execution context
+   * @param executionId the execution id
+   * @param action      the execution step action for the log
+   * @return future log file URL
+   */
+  @NotNull
+  CompletableFuture<String> getStepLogDownloadUrl(@NotNull String programId, @NotNull String pipelineId, @NotNull String executionId, @NotNull StepAction action);
+
+  /**
+   * Get the fully qualified URL to the specified step's log file.
+   *
+   * @param programId   the program id of the pipeline context
+   * @param pipelineId  the pipeline id for the execution context
+   * @param executionId the execution id
+   * @param action      the execution step action context
+   * @param name        custom log file name
+   * @return future log file URL
+   */
+  @NotNull
+  CompletableFuture<String> getStepLogDownloadUrl(@NotNull String programId, @NotNull String pipelineId, @NotNull String executionId, @NotNull StepAction action, @NotNull String name);
+
+  /**
+   * Get the metrics for the specified execution and step, if any.
+   *
+   * @param execution the execution context
+   * @param action    the action step context
+   * @return future metrics for the execution
+   */
+  @NotNull
+  CompletableFuture<Collection<Metric>> getQualityGateResults(@NotNull PipelineExecution execution, @NotNull StepAction action);
+
+  /**
+   * List executions of the specified pipeline, using the default limit and starting at 0.
+   *
+   * @param programId  the program id context of the pipeline
+   * @param pipelineId the pipeline id
+   * @return future list of executions
+   */
+  @NotNull
+  CompletableFuture<Collection<PipelineExecution>> list(@NotNull String programId, @NotNull String pipelineId);
+
+  /**
+   * List executions of the specified pipeline, using the specified limit and starting at the specified position.
+   *
+   * @param programId  the program id context of the pipeline
+   * @param pipelineId the pipeline id
+   * @param start      the starting position of the results
+   * @param limit      the number of executions to return
+   * @return future list of executions
+   */
+  @NotNull
+  CompletableFuture<Collection<PipelineExecution>> list(@NotNull String programId, @NotNull String pipelineId, int start, int limit);
+
+  /**
+   * List all artifacts associated with the specified step.
+   *
+   * @param step the pipeline execution step context
+   * @return future list of artifacts
+   */
+  @NotNull
+  CompletableFuture<Collection<Artifact>> listArtifacts(@NotNull PipelineExecutionStepState step);
+
+  /**
+   * Get the fully qualified URL to the artifact file.
+   *
+   * @param step       the pipeline execution step context
+   * @param artifactId the id of the artifact
+   * @return future artifact file download url
+   */
+  @NotNull
+  CompletableFuture<String> getArtifactDownloadUrl(@NotNull PipelineExecutionStepState step, @NotNull String artifactId);
+}
@@ -0,0 +1,69 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Asynchronous Program API, the non-blocking companion of {@link ProgramApi}.
+ * <p>
+ * Returned futures complete exceptionally with a {@link CloudManagerApiException} when any error occurs.
+ */
+public interface AsyncProgramApi {
+
+  /**
+   * Get the program with the specified id.
+   *
+   * @param programId the id of the program
+   * @return future program
+   */
+  @NotNull
+  CompletableFuture<Program> get(@NotNull String programId);
+
+  /**
+   * Delete the program.
+   *
+   * @param programId the id of the program to delete.
+   * @return future completed when the request is accepted
+   */
+  @NotNull
+  CompletableFuture<Void> delete(@NotNull String programId);
+
+  /**
+   * List all programs for the specified tenant.
+   *
+   * @param tenantId the id tenant
+   * @return future list of {@link Program}s
+   */
+  @NotNull
+  CompletableFuture<Collection<Program>> list(@NotNull String tenantId);
+
+  /**
+   * List all regions which can be used to create environments for the specified program.
+   *
+   * @param programId the id of the program
+   * @return future list of regions
+   */
+  @NotNull
+  CompletableFuture<Collection<Region>> listRegions(@NotNull String programId);
+}
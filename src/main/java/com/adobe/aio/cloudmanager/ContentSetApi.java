@@ -21,8 +21,11 @@ package com.adobe.aio.cloudmanager;
  */
 
 import java.util.Collection;
+import java.util.stream.Stream;
 import jakarta.validation.constraints.NotNull;
 
+import com.adobe.aio.cloudmanager.exception.UncheckedCloudManagerApiException;
+
 import static com.adobe.aio.cloudmanager.ContentSet.*;
 
 /**
@@ -65,6 +68,31 @@ public interface ContentSetApi {
   @NotNull
   Collection<ContentSet> list(@NotNull String programId, int start, int limit) throws CloudManagerApiException;
 
+  /**
+   * Lazily stream all content sets within the specified program, fetching pages of the default size on demand.
+   * <p>
+   * Once half of a page has been consumed, the next page is prefetched on the executor provided to the {@link ApiBuilder}, if any. No further pages are requested once the stream short-circuits, e.g. on {@code findFirst()}.
+   * Errors are thrown by the stream's terminal operation as an {@link UncheckedCloudManagerApiException}.
+   *
+   * @param programId the id of the program context
+   * @return stream of content sets
+   */
+  @NotNull
+  Stream<ContentSet> stream(@NotNull String programId);
+
+  /**
+   * Lazily stream all content sets within the specified program, fetching pages of the specified size on demand.
+   * <p>
+   * Once half of a page has been consumed, the next page is prefetched on the executor provided to the {@link ApiBuilder}, if any. No further pages are requested once the stream short-circuits, e.g. on {@code findFirst()}.
+   * Errors are thrown by the stream's terminal operation as an {@link UncheckedCloudManagerApiException}.
+   *
+   * @param programId the id of the program context
+   * @param pageSize  the number of content sets to request per page
+   * @return stream of content sets
+   */
+  @NotNull
+  Stream<ContentSet> stream(@NotNull String programId, int pageSize);
+
   /**
    * Create a new ContentSet in the specified program.
    *
@@ -145,6 +173,31 @@ public interface ContentSetApi {
   @NotNull
   Collection<ContentFlow> listFlows(@NotNull String programId, int start, int limit) throws CloudManagerApiException;
 
+  /**
+   * Lazily stream all content flows within the specified program, fetching pages of the default size on demand.
+   * <p>
+   * Once half of a page has been consumed, the next page is prefetched on the executor provided to the {@link ApiBuilder}, if any. No further pages are requested once the stream short-circuits, e.g. on {@code findFirst()}.
+   * Errors are thrown by the stream's terminal operation as an {@link UncheckedCloudManagerApiException}.
+   *
+   * @param programId the id of the program context
+   * @return stream of content flows
+   */
+  @NotNull
+  Stream<ContentFlow> streamFlows(@NotNull String programId);
+
+  /**
+   * Lazily stream all content flows within the specified program, fetching pages of the specified size on demand.
+   * <p>
+   * Once half of a page has been consumed, the next page is prefetched on the executor provided to the {@link ApiBuilder}, if any. No further pages are requested once the stream short-circuits, e.g. on {@code findFirst()}.
+   * Errors are thrown by the stream's terminal operation as an {@link UncheckedCloudManagerApiException}.
+   *
+   * @param programId the id of the program context
+   * @param pageSize  the number of content flows to request per page
+   * @return stream of content flows
+   */
+  @NotNull
+  Stream<ContentFlow> streamFlows(@NotNull String programId, int pageSize);
+
   /**
    * Start a content flow between the specified environments, using the specified content set.
    *
@@ -21,14 +21,18 @@ package com.adobe.aio.cloudmanager;
  */
 
 import java.io.File;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 import jakarta.validation.constraints.NotNull;
 
 import com.adobe.aio.cloudmanager.exception.DeleteInProgressException;
+import com.adobe.aio.cloudmanager.exception.UncheckedCloudManagerApiException;
 
 /**
  * Environment API
@@ -61,6 +65,16 @@ public interface EnvironmentApi {
   @NotNull
   Collection<Environment> list(@NotNull String programId, Environment.Type type) throws CloudManagerApiException;
 
+  /**
+   * List summaries of all environments in the program. Cheaper than {@link #list(String)} when only the summary properties are needed.
+   *
+   * @param programId the program id
+   * @return list of environment summaries
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Collection<EnvironmentSummary> listSummaries(@NotNull String programId) throws CloudManagerApiException;
+
   /**
    * Create a new environment in the program.
    *
@@ -266,6 +280,19 @@ public interface EnvironmentApi {
   @NotNull
   Set<Variable> setVariables(@NotNull Environment environment, Variable... variables) throws CloudManagerApiException;
 
+  /**
+   * Make the variables of each environment match the desired variables, sending only what differs.
+   * <p>
+   * Variables are matched by name and tier. Current variables which are not desired are deleted. Secret values cannot be retrieved, so desired secrets are always sent.
+   * Environments are synchronized concurrently on the executor provided to the {@link ApiBuilder}, or sequentially on the calling thread if none was provided.
+   *
+   * @param desired the complete set of variables wanted in each environment
+   * @return the changes sent to each environment, empty if it was already in sync; deletions have no value
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Map<Environment, Set<Variable>> syncVariables(@NotNull Map<Environment, ? extends Collection<Variable>> desired) throws CloudManagerApiException;
+
   /**
    * Reset the Rapid Development Environment. If the environment is not an RDE, result is undefined.
    *
@@ -297,6 +324,62 @@ public interface EnvironmentApi {
    */
   Optional<Environment> get(@NotNull String programId, @NotNull Predicate<Environment> predicate) throws CloudManagerApiException;
 
+  /**
+   * Reads the log for the environment and date directly from its download url, without saving it. Only matching lines are returned, and compressed logs are decompressed as they are read.
+   * <p>
+   * The returned stream must be closed to release the connection. Failures while reading are thrown as {@link UncheckedCloudManagerApiException}s.
+   *
+   * @param programId     the program id for the environment
+   * @param environmentId the environment id
+   * @param option        the type of logs to read
+   * @param date          the date of the logs to read
+   * @param filter        the filter to apply to the lines
+   * @return the matching log lines
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Stream<String> streamLogs(@NotNull String programId, @NotNull String environmentId, @NotNull LogOption option, @NotNull LocalDate date, @NotNull LogFilter filter) throws CloudManagerApiException;
+
+  /**
+   * Reads the log for the environment and date directly from its download url, without saving it. Only matching lines are returned, and compressed logs are decompressed as they are read.
+   * <p>
+   * The returned stream must be closed to release the connection. Failures while reading are thrown as {@link UncheckedCloudManagerApiException}s.
+   *
+   * @param environment the environment
+   * @param option      the type of logs to read
+   * @param date        the date of the logs to read
+   * @param filter      the filter to apply to the lines
+   * @return the matching log lines
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Stream<String> streamLogs(@NotNull Environment environment, @NotNull LogOption option, @NotNull LocalDate date, @NotNull LogFilter filter) throws CloudManagerApiException;
+
+  /**
+   * Follow the current log for the environment, publishing the new lines which match the filter.
+   *
+   * @param programId     the program id context for the environment
+   * @param environmentId the environment id
+   * @param option        the log file reference
+   * @param interval      how often to poll the log for new content
+   * @param filter        the filter to apply to the new lines
+   * @return the tail of the log, to be closed when no longer used
+   */
+  @NotNull
+  LogTail tail(@NotNull String programId, @NotNull String environmentId, @NotNull LogOption option, @NotNull Duration interval, @NotNull LogFilter filter);
+
+  /**
+   * Follow the current log for the environment, publishing the new lines which match the filter.
+   *
+   * @param environment the environment context
+   * @param option      the log file reference
+   * @param interval    how often to poll the log for new content
+   * @param filter      the filter to apply to the new lines
+   * @return the tail of the log, to be closed when no longer used
+   */
+  @NotNull
+  LogTail tail(@NotNull Environment environment, @NotNull LogOption option, @NotNull Duration interval, @NotNull LogFilter filter);
+
   /**
    * Downloads the logs for the environment, to the specified folder.
    *
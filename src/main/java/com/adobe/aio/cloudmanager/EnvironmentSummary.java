@@ -0,0 +1,62 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Lightweight view of an environment, for listing at scale. Only these properties are decoded from the response.
+ */
+public interface EnvironmentSummary {
+
+  /**
+   * Identifier of the environment.
+   *
+   * @return the id
+   */
+  String getId();
+
+  /**
+   * Identifier of the program of the environment.
+   *
+   * @return the program id
+   */
+  String getProgramId();
+
+  /**
+   * Name of the environment.
+   *
+   * @return the name
+   */
+  String getName();
+
+  /**
+   * Type of the environment.
+   *
+   * @return the type
+   */
+  Environment.Type getEnvType();
+
+  /**
+   * Region of the environment.
+   *
+   * @return the region
+   */
+  String getRegion();
+}
@@ -0,0 +1,146 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Receives batches of webhook deliveries, handing each verified, parsed event to a bounded queue exactly once.
+ * <p>
+ * Signatures in a batch are verified concurrently when the API is built with an {@link ApiBuilder#executor(java.util.concurrent.ExecutorService) executor}. Events are de-duplicated by id
+ * for the de-duplication window, so redeliveries are acknowledged without being queued again. When the queue is full, {@link #ingest(Collection)} waits for space rather than dropping events.
+ * <p>
+ * Closing the ingestor rejects further deliveries; events already queued may still be taken.
+ */
+public interface EventIngestor extends AutoCloseable {
+
+  /**
+   * Verify, parse and queue the deliveries, in order. Nothing is queued if any signature cannot be verified due to an error, so the whole batch can be delivered again.
+   * If the wait for the queue is interrupted, the events queued so far are recorded, so the whole batch can be delivered again too.
+   *
+   * @param deliveries the deliveries received
+   * @return the outcome of each delivery, in the same order
+   * @throws CloudManagerApiException when a signature cannot be verified, or the wait for the queue is interrupted
+   */
+  @NotNull
+  List<Outcome> ingest(@NotNull Collection<Delivery> deliveries) throws CloudManagerApiException;
+
+  /**
+   * Take the next event, waiting if none is queued.
+   *
+   * @return the event
+   * @throws InterruptedException if interrupted while waiting
+   */
+  @NotNull
+  PipelineExecutionEvent take() throws InterruptedException;
+
+  /**
+   * Take the next event, waiting up to the timeout if none is queued.
+   *
+   * @param timeout how long to wait
+   * @return the event, or empty if none was queued in time
+   * @throws InterruptedException if interrupted while waiting
+   */
+  @NotNull
+  Optional<PipelineExecutionEvent> poll(@NotNull Duration timeout) throws InterruptedException;
+
+  /**
+   * Take up to the maximum number of queued events, without waiting.
+   *
+   * @param max the maximum number of events
+   * @return the events, empty if none are queued
+   */
+  @NotNull
+  List<PipelineExecutionEvent> drain(int max);
+
+  /**
+   * The number of events waiting in the queue.
+   *
+   * @return the queued events
+   */
+  int size();
+
+  /**
+   * Stop accepting deliveries.
+   */
+  @Override
+  void close();
+
+  /**
+   * What became of a delivery.
+   */
+  enum Outcome {
+    /**
+     * The event was queued.
+     */
+    QUEUED,
+    /**
+     * The event was already received within the de-duplication window, and was not queued again.
+     */
+    DUPLICATE,
+    /**
+     * The delivery did not pass signature validation.
+     */
+    REJECTED,
+    /**
+     * The delivery was signed, but is not a known Pipeline Execution event.
+     */
+    INVALID
+  }
+
+  /**
+   * A single webhook delivery: the raw body and the request headers sent with it.
+   */
+  interface Delivery {
+
+    @NotNull
+    String getBody();
+
+    @NotNull
+    Map<String, String> getHeaders();
+
+    /**
+     * Create a delivery.
+     *
+     * @param body    the request body
+     * @param headers the request headers
+     * @return the delivery
+     */
+    static Delivery of(@NotNull String body, @NotNull Map<String, String> headers) {
+      return new Delivery() {
+        @Override
+        public String getBody() {
+          return body;
+        }
+
+        @Override
+        public Map<String, String> getHeaders() {
+          return headers;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Tracks running Pipeline Executions from their published events, rather than repeatedly retrieving them.
+ * <p>
+ * Events received via webhook or the journal are passed to {@link #accept(PipelineExecutionEvent)}; the execution is only retrieved once its end event arrives, to determine its final status.
+ * If no events are received for an execution within the polling interval, it is retrieved instead, backing off while its state is unchanged.
+ * <p>
+ * Closing the tracker stops all polling and cancels the pending results.
+ */
+public interface ExecutionTracker extends AutoCloseable {
+
+  /**
+   * Start tracking the execution. Tracking an execution which is already tracked returns the existing result.
+   *
+   * @param execution the execution to track
+   * @return a future completed with the execution once it reaches a terminal status, or exceptionally if it can no longer be retrieved
+   */
+  @NotNull
+  CompletableFuture<PipelineExecution> track(@NotNull PipelineExecution execution);
+
+  /**
+   * Start tracking the execution, notifying the listener of its progress.
+   *
+   * @param execution the execution to track
+   * @param listener  the listener to notify
+   * @return a future completed with the execution once it reaches a terminal status, or exceptionally if it can no longer be retrieved
+   */
+  @NotNull
+  CompletableFuture<PipelineExecution> track(@NotNull PipelineExecution execution, @NotNull Listener listener);
+
+  /**
+   * Update the tracked state from the event. Events for executions which are not tracked are ignored.
+   *
+   * @param event the event received
+   */
+  void accept(@NotNull PipelineExecutionEvent event);
+
+  /**
+   * The last known status of the execution.
+   *
+   * @param executionId the id of the execution
+   * @return the status, or empty if the execution is not tracked
+   */
+  @NotNull
+  Optional<PipelineExecution.Status> getStatus(@NotNull String executionId);
+
+  /**
+   * Stop tracking all executions.
+   */
+  @Override
+  void close();
+
+  /**
+   * Receives the progress of a tracked execution. Callbacks are made on the thread delivering the event, or the polling thread.
+   * Exceptions thrown by a listener are ignored; they do not affect tracking or the other listeners.
+   */
+  interface Listener {
+
+    /**
+     * Called for each event received for the execution.
+     *
+     * @param event the event
+     */
+    default void onEvent(@NotNull PipelineExecutionEvent event) {
+    }
+
+    /**
+     * Called when the execution is retrieved, either by polling or after its end event.
+     *
+     * @param execution the execution
+     */
+    default void onUpdate(@NotNull PipelineExecution execution) {
+    }
+  }
+}
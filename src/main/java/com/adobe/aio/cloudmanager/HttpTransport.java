@@ -0,0 +1,231 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.File;
+import java.time.Duration;
+import jakarta.validation.constraints.NotNull;
+
+import com.adobe.aio.cloudmanager.impl.HttpTransportImpl;
+
+/**
+ * HTTP transport shared by API instances: a single connection pool, dispatcher and TLS session cache.
+ * <p>
+ * Pass the same instance to every {@link ApiBuilder} to reuse connections across APIs. APIs built without an explicit transport share a default instance.
+ */
+public interface HttpTransport {
+
+  /**
+   * The maximum number of idle connections kept in the pool.
+   *
+   * @return max idle connections
+   */
+  int getMaxIdleConnections();
+
+  /**
+   * How long an idle connection is kept in the pool before being evicted.
+   *
+   * @return the keep-alive duration
+   */
+  Duration getKeepAlive();
+
+  /**
+   * Whether HTTP/2 is negotiated when the server supports it, allowing requests to be multiplexed over a single connection.
+   *
+   * @return true if HTTP/2 is enabled
+   */
+  boolean isHttp2();
+
+  /**
+   * The connection timeout.
+   *
+   * @return the connect timeout
+   */
+  Duration getConnectTimeout();
+
+  /**
+   * The read timeout.
+   *
+   * @return the read timeout
+   */
+  Duration getReadTimeout();
+
+  /**
+   * The maximum number of concurrent asynchronous requests.
+   *
+   * @return the max requests
+   */
+  int getMaxRequests();
+
+  /**
+   * The maximum number of concurrent asynchronous requests to a single host.
+   *
+   * @return the max requests per host
+   */
+  int getMaxRequestsPerHost();
+
+  /**
+   * The maximum size, in bytes, of the in-memory response cache. Zero when responses are not cached in memory.
+   * <p>
+   * Only Cloud Manager API GET responses with an {@code ETag} or {@code Last-Modified} header are cached; they are always revalidated with the server before being reused.
+   * Log and artifact downloads are not cached.
+   *
+   * @return the in-memory cache size
+   */
+  long getCacheSize();
+
+  /**
+   * The directory of the on-disk response cache, if any.
+   *
+   * @return the cache directory, or null if responses are not cached on disk
+   */
+  File getCacheDirectory();
+
+  /**
+   * The maximum size, in bytes, of the on-disk response cache.
+   *
+   * @return the on-disk cache size
+   */
+  long getCacheDirectorySize();
+
+  /**
+   * The maximum sustained number of requests per second for each workspace, zero when requests are not rate limited.
+   * <p>
+   * When rate limited, requests over the limit wait rather than being sent, and throttled requests are sent again after the {@code Retry-After} period, with the
+   * rate reduced until requests succeed again: all requests after a {@code 429} response, and requests which cannot act twice, such as reads and variable updates,
+   * after a {@code 503} response, including system maintenance. Throttled requests are then not retried again by a {@link RetryPolicy}.
+   *
+   * @return the rate limit
+   */
+  double getRateLimit();
+
+  /**
+   * The number of requests which may be sent at once, before the rate limit applies.
+   *
+   * @return the burst size
+   */
+  int getRateLimitBurst();
+
+  /**
+   * How long a rate limited request may be deferred after being throttled before the throttled response is returned.
+   *
+   * @return the maximum throttle wait
+   */
+  Duration getMaxThrottleWait();
+
+  /**
+   * Builder to create new instances of a HttpTransport.
+   *
+   * @return a HttpTransport builder
+   */
+  static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Builds new instances of HttpTransports.
+   */
+  class Builder {
+    private final HttpTransportImpl.Settings settings;
+
+    private Builder() {
+      settings = new HttpTransportImpl.Settings();
+    }
+
+    public Builder maxIdleConnections(int maxIdleConnections) {
+      settings.setMaxIdleConnections(maxIdleConnections);
+      return this;
+    }
+
+    public Builder keepAlive(@NotNull Duration keepAlive) {
+      settings.setKeepAlive(keepAlive);
+      return this;
+    }
+
+    public Builder http2(boolean http2) {
+      settings.setHttp2(http2);
+      return this;
+    }
+
+    public Builder connectTimeout(@NotNull Duration connectTimeout) {
+      settings.setConnectTimeout(connectTimeout);
+      return this;
+    }
+
+    public Builder readTimeout(@NotNull Duration readTimeout) {
+      settings.setReadTimeout(readTimeout);
+      return this;
+    }
+
+    public Builder maxRequests(int maxRequests) {
+      settings.setMaxRequests(maxRequests);
+      return this;
+    }
+
+    public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+      settings.setMaxRequestsPerHost(maxRequestsPerHost);
+      return this;
+    }
+
+    public Builder cacheSize(long cacheSize) {
+      settings.setCacheSize(cacheSize);
+      return this;
+    }
+
+    public Builder cacheDirectory(@NotNull File cacheDirectory, long cacheDirectorySize) {
+      settings.setCacheDirectory(cacheDirectory);
+      settings.setCacheDirectorySize(cacheDirectorySize);
+      return this;
+    }
+
+    public Builder rateLimit(double requestsPerSecond, int burst) {
+      settings.setRateLimit(requestsPerSecond);
+      settings.setRateLimitBurst(burst);
+      return this;
+    }
+
+    public Builder maxThrottleWait(@NotNull Duration maxThrottleWait) {
+      settings.setMaxThrottleWait(maxThrottleWait);
+      return this;
+    }
+
+    /**
+     * Create a new HttpTransport instance.
+     *
+     * @return the HttpTransport
+     */
+    public HttpTransport build() {
+      if (settings.getMaxIdleConnections() < 0) {
+        throw new IllegalStateException("Max idle connections cannot be negative.");
+      }
+      if (settings.getMaxRequests() < 1 || settings.getMaxRequestsPerHost() < 1) {
+        throw new IllegalStateException("Max requests and max requests per host must be positive.");
+      }
+      if (settings.getCacheSize() < 0 || settings.getCacheDirectorySize() < 0) {
+        throw new IllegalStateException("Cache sizes cannot be negative.");
+      }
+      if (settings.getRateLimit() < 0 || (settings.getRateLimit() > 0 && settings.getRateLimitBurst() < 1) || settings.getMaxThrottleWait().isNegative()) {
+        throw new IllegalStateException("Rate limit, burst and max throttle wait must be positive.");
+      }
+      return new HttpTransportImpl(settings);
+    }
+  }
+}
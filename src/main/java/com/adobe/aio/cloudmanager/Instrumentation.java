@@ -0,0 +1,76 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Instrumentation of the HTTP requests made by the APIs: each request is started and ended exactly once, including each retry of a request.
+ * <p>
+ * Implementations record timings, counters or trace spans, for example by opening a span when a call starts and closing it when the call ends.
+ * {@link InstrumentationRegistry} is a ready-made in-memory implementation. Set the instrumentation with {@link ApiBuilder#instrumentation(Instrumentation)}.
+ * <p>
+ * Calls may start and end on different threads, and concurrently with other calls.
+ */
+public interface Instrumentation {
+
+  /**
+   * A request is about to be sent.
+   *
+   * @param api    the API making the request, e.g. {@code ProgramApi}
+   * @param method the API client method, e.g. {@code get}
+   * @return the call, to be ended once the request completes
+   */
+  @NotNull
+  Call start(@NotNull String api, @NotNull String method);
+
+  /**
+   * A failed request is about to be sent again under the {@link RetryPolicy}. The retry is started as a call of its own.
+   *
+   * @param api    the API making the request
+   * @param method the API client method
+   */
+  default void retried(@NotNull String api, @NotNull String method) {
+  }
+
+  /**
+   * A failed request is not retried further, as the {@link RetryPolicy} reached its maximum attempts or time budget.
+   *
+   * @param api    the API making the request
+   * @param method the API client method
+   */
+  default void exhausted(@NotNull String api, @NotNull String method) {
+  }
+
+  /**
+   * An instrumented request.
+   */
+  interface Call {
+
+    /**
+     * The request completed.
+     *
+     * @param status the HTTP status of the response, or 0 if no response was received
+     * @param error  the error which prevented a response, or null
+     */
+    void end(int status, Throwable error);
+  }
+}
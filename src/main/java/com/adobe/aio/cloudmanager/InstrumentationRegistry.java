@@ -0,0 +1,115 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.Collection;
+import jakarta.validation.constraints.NotNull;
+
+import com.adobe.aio.cloudmanager.impl.InstrumentationRegistryImpl;
+
+/**
+ * In-memory {@link Instrumentation}: times and counts requests by API, method and HTTP status, and tracks the requests in flight, retries and exhausted retries by API and method.
+ */
+public interface InstrumentationRegistry extends Instrumentation {
+
+  /**
+   * Create a new, empty registry.
+   *
+   * @return the registry
+   */
+  static InstrumentationRegistry create() {
+    return new InstrumentationRegistryImpl();
+  }
+
+  /**
+   * The timers recorded so far, one per API, method and status.
+   *
+   * @return the timers
+   */
+  @NotNull
+  Collection<Timer> getTimers();
+
+  /**
+   * The number of requests currently in flight.
+   *
+   * @param api    the API name
+   * @param method the API client method
+   * @return the in-flight count
+   */
+  long getInFlight(@NotNull String api, @NotNull String method);
+
+  /**
+   * The number of retries made.
+   *
+   * @param api    the API name
+   * @param method the API client method
+   * @return the retry count
+   */
+  long getRetries(@NotNull String api, @NotNull String method);
+
+  /**
+   * The number of requests which failed once their retry policy was exhausted.
+   *
+   * @param api    the API name
+   * @param method the API client method
+   * @return the exhausted count
+   */
+  long getExhausted(@NotNull String api, @NotNull String method);
+
+  /**
+   * The recorded values in the Prometheus text exposition format, to be served to a scraper.
+   *
+   * @return the formatted values
+   */
+  @NotNull
+  String scrape();
+
+  /**
+   * Timings of the requests of one API method which completed with one status.
+   */
+  interface Timer {
+
+    String getApi();
+
+    String getMethod();
+
+    /**
+     * The HTTP status of the responses, or 0 for requests which failed without a response.
+     *
+     * @return the status
+     */
+    int getStatus();
+
+    long getCount();
+
+    /**
+     * The number of these requests which failed: those without a response, or with an error status.
+     *
+     * @return the error count
+     */
+    long getErrorCount();
+
+    Duration getTotalTime();
+
+    Duration getMaxTime();
+  }
+}
@@ -0,0 +1,127 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import jakarta.validation.constraints.NotNull;
+
+import com.adobe.aio.cloudmanager.impl.environment.LogFilterImpl;
+
+/**
+ * Filter applied to log lines as they are read, see {@link EnvironmentApi#streamLogs(String, String, LogOption, java.time.LocalDate, LogFilter)}.
+ * <p>
+ * The time range and levels apply to log entries: a line without a timestamp, such as a stack trace, belongs to the entry above it. The pattern applies to each line.
+ * Timestamps are recognized in the AEM error log format ({@code 08.09.2019 10:00:00.123}) and the access log format ({@code 08/Sep/2019:10:00:00 +0000}), and compared in UTC.
+ * Levels are recognized in the AEM error log format ({@code *ERROR*}).
+ */
+public interface LogFilter {
+
+  /**
+   * Entries logged before this time are excluded.
+   *
+   * @return the start of the time range, or null if unbounded
+   */
+  LocalDateTime getFrom();
+
+  /**
+   * Entries logged after this time are excluded. As logs are written in time order, reading stops at the first entry after it.
+   *
+   * @return the end of the time range, or null if unbounded
+   */
+  LocalDateTime getTo();
+
+  /**
+   * Only entries logged at one of these levels are included.
+   *
+   * @return the levels, empty if any level is included
+   */
+  @NotNull
+  Set<String> getLevels();
+
+  /**
+   * Only lines containing a match for this pattern are included.
+   *
+   * @return the pattern, or null if any line is included
+   */
+  Pattern getPattern();
+
+  /**
+   * Builder to create new instances of a LogFilter
+   *
+   * @return a LogFilter builder
+   */
+  static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Builds new instances of LogFilters.
+   */
+  class Builder {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Set<String> levels = Set.of();
+    private Pattern pattern;
+
+    private Builder() {
+    }
+
+    public Builder from(@NotNull LocalDateTime from) {
+      this.from = from;
+      return this;
+    }
+
+    public Builder to(@NotNull LocalDateTime to) {
+      this.to = to;
+      return this;
+    }
+
+    public Builder levels(@NotNull String... levels) {
+      this.levels = Arrays.stream(levels).map(String::toUpperCase).collect(Collectors.toUnmodifiableSet());
+      return this;
+    }
+
+    public Builder pattern(@NotNull Pattern pattern) {
+      this.pattern = pattern;
+      return this;
+    }
+
+    public Builder pattern(@NotNull String regex) {
+      return pattern(Pattern.compile(regex));
+    }
+
+    /**
+     * Create a new LogFilter instance.
+     *
+     * @return the LogFilter
+     */
+    public LogFilter build() {
+      if (from != null && to != null && to.isBefore(from)) {
+        throw new IllegalStateException("Log filter must not end before it starts.");
+      }
+      return new LogFilterImpl(from, to, levels, pattern);
+    }
+  }
+}
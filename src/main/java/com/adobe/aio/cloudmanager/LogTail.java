@@ -0,0 +1,52 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Follows an environment log as it is written, publishing each new line which matches the filter.
+ * <p>
+ * The log is polled for content appended since the previous poll, using range requests, so each byte is only transferred once. Lines already in the log when the tail starts are not published.
+ * When the day changes, the remainder of the previous day's log is published before moving on to the new one.
+ * <p>
+ * Closing the tail stops polling and completes the subscriptions. The tail is completed exceptionally when the log repeatedly cannot be retrieved.
+ */
+public interface LogTail extends Flow.Publisher<String>, AutoCloseable {
+
+  /**
+   * Pass each published line to the consumer.
+   *
+   * @param consumer the consumer of lines
+   * @return a future completed when the tail is closed, or exceptionally when it fails
+   */
+  @NotNull
+  CompletableFuture<Void> consume(@NotNull Consumer<? super String> consumer);
+
+  /**
+   * Stop following the log.
+   */
+  @Override
+  void close();
+}
@@ -21,6 +21,7 @@ package com.adobe.aio.cloudmanager;
  */
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import jakarta.validation.constraints.NotNull;
@@ -53,6 +54,16 @@ public interface PipelineApi {
   @NotNull
   Collection<Pipeline> list(@NotNull Program program) throws CloudManagerApiException;
 
+  /**
+   * List summaries of all pipelines within the specified program. Cheaper than {@link #list(String)} when only the summary properties are needed.
+   *
+   * @param programId the program id
+   * @return the list of pipeline summaries
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Collection<PipelineSummary> listSummaries(@NotNull String programId) throws CloudManagerApiException;
+
   /**
    * Get the pipeline within the specified program.
    *
@@ -165,6 +176,19 @@ public interface PipelineApi {
   @NotNull
   Set<Variable> setVariables(@NotNull Pipeline pipeline, Variable... variables) throws CloudManagerApiException;
 
+  /**
+   * Make the variables of each pipeline match the desired variables, sending only what differs.
+   * <p>
+   * Variables are matched by name. Current variables which are not desired are deleted. Secret values cannot be retrieved, so desired secrets are always sent.
+   * Pipelines are synchronized concurrently on the executor provided to the {@link ApiBuilder}, or sequentially on the calling thread if none was provided.
+   *
+   * @param desired the complete set of variables wanted in each pipeline
+   * @return the changes sent to each pipeline, empty if it was already in sync; deletions have no value
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Map<Pipeline, Set<Variable>> syncVariables(@NotNull Map<Pipeline, ? extends Collection<Variable>> desired) throws CloudManagerApiException;
+
   /**
    * List all pipelines in the program that meet the predicate clause.
    *
@@ -175,4 +199,28 @@ public interface PipelineApi {
    */
   @NotNull
   Collection<Pipeline> list(@NotNull String programId, @NotNull Predicate<Pipeline> predicate) throws CloudManagerApiException;
+
+  /**
+   * List all pipelines of every program in the tenant.
+   * <p>
+   * Programs are listed concurrently on the executor provided to the {@link ApiBuilder}, or sequentially on the calling thread if none was provided.
+   *
+   * @param tenantId the tenant id
+   * @return the pipelines of each program, keyed by program id
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Map<String, Collection<Pipeline>> listByTenant(@NotNull String tenantId) throws CloudManagerApiException;
+
+  /**
+   * List all pipelines of every program in the tenant.
+   * <p>
+   * Programs are listed concurrently on the executor provided to the {@link ApiBuilder}, or sequentially on the calling thread if none was provided.
+   *
+   * @param tenant the tenant
+   * @return the pipelines of each program, keyed by program id
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Map<String, Collection<Pipeline>> listByTenant(@NotNull Tenant tenant) throws CloudManagerApiException;
 }
@@ -20,12 +20,17 @@ package com.adobe.aio.cloudmanager;
  * #L%
  */
 
+import java.io.File;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import jakarta.validation.constraints.NotNull;
 
 import com.adobe.aio.cloudmanager.exception.PipelineRunningException;
+import com.adobe.aio.cloudmanager.exception.UncheckedCloudManagerApiException;
 
 /**
  * Pipeline Execution API
@@ -280,6 +285,61 @@ public interface PipelineExecutionApi {
   @NotNull
   Collection<PipelineExecution> list(@NotNull Pipeline pipeline, int start, int limit) throws CloudManagerApiException;
 
+  /**
+   * List summaries of executions of the specified pipeline, using the specified limit and starting at the specified position.
+   * Cheaper than {@link #list(String, String, int, int)} when only the summary properties are needed.
+   *
+   * @param programId  the program id context of the pipeline
+   * @param pipelineId the pipeline id
+   * @param start      the starting position of the results
+   * @param limit      the number of executions to return
+   * @return list of execution summaries
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Collection<PipelineExecutionSummary> listSummaries(@NotNull String programId, @NotNull String pipelineId, int start, int limit) throws CloudManagerApiException;
+
+  /**
+   * Lazily stream all executions of the specified pipeline, fetching pages of the default size on demand.
+   * <p>
+   * Once half of a page has been consumed, the next page is prefetched on the executor provided to the {@link ApiBuilder}, if any. No further pages are requested once the stream short-circuits, e.g. on {@code findFirst()}.
+   * Errors are thrown by the stream's terminal operation as an {@link UncheckedCloudManagerApiException}.
+   *
+   * @param programId  the program id context of the pipeline
+   * @param pipelineId the pipeline id
+   * @return stream of executions
+   */
+  @NotNull
+  Stream<PipelineExecution> stream(@NotNull String programId, @NotNull String pipelineId);
+
+  /**
+   * Lazily stream all executions of the specified pipeline, fetching pages of the specified size on demand.
+   * <p>
+   * Once half of a page has been consumed, the next page is prefetched on the executor provided to the {@link ApiBuilder}, if any. No further pages are requested once the stream short-circuits, e.g. on {@code findFirst()}.
+   * Errors are thrown by the stream's terminal operation as an {@link UncheckedCloudManagerApiException}.
+   *
+   * @param programId  the program id context of the pipeline
+   * @param pipelineId the pipeline id
+   * @param pageSize   the number of executions to request per page
+   * @return stream of executions
+   */
+  @NotNull
+  Stream<PipelineExecution> stream(@NotNull String programId, @NotNull String pipelineId, int pageSize);
+
+  /**
+   * Visit executions of the specified pipeline, using the specified limit and starting at the specified position.
+   * <p>
+   * Each execution is decoded and passed to the action as it is read from the response, so large histories are never held in memory at once.
+   *
+   * @param programId  the program id context of the pipeline
+   * @param pipelineId the pipeline id
+   * @param start      the starting position of the results
+   * @param limit      the number of executions to visit
+   * @param action     the action to perform on each execution
+   * @throws CloudManagerApiException when any error occurs
+   */
+  void forEach(@NotNull String programId, @NotNull String pipelineId, int start, int limit, @NotNull Consumer<PipelineExecution> action) throws CloudManagerApiException;
+
   /**
    * List all artifacts associated with the specified step.
    *
@@ -301,6 +361,18 @@ public interface PipelineExecutionApi {
   @NotNull
   String getArtifactDownloadUrl(@NotNull PipelineExecutionStepState step, String artifactId) throws CloudManagerApiException;
 
+  /**
+   * Archive the logs of all steps, and the artifacts of the build steps, of the execution.
+   * <p>
+   * If the target's name ends with {@code .zip}, a zip file is written; otherwise the files are written to the target directory. Either way a {@code manifest.json}
+   * lists each file with the step it belongs to. Files are retrieved concurrently when the API is built with an {@link ApiBuilder#executor(java.util.concurrent.ExecutorService) executor}.
+   *
+   * @param execution the execution to archive
+   * @param target    the zip file or directory to write
+   * @throws CloudManagerApiException when any error occurs
+   */
+  void archive(@NotNull PipelineExecution execution, @NotNull File target) throws CloudManagerApiException;
+
 
   // Event handling
 
@@ -324,4 +396,40 @@ public interface PipelineExecutionApi {
    */
   @NotNull
   PipelineExecutionEvent parseEvent(@NotNull String eventBody, @NotNull Map<String, String> requestHeader) throws CloudManagerApiException;
+
+  /**
+   * Create an ingestor for webhook deliveries, queueing up to 1000 events and de-duplicating them for an hour.
+   *
+   * @return a new ingestor
+   */
+  @NotNull
+  EventIngestor ingestor();
+
+  /**
+   * Create an ingestor for webhook deliveries.
+   *
+   * @param capacity     the maximum number of events queued
+   * @param dedupeWindow how long an event id is remembered, to recognize redeliveries
+   * @return a new ingestor, to be closed when no longer used
+   */
+  @NotNull
+  EventIngestor ingestor(int capacity, @NotNull Duration dedupeWindow);
+
+  /**
+   * Create a tracker for executions, which polls executions every 30 seconds at first and at most every 10 minutes when no events are received.
+   *
+   * @return a new tracker, to be closed when no longer used
+   */
+  @NotNull
+  ExecutionTracker tracker();
+
+  /**
+   * Create a tracker for executions.
+   *
+   * @param minPollInterval how long to wait for an event before polling an execution
+   * @param maxPollInterval the longest time to wait between polls of an unchanged execution
+   * @return a new tracker, to be closed when no longer used
+   */
+  @NotNull
+  ExecutionTracker tracker(@NotNull Duration minPollInterval, @NotNull Duration maxPollInterval);
 }
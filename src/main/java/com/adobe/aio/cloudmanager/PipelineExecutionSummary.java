@@ -0,0 +1,85 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.OffsetDateTime;
+
+/**
+ * Lightweight view of a pipeline execution, for listing at scale. Only these properties are decoded from the response, its step states and links are skipped.
+ */
+public interface PipelineExecutionSummary {
+
+  /**
+   * Identifier of the execution.
+   *
+   * @return the id
+   */
+  String getId();
+
+  /**
+   * Identifier of the program of the execution.
+   *
+   * @return the program id
+   */
+  String getProgramId();
+
+  /**
+   * Identifier of the pipeline of the execution.
+   *
+   * @return the pipeline id
+   */
+  String getPipelineId();
+
+  /**
+   * Status of the execution.
+   *
+   * @return the status
+   */
+  PipelineExecution.Status getStatusState();
+
+  /**
+   * User who started the execution.
+   *
+   * @return the user
+   */
+  String getUser();
+
+  /**
+   * Time the execution was created.
+   *
+   * @return the creation time
+   */
+  OffsetDateTime getCreatedAt();
+
+  /**
+   * Time the execution was last updated.
+   *
+   * @return the update time
+   */
+  OffsetDateTime getUpdatedAt();
+
+  /**
+   * Time the execution finished.
+   *
+   * @return the finish time
+   */
+  OffsetDateTime getFinishedAt();
+}
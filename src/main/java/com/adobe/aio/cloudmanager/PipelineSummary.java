@@ -0,0 +1,85 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.OffsetDateTime;
+
+/**
+ * Lightweight view of a pipeline, for listing at scale. Only these properties are decoded from the response, its phases and links are skipped.
+ */
+public interface PipelineSummary {
+
+  /**
+   * Identifier of the pipeline.
+   *
+   * @return the id
+   */
+  String getId();
+
+  /**
+   * Identifier of the program of the pipeline.
+   *
+   * @return the program id
+   */
+  String getProgramId();
+
+  /**
+   * Name of the pipeline.
+   *
+   * @return the name
+   */
+  String getName();
+
+  /**
+   * Status of the pipeline.
+   *
+   * @return the status
+   */
+  Pipeline.Status getStatusState();
+
+  /**
+   * Time the pipeline was created.
+   *
+   * @return the creation time
+   */
+  OffsetDateTime getCreatedAt();
+
+  /**
+   * Time the pipeline was last updated.
+   *
+   * @return the update time
+   */
+  OffsetDateTime getUpdatedAt();
+
+  /**
+   * Time the pipeline was last started.
+   *
+   * @return the start time
+   */
+  OffsetDateTime getLastStartedAt();
+
+  /**
+   * Time the pipeline last finished.
+   *
+   * @return the finish time
+   */
+  OffsetDateTime getLastFinishedAt();
+}
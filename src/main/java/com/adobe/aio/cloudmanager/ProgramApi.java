@@ -20,6 +20,7 @@ package com.adobe.aio.cloudmanager;
  * #L%
  */
 
+import java.io.File;
 import java.util.Collection;
 import jakarta.validation.constraints.NotNull;
 
@@ -79,6 +80,16 @@ public interface ProgramApi {
   @NotNull
   Collection<Program> list(@NotNull Tenant tenant) throws CloudManagerApiException;
 
+  /**
+   * List summaries of all programs for the specified tenant. Cheaper than {@link #list(String)} when only the summary properties are needed.
+   *
+   * @param tenantId the id tenant
+   * @return a list of {@link ProgramSummary}s
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Collection<ProgramSummary> listSummaries(@NotNull String tenantId) throws CloudManagerApiException;
+
   /**
    * List all regions which can be used to create environments for the specified program.
    *
@@ -89,5 +100,41 @@ public interface ProgramApi {
   @NotNull
   Collection<Region> listRegions(@NotNull String programId) throws CloudManagerApiException;
 
+  /**
+   * Retrieve the topology of the program: its environments, with their region deployments and variables, pipelines, repositories and content sets.
+   * <p>
+   * Each part is retrieved concurrently on the executor provided to the {@link ApiBuilder}, or sequentially on the calling thread if none was provided.
+   * The calling thread retrieves any part the executor has not yet started, so snapshots may themselves be taken concurrently on that executor.
+   *
+   * @param programId the id of the program
+   * @return the snapshot
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  ProgramSnapshot snapshot(@NotNull String programId) throws CloudManagerApiException;
+
+  /**
+   * Retrieve the topology of the program: its environments, with their region deployments and variables, pipelines, repositories and content sets.
+   * <p>
+   * Each part is retrieved concurrently on the executor provided to the {@link ApiBuilder}, or sequentially on the calling thread if none was provided.
+   * The calling thread retrieves any part the executor has not yet started, so snapshots may themselves be taken concurrently on that executor.
+   *
+   * @param program the program
+   * @return the snapshot
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  ProgramSnapshot snapshot(@NotNull Program program) throws CloudManagerApiException;
+
+  /**
+   * Read a snapshot previously written with {@link ProgramSnapshot#write(File)}. No requests are made.
+   *
+   * @param file the snapshot file
+   * @return the snapshot
+   * @throws CloudManagerApiException when the file cannot be read
+   */
+  @NotNull
+  ProgramSnapshot readSnapshot(@NotNull File file) throws CloudManagerApiException;
+
   // TODO: Add Creation Operation?
 }
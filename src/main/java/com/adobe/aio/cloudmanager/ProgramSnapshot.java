@@ -0,0 +1,164 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.File;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * The topology of a program at a point in time: its environments, with their region deployments and variables, pipelines, repositories and content sets.
+ * <p>
+ * A snapshot is immutable and indexed, so lookups make no requests. The objects it contains remain connected to the API, so operations on them are made against the current state.
+ * Snapshots can be written to a compact file and read again with {@link ProgramApi#readSnapshot(File)}, to reuse them without retrieving the program again.
+ */
+public interface ProgramSnapshot {
+
+  /**
+   * When the snapshot was retrieved.
+   *
+   * @return the capture time
+   */
+  @NotNull
+  OffsetDateTime getCapturedAt();
+
+  /**
+   * The program.
+   *
+   * @return the program
+   */
+  @NotNull
+  Program getProgram();
+
+  /**
+   * All environments of the program.
+   *
+   * @return the environments
+   */
+  @NotNull
+  Collection<Environment> getEnvironments();
+
+  /**
+   * The environments of the program of the specified type.
+   *
+   * @param type the environment type
+   * @return the environments, empty if there are none
+   */
+  @NotNull
+  Collection<Environment> getEnvironments(@NotNull Environment.Type type);
+
+  /**
+   * The environment with the specified id.
+   *
+   * @param environmentId the environment id
+   * @return the environment, or empty if it is not part of the program
+   */
+  @NotNull
+  Optional<Environment> getEnvironment(@NotNull String environmentId);
+
+  /**
+   * The region deployments of the environment.
+   *
+   * @param environment the environment
+   * @return the region deployments, empty if the environment is not part of the program
+   */
+  @NotNull
+  Collection<RegionDeployment> getRegionDeployments(@NotNull Environment environment);
+
+  /**
+   * The variables of the environment.
+   *
+   * @param environment the environment
+   * @return the variables, empty if the environment is not part of the program
+   */
+  @NotNull
+  Collection<Variable> getVariables(@NotNull Environment environment);
+
+  /**
+   * All pipelines of the program.
+   *
+   * @return the pipelines
+   */
+  @NotNull
+  Collection<Pipeline> getPipelines();
+
+  /**
+   * The pipelines which build from the repository.
+   *
+   * @param repository the repository
+   * @return the pipelines, empty if there are none
+   */
+  @NotNull
+  Collection<Pipeline> getPipelines(@NotNull Repository repository);
+
+  /**
+   * The pipeline with the specified id.
+   *
+   * @param pipelineId the pipeline id
+   * @return the pipeline, or empty if it is not part of the program
+   */
+  @NotNull
+  Optional<Pipeline> getPipeline(@NotNull String pipelineId);
+
+  /**
+   * All repositories of the program.
+   *
+   * @return the repositories
+   */
+  @NotNull
+  Collection<Repository> getRepositories();
+
+  /**
+   * The repository with the specified id.
+   *
+   * @param repositoryId the repository id
+   * @return the repository, or empty if it is not part of the program
+   */
+  @NotNull
+  Optional<Repository> getRepository(@NotNull String repositoryId);
+
+  /**
+   * All content sets of the program.
+   *
+   * @return the content sets
+   */
+  @NotNull
+  Collection<ContentSet> getContentSets();
+
+  /**
+   * The content set with the specified id.
+   *
+   * @param contentSetId the content set id
+   * @return the content set, or empty if it is not part of the program
+   */
+  @NotNull
+  Optional<ContentSet> getContentSet(@NotNull String contentSetId);
+
+  /**
+   * Write the snapshot to a file, which can be read with {@link ProgramApi#readSnapshot(File)}.
+   *
+   * @param file the file to write
+   * @throws CloudManagerApiException when any error occurs
+   */
+  void write(@NotNull File file) throws CloudManagerApiException;
+}
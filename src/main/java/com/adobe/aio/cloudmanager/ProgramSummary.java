@@ -0,0 +1,71 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.OffsetDateTime;
+
+/**
+ * Lightweight view of a program, for listing at scale. Only these properties are decoded from the response.
+ */
+public interface ProgramSummary {
+
+  /**
+   * Identifier of the program.
+   *
+   * @return the id
+   */
+  String getId();
+
+  /**
+   * Name of the program.
+   *
+   * @return the name
+   */
+  String getName();
+
+  /**
+   * Whether the program is enabled.
+   *
+   * @return true if enabled
+   */
+  boolean isEnabled();
+
+  /**
+   * Identifier of the tenant of the program.
+   *
+   * @return the tenant id
+   */
+  String getTenantId();
+
+  /**
+   * Time the program was created.
+   *
+   * @return the creation time
+   */
+  OffsetDateTime getCreatedAt();
+
+  /**
+   * Time the program was last updated.
+   *
+   * @return the update time
+   */
+  OffsetDateTime getUpdatedAt();
+}
@@ -21,8 +21,11 @@ package com.adobe.aio.cloudmanager;
  */
 
 import java.util.Collection;
+import java.util.stream.Stream;
 import jakarta.validation.constraints.NotNull;
 
+import com.adobe.aio.cloudmanager.exception.UncheckedCloudManagerApiException;
+
 /**
  * Repository API
  * <p>
@@ -97,6 +100,31 @@ public interface RepositoryApi {
   @NotNull
   Collection<Repository> list(@NotNull Program program, int start, int limit) throws CloudManagerApiException;
 
+  /**
+   * Lazily stream all repositories for the specified program, fetching pages of the default size on demand.
+   * <p>
+   * Once half of a page has been consumed, the next page is prefetched on the executor provided to the {@link ApiBuilder}, if any. No further pages are requested once the stream short-circuits, e.g. on {@code findFirst()}.
+   * Errors are thrown by the stream's terminal operation as an {@link UncheckedCloudManagerApiException}.
+   *
+   * @param programId the program id
+   * @return stream of repositories
+   */
+  @NotNull
+  Stream<Repository> stream(@NotNull String programId);
+
+  /**
+   * Lazily stream all repositories for the specified program, fetching pages of the specified size on demand.
+   * <p>
+   * Once half of a page has been consumed, the next page is prefetched on the executor provided to the {@link ApiBuilder}, if any. No further pages are requested once the stream short-circuits, e.g. on {@code findFirst()}.
+   * Errors are thrown by the stream's terminal operation as an {@link UncheckedCloudManagerApiException}.
+   *
+   * @param programId the program id
+   * @param pageSize  the number of repositories to request per page
+   * @return stream of repositories
+   */
+  @NotNull
+  Stream<Repository> stream(@NotNull String programId, int pageSize);
+
   /**
    * Get a specific repository in the program.
    *
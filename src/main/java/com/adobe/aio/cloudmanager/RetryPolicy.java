@@ -0,0 +1,148 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import jakarta.validation.constraints.NotNull;
+
+import com.adobe.aio.cloudmanager.impl.RetryPolicyImpl;
+
+/**
+ * Policy for retrying requests which failed transiently: I/O errors, and {@code 429}, {@code 502}, {@code 503} or {@code 504} responses.
+ * <p>
+ * Only requests which cannot act twice are retried, unless non-idempotent retries are enabled: reads, and updates which replace state, such as setting variables or
+ * updating a pipeline. Requests which start or change work, such as starting an execution, advancing or cancelling a step, resetting an environment or deleting
+ * a resource, are not retried whatever their HTTP method. Retries are also reported to the {@link Instrumentation}, if set.
+ * Each retry waits for a random delay up to the exponential backoff ("full jitter"), or longer if the server requested it with {@code Retry-After}; once the next
+ * attempt would exceed the maximum attempts or the time budget, the failure is thrown as it would be without retries.
+ * <p>
+ * Set a policy with {@link ApiBuilder#retryPolicy(RetryPolicy)}. The same instance may be shared by several APIs, in which case its counts cover all of them.
+ */
+public interface RetryPolicy {
+
+  /**
+   * The maximum number of attempts of a request, including the first.
+   *
+   * @return the max attempts
+   */
+  int getMaxAttempts();
+
+  /**
+   * The backoff before the first retry, which doubles with each further retry.
+   *
+   * @return the initial backoff
+   */
+  Duration getInitialBackoff();
+
+  /**
+   * The upper bound of the backoff.
+   *
+   * @return the max backoff
+   */
+  Duration getMaxBackoff();
+
+  /**
+   * The time, from the first attempt, after which a request is no longer retried.
+   *
+   * @return the time budget
+   */
+  Duration getTimeBudget();
+
+  /**
+   * Whether non-idempotent requests, such as creating an environment, starting an execution or starting a content flow, are retried as well.
+   *
+   * @return true if all requests are retried
+   */
+  boolean isRetryNonIdempotent();
+
+  /**
+   * The number of retries made under this policy.
+   *
+   * @return the retry count
+   */
+  long getRetryCount();
+
+  /**
+   * The number of requests under this policy which failed once the maximum attempts or the time budget were reached.
+   *
+   * @return the exhausted count
+   */
+  long getExhaustedCount();
+
+  /**
+   * Builder to create new instances of a RetryPolicy.
+   *
+   * @return a RetryPolicy builder
+   */
+  static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Builds new instances of RetryPolicies.
+   */
+  class Builder {
+    private int maxAttempts = 4;
+    private Duration initialBackoff = Duration.ofMillis(500);
+    private Duration maxBackoff = Duration.ofSeconds(10);
+    private Duration timeBudget = Duration.ofMinutes(1);
+    private boolean retryNonIdempotent;
+
+    private Builder() {
+    }
+
+    public Builder maxAttempts(int maxAttempts) {
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    public Builder backoff(@NotNull Duration initialBackoff, @NotNull Duration maxBackoff) {
+      this.initialBackoff = initialBackoff;
+      this.maxBackoff = maxBackoff;
+      return this;
+    }
+
+    public Builder timeBudget(@NotNull Duration timeBudget) {
+      this.timeBudget = timeBudget;
+      return this;
+    }
+
+    public Builder retryNonIdempotent(boolean retryNonIdempotent) {
+      this.retryNonIdempotent = retryNonIdempotent;
+      return this;
+    }
+
+    /**
+     * Create a new RetryPolicy instance.
+     *
+     * @return the RetryPolicy
+     */
+    public RetryPolicy build() {
+      if (maxAttempts < 1) {
+        throw new IllegalStateException("Max attempts must be positive.");
+      }
+      if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0 || timeBudget.isNegative()) {
+        throw new IllegalStateException("Backoffs and time budget cannot be negative, and the maximum backoff must be no less than the initial.");
+      }
+      return new RetryPolicyImpl(maxAttempts, initialBackoff, maxBackoff, timeBudget, retryNonIdempotent);
+    }
+  }
+}
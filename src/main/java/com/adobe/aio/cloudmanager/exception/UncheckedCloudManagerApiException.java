@@ -0,0 +1,38 @@
+package com.adobe.aio.cloudmanager.exception;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+
+/**
+ * Wraps a {@link CloudManagerApiException} where a checked exception cannot be thrown, such as from a lazily evaluated {@link java.util.stream.Stream}.
+ */
+public class UncheckedCloudManagerApiException extends RuntimeException {
+
+  public UncheckedCloudManagerApiException(CloudManagerApiException cause) {
+    super(cause.getMessage(), cause);
+  }
+
+  @Override
+  public synchronized CloudManagerApiException getCause() {
+    return (CloudManagerApiException) super.getCause();
+  }
+}
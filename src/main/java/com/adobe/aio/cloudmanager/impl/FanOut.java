@@ -0,0 +1,120 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+
+/**
+ * Runs the independent requests of a bulk operation on an executor, if any, and waits for their results.
+ * <p>
+ * Waiting for a task which the executor has not started runs it on the waiting thread, so waiting never needs a free executor thread: a bulk operation may be
+ * started by a task already running on the same bounded executor. Without an executor, each task runs on the calling thread once it is waited for.
+ * Closing the fan-out cancels the tasks which have not completed, such as those after a failure.
+ */
+public class FanOut implements AutoCloseable {
+
+  private final Executor executor;
+  private final String failure;
+  private final String interrupted;
+  private final List<FutureTask<?>> pending = new ArrayList<>();
+
+  /**
+   * Create a fan-out.
+   *
+   * @param executor    the executor, or null to run tasks on the calling thread
+   * @param failure     the message of errors other than API exceptions, followed by their own message, e.g. {@code Cannot list pipelines for tenant 1}
+   * @param interrupted the message of the error when interrupted while waiting
+   */
+  public FanOut(Executor executor, String failure, String interrupted) {
+    this.executor = executor;
+    this.failure = failure;
+    this.interrupted = interrupted;
+  }
+
+  /**
+   * Submit a task to the executor.
+   *
+   * @param task the task
+   * @param <T>  the result type
+   * @return the task's future, to pass to {@link #await(FutureTask)}
+   */
+  public <T> FutureTask<T> submit(Callable<T> task) {
+    FutureTask<T> future = new FutureTask<>(task);
+    pending.add(future);
+    if (executor != null) {
+      executor.execute(future);
+    }
+    return future;
+  }
+
+  /**
+   * Wait for the result of a task, running it here if it has not been started.
+   *
+   * @param future the future of a submitted task
+   * @param <T>    the result type
+   * @return the result
+   * @throws CloudManagerApiException the task's API exception, or one describing any other failure
+   */
+  public <T> T await(FutureTask<T> future) throws CloudManagerApiException {
+    future.run();
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof CloudManagerApiException) {
+        throw (CloudManagerApiException) e.getCause();
+      }
+      throw new CloudManagerApiException("%s: %s.".formatted(failure, e.getCause().getLocalizedMessage()));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CloudManagerApiException(interrupted);
+    }
+  }
+
+  /**
+   * Submit all tasks, then wait for each in turn.
+   *
+   * @param tasks the tasks
+   * @param <T>   the result type
+   * @return the results, in the order of the tasks
+   * @throws CloudManagerApiException when any task fails
+   */
+  public <T> List<T> invokeAll(List<? extends Callable<T>> tasks) throws CloudManagerApiException {
+    List<FutureTask<T>> futures = new ArrayList<>(tasks.size());
+    tasks.forEach(t -> futures.add(submit(t)));
+    List<T> results = new ArrayList<>(tasks.size());
+    for (FutureTask<T> future : futures) {
+      results.add(await(future));
+    }
+    return results;
+  }
+
+  @Override
+  public void close() {
+    pending.forEach(f -> f.cancel(true));
+  }
+}
@@ -20,62 +20,140 @@ package com.adobe.aio.cloudmanager.impl;
  * #L%
  */
 
-import java.util.concurrent.TimeUnit;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.HttpTransport;
 import com.adobe.aio.feign.AIOHeaderInterceptor;
 import com.adobe.aio.ims.feign.AuthInterceptor;
 import com.adobe.aio.workspace.Workspace;
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import feign.AsyncFeign;
+import feign.BaseBuilder;
+import feign.ExceptionPropagationPolicy;
 import feign.Feign;
 import feign.Logger;
 import feign.Request;
 import feign.RequestInterceptor;
+import feign.RequestTemplate;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
-import feign.okhttp.OkHttpClient;
 import feign.slf4j.Slf4jLogger;
 
 
 public class FeignUtil {
 
-  private static final int DEFAULT_CONNECT_TIMEOUT_IN_SECONDS = 10;
-  private static final int DEFAULT_READ_TIMEOUT_IN_SECONDS = 60;
+  private static final Set<Request.HttpMethod> SAFE = EnumSet.of(Request.HttpMethod.GET, Request.HttpMethod.HEAD, Request.HttpMethod.OPTIONS);
 
   private FeignUtil() {
 
   }
 
+  /**
+   * The shared mapper, see {@link JsonCodecs}.
+   *
+   * @return the mapper
+   */
   public static ObjectMapper getMapper() {
-    return JsonMapper.builder()
-        .serializationInclusion(JsonInclude.Include.NON_NULL)
-        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-        .disable(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE)
-        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-        .enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING)
-        .enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
-        .addModule(new JavaTimeModule())
-        .build();
+    return JsonCodecs.mapper();
   }
 
-  public static Feign.Builder getBuilder(Workspace workspace) {
+  public static Feign.Builder getBuilder(Workspace workspace, HttpTransport transport) {
+    HttpTransportImpl shared = transport == null ? HttpTransportImpl.getDefault() : (HttpTransportImpl) transport;
     ObjectMapper mapper = getMapper();
 
     RequestInterceptor authInterceptor = AuthInterceptor.builder().workspace(workspace).build();
     RequestInterceptor aioHeaderInterceptor = AIOHeaderInterceptor.builder().workspace(workspace).build();
-    Request.Options options = new Request.Options(DEFAULT_CONNECT_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS, DEFAULT_READ_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS, true);
-    return Feign.builder()
-        .client(new OkHttpClient())
+    Feign.Builder builder = Feign.builder()
+        .client(shared.getClient())
+        .logger(new Slf4jLogger())
+        .logLevel(Logger.Level.BASIC)
+        .requestInterceptor(authInterceptor)
+        .requestInterceptor(aioHeaderInterceptor)
+        .encoder(new JacksonEncoder(mapper))
+        .decoder(new HalDecoder())
+        .doNotCloseAfterDecode()
+        .options(shared.getOptions());
+    return withCapabilities(builder, shared, false);
+  }
+
+  public static AsyncFeign.AsyncBuilder<Object> getAsyncBuilder(Workspace workspace, HttpTransport transport) {
+    HttpTransportImpl shared = transport == null ? HttpTransportImpl.getDefault() : (HttpTransportImpl) transport;
+    ObjectMapper mapper = getMapper();
+
+    RequestInterceptor authInterceptor = AuthInterceptor.builder().workspace(workspace).build();
+    RequestInterceptor aioHeaderInterceptor = AIOHeaderInterceptor.builder().workspace(workspace).build();
+    AsyncFeign.AsyncBuilder<Object> builder = AsyncFeign.builder()
+        .client(shared.getClient())
         .logger(new Slf4jLogger())
         .logLevel(Logger.Level.BASIC)
         .requestInterceptor(authInterceptor)
         .requestInterceptor(aioHeaderInterceptor)
         .encoder(new JacksonEncoder(mapper))
         .decoder(new JacksonDecoder(mapper))
-        .options(options);
+        .options(shared.getOptions());
+    return withCapabilities(builder, shared, true);
+  }
+
+  // Capabilities wrap the client in the order they are added: each attempt is timed on its own, and goes through the rate limiter, retries included.
+  private static <B extends BaseBuilder<B, ?>> B withCapabilities(B builder, HttpTransportImpl shared, boolean async) {
+    if (shared.getInstrumentation() != null) {
+      builder.addCapability(new InstrumentationCapability(shared.getInstrumentation()));
+    }
+    if (shared.getRateLimiter() != null) {
+      builder.addCapability(shared.getRateLimiter());
+    }
+    if (shared.getRetryPolicy() != null) {
+      builder.addCapability(new RetryCapability((RetryPolicyImpl) shared.getRetryPolicy(), shared.getInstrumentation(), shared.getRateLimiter() != null, async))
+          .exceptionPropagationPolicy(ExceptionPropagationPolicy.UNWRAP);
+    }
+    return builder;
+  }
+
+  /**
+   * Runs the supplier, capturing any thrown exception in the returned future rather than throwing it.
+   *
+   * @param supplier the operation to run
+   * @param <T>      the result type
+   * @return a completed, or exceptionally completed, future
+   */
+  public static <T> CompletableFuture<T> attempt(ApiSupplier<T> supplier) {
+    try {
+      return CompletableFuture.completedFuture(supplier.get());
+    } catch (CloudManagerApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Dependent stages wrap failures in a {@link CompletionException}; return the actual cause.
+   *
+   * @param t the failure
+   * @return the unwrapped failure
+   */
+  public static Throwable unwrap(Throwable t) {
+    return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+  }
+
+  /**
+   * Whether a request may be sent again after a failure without risk of acting twice: safe requests, and those of client methods marked {@link Idempotent}.
+   *
+   * @param request the request
+   * @return true if the request is repeatable
+   */
+  public static boolean isRepeatable(Request request) {
+    if (SAFE.contains(request.httpMethod())) {
+      return true;
+    }
+    RequestTemplate template = request.requestTemplate();
+    return template != null && template.methodMetadata() != null && template.methodMetadata().method().isAnnotationPresent(Idempotent.class);
+  }
+
+  @FunctionalInterface
+  public interface ApiSupplier<T> {
+    T get() throws CloudManagerApiException;
   }
 }
@@ -0,0 +1,201 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.adobe.aio.cloudmanager.HttpTransport;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Downloads files straight to disk over the shared transport.
+ * <p>
+ * Content is written to a partial file beside the target, which is renamed once its size has been verified. A partial file, or an existing target, is resumed with a range request;
+ * the request is conditional on the remote file being unchanged since the local copy was written, so a changed file is downloaded again in full, and an unchanged complete file is not transferred at all.
+ */
+public class FileDownloader {
+
+  private static final String PARTIAL_SUFFIX = ".part";
+  private static final long TRANSFER_SIZE = 1024 * 1024;
+  private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+  private static final Pattern CONTENT_RANGE = Pattern.compile("^bytes (?:(\\d+)-\\d+|\\*)/(\\d+|\\*)$");
+
+  private final OkHttpClient client;
+
+  public FileDownloader(HttpTransport transport) {
+    HttpTransportImpl shared = transport == null ? HttpTransportImpl.getDefault() : (HttpTransportImpl) transport;
+    this.client = shared.getHttpClient();
+  }
+
+  /**
+   * Download the url to the target file.
+   *
+   * @param url    the url of the file
+   * @param target the file to write
+   * @throws IOException when the file cannot be retrieved, is incomplete, or cannot be written
+   */
+  public void download(String url, File target) throws IOException {
+    Path path = target.toPath();
+    Path partial = path.resolveSibling(path.getFileName() + PARTIAL_SUFFIX);
+    Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    if (Files.isRegularFile(path)) {
+      Files.move(path, partial, StandardCopyOption.REPLACE_EXISTING);
+    }
+    long offset = Files.isRegularFile(partial) ? Files.size(partial) : 0;
+
+    Request.Builder request = new Request.Builder().url(url).header("Accept-Encoding", "identity");
+    if (offset > 0) {
+      request.header("Range", "bytes=%d-".formatted(offset));
+      request.header("If-Range", HTTP_DATE.format(Files.getLastModifiedTime(partial).toInstant()));
+    }
+    try (Response response = client.newCall(request.build()).execute()) {
+      if (response.code() == 404) {
+        throw new FileNotFoundException(url);
+      }
+      long expected;
+      if (response.code() == 416 && offset > 0) {
+        // Nothing left to transfer.
+        expected = total(response.header("Content-Range"));
+        if (expected >= 0 && expected != offset) {
+          throw new IOException("Local copy of %s is larger than the remote file (%d > %d bytes).".formatted(url, offset, expected));
+        }
+      } else if (response.code() == 206 && offset > 0) {
+        String range = response.header("Content-Range");
+        if (start(range) != offset) {
+          throw new IOException("Unexpected range '%s' returned for %s, expected from %d.".formatted(range, url, offset));
+        }
+        expected = total(range);
+        verify(url, write(response.body(), partial, offset), expected);
+      } else if (response.isSuccessful()) {
+        expected = response.body().contentLength();
+        verify(url, write(response.body(), partial, 0), expected);
+      } else {
+        throw new IOException("Cannot download %s (%d %s).".formatted(url, response.code(), response.message()));
+      }
+
+      Date lastModified = response.headers().getDate("Last-Modified");
+      if (lastModified != null) {
+        Files.setLastModifiedTime(partial, FileTime.fromMillis(lastModified.getTime()));
+      }
+    }
+    Files.move(partial, path, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Open the url for reading, rather than writing it to disk. Closing the returned stream releases the connection.
+   *
+   * @param url the url of the file
+   * @return the file content
+   * @throws IOException when the file cannot be retrieved
+   */
+  public InputStream open(String url) throws IOException {
+    return open(url, 0);
+  }
+
+  /**
+   * Open the url for reading from the offset, using a range request. If the server ignores the range, the content before the offset is skipped instead.
+   *
+   * @param url    the url of the file
+   * @param offset the number of bytes already read
+   * @return the file content after the offset, empty if there is none
+   * @throws IOException when the file cannot be retrieved, or is shorter than the offset
+   */
+  public InputStream open(String url, long offset) throws IOException {
+    Request.Builder request = new Request.Builder().url(url).header("Accept-Encoding", "identity");
+    if (offset > 0) {
+      request.header("Range", "bytes=%d-".formatted(offset));
+    }
+    Response response = client.newCall(request.build()).execute();
+    if (response.code() == 416 && offset > 0) {
+      response.close();
+      return InputStream.nullInputStream();
+    }
+    if (!response.isSuccessful()) {
+      response.close();
+      if (response.code() == 404) {
+        throw new FileNotFoundException(url);
+      }
+      throw new IOException("Cannot download %s (%d %s).".formatted(url, response.code(), response.message()));
+    }
+    InputStream in = response.body().byteStream();
+    if (offset > 0 && response.code() != 206) {
+      try {
+        in.skipNBytes(offset);
+      } catch (IOException e) {
+        in.close();
+        throw e;
+      }
+    }
+    return in;
+  }
+
+  private static long write(ResponseBody body, Path partial, long offset) throws IOException {
+    try (ReadableByteChannel source = Channels.newChannel(body.byteStream());
+         FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+      channel.truncate(offset);
+      long position = offset;
+      long transferred;
+      while ((transferred = channel.transferFrom(source, position, TRANSFER_SIZE)) > 0) {
+        position += transferred;
+      }
+      return position;
+    }
+  }
+
+  private static void verify(String url, long size, long expected) throws IOException {
+    if (expected >= 0 && size != expected) {
+      throw new IOException("Incomplete download of %s (%d of %d bytes).".formatted(url, size, expected));
+    }
+  }
+
+  private static long start(String contentRange) {
+    Matcher matcher = contentRange == null ? null : CONTENT_RANGE.matcher(contentRange);
+    return matcher != null && matcher.matches() && matcher.group(1) != null ? Long.parseLong(matcher.group(1)) : -1;
+  }
+
+  private static long total(String contentRange) {
+    Matcher matcher = contentRange == null ? null : CONTENT_RANGE.matcher(contentRange);
+    return matcher != null && matcher.matches() && !"*".equals(matcher.group(2)) ? Long.parseLong(matcher.group(2)) : -1;
+  }
+}
@@ -0,0 +1,57 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+import feign.jackson.JacksonDecoder;
+
+/**
+ * Decodes responses with the shared mapper. Methods declared to return {@link HalItems} get a lazy view of the list, all other responses are decoded and closed.
+ * <p>
+ * Requires the Feign builder not to close responses itself, as that would end the lazy view before it is consumed.
+ */
+public class HalDecoder implements Decoder {
+
+  private final Decoder delegate = new JacksonDecoder(JsonCodecs.mapper());
+
+  @Override
+  public Object decode(Response response, Type type) throws IOException {
+    if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == HalItems.class) {
+      Type item = ((ParameterizedType) type).getActualTypeArguments()[0];
+      if (response.body() == null || response.status() == 204) {
+        Util.ensureClosed(response.body());
+        return HalItems.empty();
+      }
+      return HalItems.of(response.body().asInputStream(), (Class<?>) item);
+    }
+    try {
+      return delegate.decode(response, type);
+    } finally {
+      Util.ensureClosed(response.body());
+    }
+  }
+}
@@ -0,0 +1,252 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.exception.UncheckedCloudManagerApiException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Lazily decodes the items of a HAL list response: the first array within its {@code _embedded} object.
+ * <p>
+ * Items are read from the response one at a time as they are consumed, the list representation is never materialized. The response is closed once the items are exhausted, on failure, or when this is closed.
+ * The paging details of the list, {@code _page.next} and {@code _totalNumberOfItems}, are captured as they are passed; those following the items are read once the items are exhausted.
+ *
+ * @param <E> the type of the items
+ */
+public class HalItems<E> implements Iterator<E>, AutoCloseable {
+
+  private static final String EMBEDDED = "_embedded";
+  private static final String PAGE = "_page";
+  private static final String TOTAL = "_totalNumberOfItems";
+  private static final String UNREADABLE = "Unable to read response: %s.";
+
+  private final JsonParser parser;
+  private final ObjectReader reader;
+  private boolean present;
+  private boolean ready;
+  private boolean done;
+  private Integer next;
+  private Integer total;
+
+  private HalItems(JsonParser parser, ObjectReader reader) {
+    this.parser = parser;
+    this.reader = reader;
+    this.done = parser == null;
+  }
+
+  /**
+   * Positions a parser on the items of the list representation.
+   *
+   * @param in   the response body
+   * @param type the type of the items
+   * @param <E>  the type of the items
+   * @return the items
+   * @throws IOException if the body cannot be read
+   */
+  static <E> HalItems<E> of(InputStream in, Class<E> type) throws IOException {
+    JsonParser parser = JsonCodecs.mapper().createParser(in);
+    HalItems<E> items = new HalItems<>(parser, JsonCodecs.reader(type));
+    try {
+      items.present = items.seek();
+      if (!items.present) {
+        items.close();
+      }
+    } catch (IOException | RuntimeException e) {
+      items.close();
+      throw e;
+    }
+    return items;
+  }
+
+  static <E> HalItems<E> empty() {
+    return new HalItems<>(null, null);
+  }
+
+  // Leaves the parser on the start of the items array, if there is one.
+  private boolean seek() throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      return false;
+    }
+    boolean embedded = false;
+    JsonToken token;
+    while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      token = parser.nextToken();
+      if (token == JsonToken.START_ARRAY && embedded) {
+        return true;
+      }
+      if (token == JsonToken.START_OBJECT && !embedded && EMBEDDED.equals(name)) {
+        embedded = true;
+      } else if (!embedded) {
+        details(name, token);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return false;
+  }
+
+  // Reads the rest of the list representation after its items, for the paging details.
+  private void trailer() throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      details(name, parser.nextToken());
+    }
+  }
+
+  // Captures a top level field of the list representation if it is a paging detail, otherwise skips it.
+  private void details(String name, JsonToken token) throws IOException {
+    if (TOTAL.equals(name) && token == JsonToken.VALUE_NUMBER_INT) {
+      total = parser.getIntValue();
+    } else if (PAGE.equals(name) && token == JsonToken.START_OBJECT) {
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        if (parser.nextToken() == JsonToken.VALUE_NUMBER_INT && "next".equals(field)) {
+          next = parser.getIntValue();
+        } else {
+          parser.skipChildren();
+        }
+      }
+    } else {
+      parser.skipChildren();
+    }
+  }
+
+  /**
+   * Whether the response contained a list at all, as opposed to an empty one.
+   *
+   * @return true if the list was present
+   */
+  public boolean isPresent() {
+    return present;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (ready || done) {
+      return ready;
+    }
+    try {
+      JsonToken token = parser.nextToken();
+      if (token == JsonToken.START_OBJECT) {
+        ready = true;
+        return true;
+      }
+      if (token != JsonToken.END_ARRAY) {
+        throw new IOException("expected an item but found %s".formatted(token));
+      }
+      trailer();
+      close();
+      return false;
+    } catch (IOException e) {
+      close();
+      throw new UncheckedCloudManagerApiException(new CloudManagerApiException(UNREADABLE.formatted(e.getLocalizedMessage())));
+    }
+  }
+
+  @Override
+  public E next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    ready = false;
+    try {
+      return reader.readValue(parser);
+    } catch (IOException e) {
+      close();
+      throw new UncheckedCloudManagerApiException(new CloudManagerApiException(UNREADABLE.formatted(e.getLocalizedMessage())));
+    }
+  }
+
+  /**
+   * Passes each remaining item to the action as it is read.
+   *
+   * @param action the action
+   * @throws CloudManagerApiException if the response cannot be read
+   */
+  public void forEach(Consumer<? super E> action) throws CloudManagerApiException {
+    try {
+      while (hasNext()) {
+        action.accept(next());
+      }
+    } catch (UncheckedCloudManagerApiException e) {
+      throw e.getCause();
+    } finally {
+      close();
+    }
+  }
+
+  /**
+   * Reads the remaining items, converting each as it is read.
+   *
+   * @param wrap the conversion
+   * @param <T>  the resulting type
+   * @return the converted items
+   * @throws CloudManagerApiException if the response cannot be read
+   */
+  public <T> List<T> collect(Function<? super E, ? extends T> wrap) throws CloudManagerApiException {
+    List<T> results = new ArrayList<>();
+    forEach(item -> results.add(wrap.apply(item)));
+    return results;
+  }
+
+  /**
+   * Reads the remaining items, converting each as it is read, along with the paging details of the list.
+   *
+   * @param wrap the conversion
+   * @param <T>  the resulting type
+   * @return the page of converted items
+   * @throws CloudManagerApiException if the response cannot be read
+   */
+  public <T> PagedIterator.Page<T> page(Function<? super E, ? extends T> wrap) throws CloudManagerApiException {
+    List<T> results = collect(wrap);
+    return new PagedIterator.Page<>(results, next, total);
+  }
+
+  @Override
+  public void close() {
+    if (parser != null && !parser.isClosed()) {
+      try {
+        parser.close();
+      } catch (IOException e) {
+        // Nothing more to read.
+      }
+    }
+    ready = false;
+    done = true;
+  }
+}
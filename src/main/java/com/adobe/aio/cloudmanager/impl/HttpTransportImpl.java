@@ -0,0 +1,199 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import com.adobe.aio.cloudmanager.HttpTransport;
+import com.adobe.aio.cloudmanager.Instrumentation;
+import com.adobe.aio.cloudmanager.RetryPolicy;
+import feign.Request;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Owns the single OkHttp client (connection pool, dispatcher, TLS session cache) shared by all Feign clients built with it.
+ */
+@Getter
+@ToString(onlyExplicitlyIncluded = true)
+public class HttpTransportImpl implements HttpTransport {
+
+  @ToString.Include
+  private final int maxIdleConnections;
+  @ToString.Include
+  private final Duration keepAlive;
+  @ToString.Include
+  private final boolean http2;
+  @ToString.Include
+  private final Duration connectTimeout;
+  @ToString.Include
+  private final Duration readTimeout;
+  @ToString.Include
+  private final int maxRequests;
+  @ToString.Include
+  private final int maxRequestsPerHost;
+  @ToString.Include
+  private final long cacheSize;
+  @ToString.Include
+  private final File cacheDirectory;
+  @ToString.Include
+  private final long cacheDirectorySize;
+  @ToString.Include
+  private final double rateLimit;
+  @ToString.Include
+  private final int rateLimitBurst;
+  @ToString.Include
+  private final Duration maxThrottleWait;
+
+  private final OkHttpClient httpClient;
+  private final feign.okhttp.OkHttpClient client;
+  private final RateLimitCapability rateLimiter;
+  private final Request.Options options;
+  private final RetryPolicy retryPolicy;
+  private final Instrumentation instrumentation;
+
+  public HttpTransportImpl(Settings settings) {
+    this.maxIdleConnections = settings.getMaxIdleConnections();
+    this.keepAlive = settings.getKeepAlive();
+    this.http2 = settings.isHttp2();
+    this.connectTimeout = settings.getConnectTimeout();
+    this.readTimeout = settings.getReadTimeout();
+    this.maxRequests = settings.getMaxRequests();
+    this.maxRequestsPerHost = settings.getMaxRequestsPerHost();
+    this.cacheSize = settings.getCacheSize();
+    this.cacheDirectory = settings.getCacheDirectory();
+    this.cacheDirectorySize = settings.getCacheDirectorySize();
+    this.rateLimit = settings.getRateLimit();
+    this.rateLimitBurst = settings.getRateLimitBurst();
+    this.maxThrottleWait = settings.getMaxThrottleWait();
+
+    Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(maxRequests);
+    dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+    // Timeouts and redirect handling match the Feign options, so Feign never needs to derive a request-scoped client.
+    OkHttpClient.Builder builder = new OkHttpClient.Builder()
+        .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS))
+        .dispatcher(dispatcher)
+        .protocols(http2 ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1) : Collections.singletonList(Protocol.HTTP_1_1))
+        .connectTimeout(connectTimeout)
+        .readTimeout(readTimeout)
+        .followRedirects(true);
+    if (cacheSize > 0) {
+      builder.addInterceptor(new ResponseCacheInterceptor(cacheSize));
+    }
+    if (cacheDirectory != null) {
+      builder.cache(new Cache(cacheDirectory, cacheDirectorySize));
+    }
+    httpClient = builder.build();
+    client = new feign.okhttp.OkHttpClient(httpClient);
+    // Applied to the Feign clients rather than the OkHttp client, so it knows which requests are repeatable and can schedule asynchronous waits.
+    rateLimiter = rateLimit > 0 ? new RateLimitCapability(rateLimit, rateLimitBurst, maxThrottleWait) : null;
+    options = new Request.Options(connectTimeout.toMillis(), TimeUnit.MILLISECONDS, readTimeout.toMillis(), TimeUnit.MILLISECONDS, true);
+    retryPolicy = null;
+    instrumentation = null;
+  }
+
+  private HttpTransportImpl(HttpTransportImpl source, RetryPolicy retryPolicy, Instrumentation instrumentation) {
+    this.maxIdleConnections = source.maxIdleConnections;
+    this.keepAlive = source.keepAlive;
+    this.http2 = source.http2;
+    this.connectTimeout = source.connectTimeout;
+    this.readTimeout = source.readTimeout;
+    this.maxRequests = source.maxRequests;
+    this.maxRequestsPerHost = source.maxRequestsPerHost;
+    this.cacheSize = source.cacheSize;
+    this.cacheDirectory = source.cacheDirectory;
+    this.cacheDirectorySize = source.cacheDirectorySize;
+    this.rateLimit = source.rateLimit;
+    this.rateLimitBurst = source.rateLimitBurst;
+    this.maxThrottleWait = source.maxThrottleWait;
+    this.httpClient = source.httpClient;
+    this.client = source.client;
+    this.rateLimiter = source.rateLimiter;
+    this.options = source.options;
+    this.retryPolicy = retryPolicy;
+    this.instrumentation = instrumentation;
+  }
+
+  /**
+   * A view of this transport, sharing its clients, for APIs which retry failed requests.
+   *
+   * @param retryPolicy the policy of the APIs
+   * @return the transport view
+   */
+  public HttpTransportImpl withRetryPolicy(RetryPolicy retryPolicy) {
+    return new HttpTransportImpl(this, retryPolicy, instrumentation);
+  }
+
+  /**
+   * A view of this transport, sharing its clients, for APIs which report their requests.
+   *
+   * @param instrumentation the instrumentation of the APIs
+   * @return the transport view
+   */
+  public HttpTransportImpl withInstrumentation(Instrumentation instrumentation) {
+    return new HttpTransportImpl(this, retryPolicy, instrumentation);
+  }
+
+  /**
+   * The transport used by APIs which are not provided one explicitly.
+   *
+   * @return the shared default transport
+   */
+  public static HttpTransportImpl getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  private static class DefaultHolder {
+    private static final HttpTransportImpl INSTANCE = (HttpTransportImpl) HttpTransport.builder().build();
+  }
+
+  /**
+   * Mutable settings populated by the {@link HttpTransport.Builder}.
+   */
+  @Getter
+  @Setter
+  public static class Settings {
+    private int maxIdleConnections = 5;
+    private Duration keepAlive = Duration.ofMinutes(5);
+    private boolean http2 = true;
+    private Duration connectTimeout = Duration.ofSeconds(10);
+    private Duration readTimeout = Duration.ofSeconds(60);
+    private int maxRequests = 64;
+    private int maxRequestsPerHost = 5;
+    private long cacheSize = 0;
+    private File cacheDirectory;
+    private long cacheDirectorySize = 0;
+    private double rateLimit = 0;
+    private int rateLimitBurst = 1;
+    private Duration maxThrottleWait = Duration.ofMinutes(2);
+  }
+}
@@ -0,0 +1,192 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.FilterInputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.adobe.aio.cloudmanager.Instrumentation;
+import feign.AsyncClient;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+/**
+ * Wraps the Feign client of an API so each request is reported to the {@link Instrumentation}.
+ * <p>
+ * The API and method names come from the Feign target: the API implementation class, without its {@code Impl} suffix, and the name of the client interface method.
+ * <p>
+ * A call ends when its response body is closed, which is once it has been decoded, so the time reported includes reading the body; list bodies are only read as their items are consumed.
+ */
+public class InstrumentationCapability implements Capability {
+
+  private final Instrumentation instrumentation;
+
+  public InstrumentationCapability(Instrumentation instrumentation) {
+    this.instrumentation = instrumentation;
+  }
+
+  @Override
+  public Client enrich(Client client) {
+    return (request, options) -> {
+      Instrumentation.Call call = start(request);
+      Response response;
+      try {
+        response = client.execute(request, options);
+      } catch (IOException | RuntimeException e) {
+        call.end(0, e);
+        throw e;
+      }
+      return timed(response, call);
+    };
+  }
+
+  @Override
+  public AsyncClient<Object> enrich(AsyncClient<Object> client) {
+    return (request, options, context) -> {
+      Instrumentation.Call call = start(request);
+      CompletableFuture<Response> response;
+      try {
+        response = client.execute(request, options, context);
+      } catch (RuntimeException e) {
+        call.end(0, e);
+        throw e;
+      }
+      return response.whenComplete((r, t) -> {
+        if (t != null) {
+          call.end(0, t);
+        }
+      }).thenApply(r -> timed(r, call));
+    };
+  }
+
+  private static Response timed(Response response, Instrumentation.Call call) {
+    if (response.body() == null) {
+      call.end(response.status(), null);
+      return response;
+    }
+    return response.toBuilder().body(new TimedBody(response.body(), () -> call.end(response.status(), null))).build();
+  }
+
+  private Instrumentation.Call start(Request request) {
+    return instrumentation.start(apiName(request), methodName(request));
+  }
+
+  /**
+   * The name of the API making the request: the API implementation class, without its {@code Impl} suffix.
+   *
+   * @param request the request
+   * @return the API name
+   */
+  static String apiName(Request request) {
+    if (request.requestTemplate() == null || request.requestTemplate().feignTarget() == null) {
+      return "unknown";
+    }
+    Class<?> type = request.requestTemplate().feignTarget().type();
+    String name = type.getEnclosingClass() == null ? type.getSimpleName() : type.getEnclosingClass().getSimpleName();
+    return name.endsWith("Impl") ? name.substring(0, name.length() - 4) : name;
+  }
+
+  /**
+   * The name of the client interface method making the request, or the HTTP method if unknown.
+   *
+   * @param request the request
+   * @return the method name
+   */
+  static String methodName(Request request) {
+    if (request.requestTemplate() == null || request.requestTemplate().methodMetadata() == null) {
+      return request.httpMethod().name();
+    }
+    return request.requestTemplate().methodMetadata().method().getName();
+  }
+
+  // Runs the callback once, when either the body or the stream read from it is closed.
+  private static class TimedBody implements Response.Body {
+    private final Response.Body delegate;
+    private final Runnable onClose;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private TimedBody(Response.Body delegate, Runnable onClose) {
+      this.delegate = delegate;
+      this.onClose = onClose;
+    }
+
+    @Override
+    public Integer length() {
+      return delegate.length();
+    }
+
+    @Override
+    public boolean isRepeatable() {
+      return delegate.isRepeatable();
+    }
+
+    @Override
+    public InputStream asInputStream() throws IOException {
+      return new FilterInputStream(delegate.asInputStream()) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            ended();
+          }
+        }
+      };
+    }
+
+    @Override
+    public Reader asReader(Charset charset) throws IOException {
+      return new FilterReader(delegate.asReader(charset)) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            ended();
+          }
+        }
+      };
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        delegate.close();
+      } finally {
+        ended();
+      }
+    }
+
+    private void ended() {
+      if (closed.compareAndSet(false, true)) {
+        onClose.run();
+      }
+    }
+  }
+}
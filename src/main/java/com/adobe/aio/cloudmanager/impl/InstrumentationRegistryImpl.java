@@ -0,0 +1,190 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.adobe.aio.cloudmanager.InstrumentationRegistry;
+import lombok.Value;
+
+public class InstrumentationRegistryImpl implements InstrumentationRegistry {
+
+  private final Map<Key, TimerImpl> timers = new ConcurrentHashMap<>();
+  private final Map<Key, AtomicLong> inFlight = new ConcurrentHashMap<>();
+  private final Map<Key, LongAdder> retries = new ConcurrentHashMap<>();
+  private final Map<Key, LongAdder> exhausted = new ConcurrentHashMap<>();
+
+  @Override
+  public Call start(String api, String method) {
+    AtomicLong gauge = inFlight.computeIfAbsent(new Key(api, method, 0), k -> new AtomicLong());
+    gauge.incrementAndGet();
+    long start = System.nanoTime();
+    return (status, error) -> {
+      long elapsed = System.nanoTime() - start;
+      gauge.decrementAndGet();
+      timers.computeIfAbsent(new Key(api, method, status), TimerImpl::new).record(elapsed, error != null || status == 0 || status >= 400);
+    };
+  }
+
+  @Override
+  public void retried(String api, String method) {
+    retries.computeIfAbsent(new Key(api, method, 0), k -> new LongAdder()).increment();
+  }
+
+  @Override
+  public void exhausted(String api, String method) {
+    exhausted.computeIfAbsent(new Key(api, method, 0), k -> new LongAdder()).increment();
+  }
+
+  @Override
+  public Collection<Timer> getTimers() {
+    return new ArrayList<>(timers.values());
+  }
+
+  @Override
+  public long getInFlight(String api, String method) {
+    AtomicLong gauge = inFlight.get(new Key(api, method, 0));
+    return gauge == null ? 0 : gauge.get();
+  }
+
+  @Override
+  public long getRetries(String api, String method) {
+    LongAdder count = retries.get(new Key(api, method, 0));
+    return count == null ? 0 : count.sum();
+  }
+
+  @Override
+  public long getExhausted(String api, String method) {
+    LongAdder count = exhausted.get(new Key(api, method, 0));
+    return count == null ? 0 : count.sum();
+  }
+
+  @Override
+  public String scrape() {
+    List<TimerImpl> sorted = new ArrayList<>(timers.values());
+    sorted.sort(Comparator.comparing((TimerImpl t) -> t.key.api).thenComparing(t -> t.key.method).thenComparingInt(t -> t.key.status));
+    StringBuilder builder = new StringBuilder();
+    builder.append("# TYPE cloudmanager_requests_seconds summary\n");
+    for (TimerImpl timer : sorted) {
+      String labels = "api=\"%s\",method=\"%s\",status=\"%d\"".formatted(timer.key.api, timer.key.method, timer.key.status);
+      builder.append("cloudmanager_requests_seconds_count{").append(labels).append("} ").append(timer.getCount()).append('\n');
+      builder.append("cloudmanager_requests_seconds_sum{").append(labels).append("} ").append(seconds(timer.total.sum())).append('\n');
+    }
+    builder.append("# TYPE cloudmanager_requests_seconds_max gauge\n");
+    for (TimerImpl timer : sorted) {
+      builder.append("cloudmanager_requests_seconds_max{api=\"%s\",method=\"%s\",status=\"%d\"} ".formatted(timer.key.api, timer.key.method, timer.key.status)).append(seconds(timer.max.get())).append('\n');
+    }
+    builder.append("# TYPE cloudmanager_request_errors_total counter\n");
+    for (TimerImpl timer : sorted) {
+      builder.append("cloudmanager_request_errors_total{api=\"%s\",method=\"%s\",status=\"%d\"} ".formatted(timer.key.api, timer.key.method, timer.key.status)).append(timer.getErrorCount()).append('\n');
+    }
+    builder.append("# TYPE cloudmanager_requests_in_flight gauge\n");
+    inFlight.entrySet().stream()
+        .sorted(Comparator.comparing((Map.Entry<Key, AtomicLong> e) -> e.getKey().api).thenComparing(e -> e.getKey().method))
+        .forEach(e -> builder.append("cloudmanager_requests_in_flight{api=\"%s\",method=\"%s\"} ".formatted(e.getKey().api, e.getKey().method)).append(e.getValue().get()).append('\n'));
+    counters(builder, "cloudmanager_request_retries_total", retries);
+    counters(builder, "cloudmanager_request_retries_exhausted_total", exhausted);
+    return builder.toString();
+  }
+
+  private static void counters(StringBuilder builder, String name, Map<Key, LongAdder> counts) {
+    builder.append("# TYPE ").append(name).append(" counter\n");
+    counts.entrySet().stream()
+        .sorted(Comparator.comparing((Map.Entry<Key, LongAdder> e) -> e.getKey().api).thenComparing(e -> e.getKey().method))
+        .forEach(e -> builder.append(name).append("{api=\"%s\",method=\"%s\"} ".formatted(e.getKey().api, e.getKey().method)).append(e.getValue().sum()).append('\n'));
+  }
+
+  private static String seconds(long nanos) {
+    return Double.toString(nanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Value
+  private static class Key {
+    String api;
+    String method;
+    int status;
+  }
+
+  private static class TimerImpl implements Timer {
+    private final Key key;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    private TimerImpl(Key key) {
+      this.key = key;
+    }
+
+    private void record(long nanos, boolean error) {
+      count.increment();
+      if (error) {
+        errors.increment();
+      }
+      total.add(nanos);
+      max.accumulateAndGet(nanos, Math::max);
+    }
+
+    @Override
+    public String getApi() {
+      return key.api;
+    }
+
+    @Override
+    public String getMethod() {
+      return key.method;
+    }
+
+    @Override
+    public int getStatus() {
+      return key.status;
+    }
+
+    @Override
+    public long getCount() {
+      return count.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+      return errors.sum();
+    }
+
+    @Override
+    public Duration getTotalTime() {
+      return Duration.ofNanos(total.sum());
+    }
+
+    @Override
+    public Duration getMaxTime() {
+      return Duration.ofNanos(max.get());
+    }
+  }
+}
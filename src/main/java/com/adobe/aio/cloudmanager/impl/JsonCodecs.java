@@ -0,0 +1,138 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.adobe.aio.cloudmanager.impl.generated.ContentSetList;
+import com.adobe.aio.cloudmanager.impl.generated.EmbeddedProgram;
+import com.adobe.aio.cloudmanager.impl.generated.Environment;
+import com.adobe.aio.cloudmanager.impl.generated.EnvironmentList;
+import com.adobe.aio.cloudmanager.impl.generated.Pipeline;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineExecution;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionListRepresentation;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineList;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineStepMetrics;
+import com.adobe.aio.cloudmanager.impl.generated.ProgramList;
+import com.adobe.aio.cloudmanager.impl.generated.RegionDeploymentList;
+import com.adobe.aio.cloudmanager.impl.generated.Repository;
+import com.adobe.aio.cloudmanager.impl.generated.RepositoryList;
+import com.adobe.aio.cloudmanager.impl.generated.TenantList;
+import com.adobe.aio.cloudmanager.impl.generated.VariableList;
+import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionEndEvent;
+import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStartEvent;
+import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStepEndEvent;
+import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStepStartEvent;
+import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStepWaitingEvent;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Registry of the JSON codecs shared by all API instances.
+ * <p>
+ * There is one configured mapper, so (de)serializers are introspected once per type rather than once per API. Readers and writers are immutable and cached per type.
+ * If the Jackson Blackbird module is on the classpath, it is registered to replace reflective property access.
+ */
+public class JsonCodecs {
+
+  private static final String BLACKBIRD = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+  // Response representations; building their readers resolves the deserializers of everything they embed.
+  private static final List<Class<?>> REPRESENTATIONS = List.of(
+      TenantList.class, ProgramList.class, EmbeddedProgram.class,
+      EnvironmentList.class, Environment.class, RegionDeploymentList.class, VariableList.class,
+      PipelineList.class, Pipeline.class, PipelineExecution.class, PipelineExecutionListRepresentation.class, PipelineStepMetrics.class,
+      RepositoryList.class, Repository.class, ContentSetList.class,
+      PipelineExecutionStartEvent.class, PipelineExecutionEndEvent.class, PipelineExecutionStepStartEvent.class,
+      PipelineExecutionStepWaitingEvent.class, PipelineExecutionStepEndEvent.class
+  );
+
+  private static final ObjectMapper MAPPER = createMapper();
+  private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+  private JsonCodecs() {
+
+  }
+
+  /**
+   * The shared mapper. It must not be reconfigured.
+   *
+   * @return the mapper
+   */
+  public static ObjectMapper mapper() {
+    return MAPPER;
+  }
+
+  /**
+   * Reader for the type, created on first use.
+   *
+   * @param type the type to read
+   * @return the reader
+   */
+  public static ObjectReader reader(Class<?> type) {
+    return READERS.computeIfAbsent(type, MAPPER::readerFor);
+  }
+
+  /**
+   * Writer for the type, created on first use.
+   *
+   * @param type the type to write
+   * @return the writer
+   */
+  public static ObjectWriter writer(Class<?> type) {
+    return WRITERS.computeIfAbsent(type, MAPPER::writerFor);
+  }
+
+  /**
+   * Builds the readers of the API representations, so that the first responses don't pay for deserializer construction.
+   * Safe to call more than once, and from any thread.
+   */
+  public static void warmUp() {
+    REPRESENTATIONS.forEach(JsonCodecs::reader);
+  }
+
+  private static ObjectMapper createMapper() {
+    JsonMapper.Builder builder = JsonMapper.builder()
+        .serializationInclusion(JsonInclude.Include.NON_NULL)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .disable(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE)
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING)
+        .enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
+        .addModule(new JavaTimeModule());
+    try {
+      builder.addModule((Module) Class.forName(BLACKBIRD).getDeclaredConstructor().newInstance());
+    } catch (ReflectiveOperationException | LinkageError e) {
+      // Optional; properties are accessed reflectively without it.
+    }
+    return builder.build();
+  }
+}
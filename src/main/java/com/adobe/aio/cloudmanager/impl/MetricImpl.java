@@ -20,15 +20,19 @@ package com.adobe.aio.cloudmanager.impl;
  * #L%
  */
 
+import java.io.Serializable;
+
 import com.adobe.aio.cloudmanager.impl.generated.Metric;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class MetricImpl extends Metric implements com.adobe.aio.cloudmanager.Metric {
+public class MetricImpl implements com.adobe.aio.cloudmanager.Metric, Serializable {
 
+  @Getter
   @Delegate
   private final Metric delegate;
 
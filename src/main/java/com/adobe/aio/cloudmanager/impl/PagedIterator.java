@@ -0,0 +1,183 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.exception.UncheckedCloudManagerApiException;
+
+/**
+ * Iterates over a paged list resource, requesting pages only as they are consumed.
+ * <p>
+ * The first page is fetched on the consuming thread. Once half of a page has been consumed, the next one is submitted to the executor, if any; the consuming
+ * thread fetches it itself if the executor has not started it by the time it is needed. The iteration follows the paging details of each response: it ends
+ * when the total number of items has been reached, or when the response has no next page. Without paging details, a page shorter than the page size ends it.
+ *
+ * @param <T> the type of the elements
+ */
+public class PagedIterator<T> implements Iterator<T>, AutoCloseable {
+
+  public static final int DEFAULT_PAGE_SIZE = 50;
+
+  private final PageFetcher<T> fetcher;
+  private final int pageSize;
+  private final Executor executor;
+  private Iterator<T> current = Collections.emptyIterator();
+  private FutureTask<Page<T>> pending;
+  private int start;
+  private int remaining;
+  private int prefetchAt;
+  private boolean last;
+
+  public PagedIterator(PageFetcher<T> fetcher, int pageSize, Executor executor) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size must be positive.");
+    }
+    this.fetcher = fetcher;
+    this.pageSize = pageSize;
+    this.executor = executor;
+  }
+
+  /**
+   * Create a sequential, ordered stream over the paged resource. Closing the stream discards any prefetched page.
+   *
+   * @param fetcher  retrieves a page of the resource
+   * @param pageSize the number of elements to request per page
+   * @param executor the executor on which to prefetch pages, or null to fetch each on the consuming thread
+   * @param <T>      the type of the elements
+   * @return a lazy stream
+   */
+  public static <T> Stream<T> stream(PageFetcher<T> fetcher, int pageSize, Executor executor) {
+    PagedIterator<T> iterator = new PagedIterator<>(fetcher, pageSize, executor);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(iterator::close);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!current.hasNext()) {
+      if (last) {
+        return false;
+      }
+      Page<T> page = pending == null ? fetch(start) : await(pending);
+      pending = null;
+      last = !page.hasMore(start, pageSize);
+      start = page.next(start);
+      current = page.items().iterator();
+      remaining = page.items().size();
+      prefetchAt = remaining / 2;
+    }
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T next = current.next();
+    if (--remaining == prefetchAt && !last && executor != null) {
+      final int offset = start;
+      pending = new FutureTask<>(() -> fetch(offset));
+      executor.execute(pending);
+    }
+    return next;
+  }
+
+  @Override
+  public void close() {
+    last = true;
+    current = Collections.emptyIterator();
+    if (pending != null) {
+      pending.cancel(true);
+      pending = null;
+    }
+  }
+
+  private Page<T> fetch(int offset) {
+    try {
+      return fetcher.fetch(offset, pageSize);
+    } catch (CloudManagerApiException e) {
+      throw new UncheckedCloudManagerApiException(e);
+    }
+  }
+
+  // Runs the prefetch here if the executor has not started it.
+  private static <T> Page<T> await(FutureTask<Page<T>> future) {
+    future.run();
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new UncheckedCloudManagerApiException(new CloudManagerApiException("Cannot retrieve page: %s.".formatted(e.getCause().getLocalizedMessage())));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UncheckedCloudManagerApiException(new CloudManagerApiException("Interrupted retrieving page."));
+    }
+  }
+
+  @FunctionalInterface
+  public interface PageFetcher<T> {
+    Page<T> fetch(int start, int limit) throws CloudManagerApiException;
+  }
+
+  /**
+   * A page of items, with the paging details of the response when it provided them.
+   *
+   * @param items the items
+   * @param next  the start of the next page ({@code _page.next}), or null
+   * @param total the total number of items ({@code _totalNumberOfItems}), or null
+   * @param <T>   the type of the items
+   */
+  public record Page<T>(Collection<T> items, Integer next, Integer total) {
+
+    boolean hasMore(int start, int limit) {
+      int count = items.size();
+      if (count == 0) {
+        return false;
+      }
+      if (total != null) {
+        return start + count < total;
+      }
+      if (next != null) {
+        return next > start;
+      }
+      return count >= limit;
+    }
+
+    // The server may return fewer items than requested, so continue from where this page ended unless told otherwise.
+    int next(int start) {
+      return next != null && next > start ? next : start + items.size();
+    }
+  }
+}
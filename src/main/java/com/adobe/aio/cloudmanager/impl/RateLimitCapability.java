@@ -0,0 +1,209 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import feign.AsyncClient;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+/**
+ * Token bucket rate limiter, with one bucket per API key so all APIs of a workspace sharing the transport share its limit.
+ * <p>
+ * Requests wait for a token rather than being sent over the limit. A {@code 429 Too Many Requests} or {@code 503 Service Unavailable} response pauses the bucket
+ * for the {@code Retry-After} period, or an exponential backoff without one, halves its rate, and the request is sent again once the pause is over. The rate
+ * recovers towards the configured limit as requests succeed. Throttled responses are only returned when the next attempt would exceed the maximum wait.
+ * <p>
+ * A {@code 429} means the request was not processed, so any request is sent again after one; a {@code 503} may come from a gateway after the API acted on the
+ * request, so only repeatable requests are sent again after one, see {@link FeignUtil#isRepeatable(Request)}. Throttled statuses are left to this capability:
+ * a {@link RetryCapability} on the same client does not retry them as well.
+ * <p>
+ * Synchronous clients wait on the calling thread. Asynchronous clients schedule each attempt once its wait is over, so no thread is held while waiting.
+ * One instance is shared by all the clients of a transport.
+ */
+public class RateLimitCapability implements Capability {
+
+  private static final String KEY_HEADER = "x-api-key";
+  private static final long INITIAL_BACKOFF = TimeUnit.SECONDS.toNanos(1);
+  private static final long MAX_BACKOFF = TimeUnit.MINUTES.toNanos(1);
+  private static final double MIN_RATE_FACTOR = 1.0 / 16;
+  private static final double RECOVERY_FACTOR = 1.0 / 20;
+
+  private final double rate;
+  private final int burst;
+  private final long maxWait;
+  private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+  public RateLimitCapability(double rate, int burst, Duration maxWait) {
+    this.rate = rate;
+    this.burst = burst;
+    this.maxWait = maxWait.toNanos();
+  }
+
+  @Override
+  public Client enrich(Client client) {
+    return (request, options) -> {
+      Bucket bucket = bucket(request);
+      long deadline = System.nanoTime() + maxWait;
+      while (true) {
+        sleep(bucket.acquire());
+        Response response = client.execute(request, options);
+        if (!resend(bucket, request, response, deadline)) {
+          return response;
+        }
+        response.close();
+      }
+    };
+  }
+
+  @Override
+  public AsyncClient<Object> enrich(AsyncClient<Object> client) {
+    return (request, options, context) -> send(client, request, options, context, bucket(request), System.nanoTime() + maxWait);
+  }
+
+  private CompletableFuture<Response> send(AsyncClient<Object> client, Request request, Request.Options options, Optional<Object> context, Bucket bucket, long deadline) {
+    long wait = bucket.acquire();
+    CompletableFuture<Void> ready = wait <= 0 ? CompletableFuture.completedFuture(null) : CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS));
+    return ready.thenCompose(ignored -> client.execute(request, options, context)).thenCompose(response -> {
+      if (!resend(bucket, request, response, deadline)) {
+        return CompletableFuture.completedFuture(response);
+      }
+      response.close();
+      return send(client, request, options, context, bucket, deadline);
+    });
+  }
+
+  private Bucket bucket(Request request) {
+    Collection<String> keys = request.headers().get(KEY_HEADER);
+    return buckets.computeIfAbsent(keys == null || keys.isEmpty() ? "" : keys.iterator().next(), k -> new Bucket());
+  }
+
+  /**
+   * Record the outcome of an attempt, returning whether the request is to be sent again.
+   */
+  private static boolean resend(Bucket bucket, Request request, Response response, long deadline) {
+    if (response.status() != 429 && response.status() != 503) {
+      bucket.succeeded();
+      return false;
+    }
+    long delay = bucket.throttled(retryAfter(response));
+    return System.nanoTime() + delay <= deadline && (response.status() == 429 || FeignUtil.isRepeatable(request));
+  }
+
+  /**
+   * The delay requested by the server, in nanoseconds.
+   *
+   * @return the delay, or -1 if none was given
+   */
+  private static long retryAfter(Response response) {
+    Collection<String> values = response.headers().get("Retry-After");
+    if (values == null || values.isEmpty()) {
+      return -1;
+    }
+    String value = values.iterator().next().trim();
+    try {
+      return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(value)));
+    } catch (NumberFormatException e) {
+      try {
+        return Math.max(0, Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME)).toNanos());
+      } catch (DateTimeParseException ex) {
+        return -1;
+      }
+    }
+  }
+
+  private static void sleep(long nanos) throws InterruptedIOException {
+    if (nanos <= 0) {
+      return;
+    }
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting for rate limit.");
+    }
+  }
+
+  private class Bucket {
+    private double tokens = burst;
+    private double current = rate;
+    // Tokens accrue from this time on; it is in the future while the bucket is paused.
+    private long updated = System.nanoTime();
+    private long backoff = INITIAL_BACKOFF;
+
+    /**
+     * Reserve a token, returning how long to wait before using it. Tokens may be reserved ahead of time, so waiting requests are served in order.
+     */
+    synchronized long acquire() {
+      long now = System.nanoTime();
+      refill(now);
+      tokens -= 1;
+      long wait = Math.max(0, updated - now);
+      return tokens < 0 ? wait + (long) (-tokens / current * TimeUnit.SECONDS.toNanos(1)) : wait;
+    }
+
+    synchronized void succeeded() {
+      refill(System.nanoTime());
+      current = Math.min(rate, current + rate * RECOVERY_FACTOR);
+      backoff = INITIAL_BACKOFF;
+    }
+
+    /**
+     * Pause the bucket and reduce its rate.
+     *
+     * @param retryAfter the delay requested by the server, or -1 to back off exponentially
+     * @return the pause
+     */
+    synchronized long throttled(long retryAfter) {
+      long now = System.nanoTime();
+      refill(now);
+      long delay = retryAfter;
+      if (delay < 0) {
+        delay = backoff;
+        backoff = Math.min(MAX_BACKOFF, backoff * 2);
+      }
+      current = Math.max(rate * MIN_RATE_FACTOR, current / 2);
+      tokens = Math.min(tokens, 0);
+      updated = Math.max(updated, now + delay);
+      return delay;
+    }
+
+    private void refill(long now) {
+      if (now > updated) {
+        tokens = Math.min(burst, tokens + (now - updated) * current / TimeUnit.SECONDS.toNanos(1));
+        updated = now;
+      }
+    }
+  }
+}
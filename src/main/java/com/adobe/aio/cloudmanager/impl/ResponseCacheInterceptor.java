@@ -0,0 +1,173 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Size-bounded, in-memory cache of GET responses carrying an {@code ETag} or {@code Last-Modified} validator.
+ * <p>
+ * Cached responses are never served without asking the server: each request for a cached resource is sent with {@code If-None-Match} / {@code If-Modified-Since},
+ * and a {@code 304 Not Modified} answer is replaced by the cached body. Entries are keyed on the URL and a digest of the credentials of the request, and evicted least recently used first.
+ * <p>
+ * Only Cloud Manager API requests, which carry an API key, are cached. Presigned log and artifact downloads, and API requests redirected to another host, pass through
+ * untouched, so they are streamed rather than buffered.
+ */
+public class ResponseCacheInterceptor implements Interceptor {
+
+  private static final String API_KEY_HEADER = "x-api-key";
+  private static final String[] KEY_HEADERS = { "Authorization", API_KEY_HEADER, "x-gw-ims-org-id" };
+
+  private final long maxSize;
+  private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long size;
+
+  public ResponseCacheInterceptor(long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Request request = chain.request();
+    if (!"GET".equals(request.method()) || request.header(API_KEY_HEADER) == null) {
+      return chain.proceed(request);
+    }
+
+    String key = key(request);
+    Entry cached = get(key);
+    Request.Builder conditional = request.newBuilder();
+    if (cached != null) {
+      if (cached.etag != null && request.header("If-None-Match") == null) {
+        conditional.header("If-None-Match", cached.etag);
+      }
+      if (cached.lastModified != null && request.header("If-Modified-Since") == null) {
+        conditional.header("If-Modified-Since", cached.lastModified);
+      }
+    }
+
+    Response response = chain.proceed(conditional.build());
+    if (response.code() == 304 && cached != null) {
+      response.close();
+      return cached.toResponse(response);
+    }
+    if (response.code() != 200 || response.body() == null || !response.request().url().host().equals(request.url().host())) {
+      return response;
+    }
+
+    String etag = response.header("ETag");
+    String lastModified = response.header("Last-Modified");
+    String cacheControl = response.header("Cache-Control");
+    if (etag == null && lastModified == null || cacheControl != null && cacheControl.contains("no-store") || response.body().contentLength() > maxSize) {
+      remove(key);
+      return response;
+    }
+
+    // Bodies of unknown length are only read up to the cache size, a larger one is passed on untouched.
+    byte[] body = response.peekBody(Math.min(maxSize, Long.MAX_VALUE - 1) + 1).bytes();
+    if (body.length > maxSize) {
+      remove(key);
+      return response;
+    }
+    MediaType contentType = response.body().contentType();
+    response.close();
+    put(key, new Entry(response.headers(), contentType, body, etag, lastModified));
+    return response.newBuilder().body(ResponseBody.create(body, contentType)).build();
+  }
+
+  // The credentials are digested, so bearer tokens are not held in the cache.
+  private static String key(Request request) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available.", e);
+    }
+    for (String name : KEY_HEADERS) {
+      digest.update(String.valueOf(request.header(name)).getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) '\n');
+    }
+    return request.url() + "\n" + HexFormat.of().formatHex(digest.digest());
+  }
+
+  private synchronized Entry get(String key) {
+    return entries.get(key);
+  }
+
+  private synchronized void remove(String key) {
+    Entry removed = entries.remove(key);
+    if (removed != null) {
+      size -= removed.body.length;
+    }
+  }
+
+  private synchronized void put(String key, Entry entry) {
+    remove(key);
+    if (entry.body.length > maxSize) {
+      return;
+    }
+    entries.put(key, entry);
+    size += entry.body.length;
+    Iterator<Entry> eldest = entries.values().iterator();
+    while (size > maxSize && eldest.hasNext()) {
+      size -= eldest.next().body.length;
+      eldest.remove();
+    }
+  }
+
+  private static class Entry {
+    private final Headers headers;
+    private final MediaType contentType;
+    private final byte[] body;
+    private final String etag;
+    private final String lastModified;
+
+    private Entry(Headers headers, MediaType contentType, byte[] body, String etag, String lastModified) {
+      this.headers = headers;
+      this.contentType = contentType;
+      this.body = body;
+      this.etag = etag;
+      this.lastModified = lastModified;
+    }
+
+    private Response toResponse(Response notModified) {
+      return notModified.newBuilder()
+          .code(200)
+          .message("OK")
+          .headers(headers)
+          .body(ResponseBody.create(body, contentType))
+          .build();
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.Instrumentation;
+import feign.AsyncClient;
+import feign.Capability;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.codec.ErrorDecoder;
+
+/**
+ * Applies a {@link RetryPolicyImpl} to a Feign client.
+ * <p>
+ * The error decoder of each API is wrapped so that transient statuses are signalled as {@link RetryableException}s, carrying the API's own exception as the cause.
+ * Clients using this capability unwrap exceptions, so once retries stop the API exception is thrown unchanged.
+ * <p>
+ * Only repeatable requests are retried, see {@link FeignUtil#isRepeatable(Request)}, unless the policy retries non-idempotent requests. Retries and exhausted
+ * policies are counted by the policy, and reported to the instrumentation if there is one.
+ * <p>
+ * Synchronous clients wait out the backoff on the calling thread. Asynchronous clients retry below Feign instead, scheduling each attempt once its backoff has elapsed, so no thread is held while waiting;
+ * their retryer only propagates what is left once the policy stops.
+ */
+public class RetryCapability implements Capability {
+
+  private static final Set<Integer> RETRYABLE_STATUS = Set.of(429, 502, 503, 504);
+  private static final Set<Integer> UNTHROTTLED_STATUS = Set.of(502, 504);
+
+  private final RetryPolicyImpl policy;
+  private final Instrumentation instrumentation;
+  private final Set<Integer> retryable;
+  private final boolean async;
+
+  /**
+   * Create the capability.
+   *
+   * @param policy          the policy
+   * @param instrumentation the instrumentation retries are reported to, or null
+   * @param rateLimited     whether the client is rate limited, in which case throttled statuses are left to the {@link RateLimitCapability}
+   * @param async           whether the capability is for an asynchronous client
+   */
+  public RetryCapability(RetryPolicyImpl policy, Instrumentation instrumentation, boolean rateLimited, boolean async) {
+    this.policy = policy;
+    this.instrumentation = instrumentation;
+    this.retryable = rateLimited ? UNTHROTTLED_STATUS : RETRYABLE_STATUS;
+    this.async = async;
+  }
+
+  @Override
+  public Retryer enrich(Retryer retryer) {
+    return async ? new PropagatingRetryer() : new PolicyRetryer();
+  }
+
+  @Override
+  public AsyncClient<Object> enrich(AsyncClient<Object> client) {
+    if (!async) {
+      return client;
+    }
+    return (request, options, context) -> execute(client, request, options, context, new Attempts());
+  }
+
+  @Override
+  public ErrorDecoder enrich(ErrorDecoder decoder) {
+    return (methodKey, response) -> {
+      Exception decoded = decoder.decode(methodKey, response);
+      if (!retryable.contains(response.status()) || decoded instanceof RetryableException) {
+        return decoded;
+      }
+      return new RetryableException(response.status(), decoded.getMessage(), response.request().httpMethod(), decoded, retryAfter(response.headers().get("Retry-After")), response.request());
+    };
+  }
+
+  private CompletableFuture<Response> execute(AsyncClient<Object> client, Request request, Request.Options options, Optional<Object> context, Attempts attempts) {
+    boolean repeatable = policy.isRetryNonIdempotent() || FeignUtil.isRepeatable(request);
+    return client.execute(request, options, context).handle((response, failure) -> {
+      long delay;
+      if (failure != null) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (!repeatable || !(cause instanceof IOException) || (delay = attempts.next(request, null)) < 0) {
+          return CompletableFuture.<Response>failedFuture(failure);
+        }
+      } else {
+        if (!repeatable || !retryable.contains(response.status()) || (delay = attempts.next(request, retryAfter(response.headers().get("Retry-After")))) < 0) {
+          return CompletableFuture.completedFuture(response);
+        }
+        response.close();
+      }
+      attempts.retried(request);
+      return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+          .thenCompose(ignored -> execute(client, request, options, context, attempts));
+    }).thenCompose(Function.identity());
+  }
+
+  private static Long retryAfter(Collection<String> values) {
+    if (values == null || values.isEmpty()) {
+      return null;
+    }
+    try {
+      return System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(Long.parseLong(values.iterator().next().trim()));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Only API exceptions are unwrapped; other causes, such as I/O errors, are left in place so they surface as before.
+   */
+  private static RetryableException propagate(RetryableException e) {
+    if (e.getCause() == null || e.getCause() instanceof CloudManagerApiException) {
+      return e;
+    }
+    RetryableException wrapped = new RetryableException(e.status(), e.getMessage(), e.method(), e.retryAfter(), e.request());
+    wrapped.addSuppressed(e.getCause());
+    return wrapped;
+  }
+
+  // Tracks the attempts of one call against the policy.
+  private class Attempts {
+    private final long start = System.nanoTime();
+    private int attempt = 1;
+
+    // Returns the delay in milliseconds before the next attempt, or -1 once the policy allows no more.
+    long next(Request request, Long retryAfter) {
+      long backoff = policy.getInitialBackoff().toMillis() << Math.min(attempt - 1, 30);
+      long delay = ThreadLocalRandom.current().nextLong(Math.min(backoff, policy.getMaxBackoff().toMillis()) + 1);
+      if (retryAfter != null) {
+        delay = Math.max(delay, retryAfter - System.currentTimeMillis());
+      }
+      if (attempt >= policy.getMaxAttempts() || TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + delay > policy.getTimeBudget().toMillis()) {
+        policy.exhausted();
+        if (instrumentation != null) {
+          instrumentation.exhausted(InstrumentationCapability.apiName(request), InstrumentationCapability.methodName(request));
+        }
+        return -1;
+      }
+      return delay;
+    }
+
+    void retried(Request request) {
+      attempt++;
+      policy.retried();
+      if (instrumentation != null) {
+        instrumentation.retried(InstrumentationCapability.apiName(request), InstrumentationCapability.methodName(request));
+      }
+    }
+  }
+
+  private class PolicyRetryer implements Retryer {
+    private final Attempts attempts = new Attempts();
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+      if (e.request() == null || (!policy.isRetryNonIdempotent() && !FeignUtil.isRepeatable(e.request()))) {
+        throw propagate(e);
+      }
+      long delay = attempts.next(e.request(), e.retryAfter());
+      if (delay < 0) {
+        throw propagate(e);
+      }
+      try {
+        Thread.sleep(delay);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw propagate(e);
+      }
+      attempts.retried(e.request());
+    }
+
+    @Override
+    public Retryer clone() {
+      return new PolicyRetryer();
+    }
+  }
+
+  private static class PropagatingRetryer implements Retryer {
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+      throw propagate(e);
+    }
+
+    @Override
+    public Retryer clone() {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.adobe.aio.cloudmanager.RetryPolicy;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+public class RetryPolicyImpl implements RetryPolicy {
+
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final Duration timeBudget;
+  private final boolean retryNonIdempotent;
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  private final AtomicLong retries = new AtomicLong();
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  private final AtomicLong exhausted = new AtomicLong();
+
+  public RetryPolicyImpl(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration timeBudget, boolean retryNonIdempotent) {
+    this.maxAttempts = maxAttempts;
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+    this.timeBudget = timeBudget;
+    this.retryNonIdempotent = retryNonIdempotent;
+  }
+
+  @Override
+  public long getRetryCount() {
+    return retries.get();
+  }
+
+  @Override
+  public long getExhaustedCount() {
+    return exhausted.get();
+  }
+
+  void retried() {
+    retries.incrementAndGet();
+  }
+
+  void exhausted() {
+    exhausted.incrementAndGet();
+  }
+}
@@ -20,17 +20,21 @@ package com.adobe.aio.cloudmanager.impl;
  * #L%
  */
 
+import java.io.Serializable;
+
 import com.adobe.aio.cloudmanager.Environment;
 import com.adobe.aio.cloudmanager.Variable;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class VariableImpl extends com.adobe.aio.cloudmanager.impl.generated.Variable implements Variable {
+public class VariableImpl implements Variable, Serializable {
   private static final long serialVersionUID = 1L;
 
+  @Getter
   @Delegate
   private final com.adobe.aio.cloudmanager.impl.generated.Variable delegate;
 
@@ -0,0 +1,137 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.stream.Collectors;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.Variable;
+import lombok.Value;
+
+/**
+ * Brings the variables of many environments or pipelines to a desired state, sending only the changes.
+ * <p>
+ * Variables are identified by name and service. A string variable is changed when its type or value differs; a secret's value is never returned, so a desired secret is always sent.
+ * Current variables absent from the desired set are deleted, by sending them without a value. Each target is retrieved and then updated as one task, on the executor if any.
+ */
+public class VariableSync<T> {
+
+  private final Target<T> target;
+  private final ExecutorService executor;
+  private final String description;
+
+  public VariableSync(Target<T> target, ExecutorService executor, String description) {
+    this.target = target;
+    this.executor = executor;
+    this.description = description;
+  }
+
+  /**
+   * Synchronize each target with its desired variables.
+   *
+   * @param desired the desired variables of each target
+   * @return the changes sent to each target, in the order given; empty for targets which were already in sync
+   * @throws CloudManagerApiException when any target cannot be retrieved or updated
+   */
+  public Map<T, Set<Variable>> sync(Map<T, ? extends Collection<Variable>> desired) throws CloudManagerApiException {
+    Map<T, Set<Variable>> results = new LinkedHashMap<>();
+    try (FanOut fanOut = new FanOut(executor, "Cannot synchronize %s variables".formatted(description), "Interrupted synchronizing %s variables.".formatted(description))) {
+      Map<T, FutureTask<Set<Variable>>> pending = new LinkedHashMap<>();
+      desired.forEach((t, variables) -> pending.put(t, fanOut.submit(() -> sync(t, variables))));
+      for (Map.Entry<T, FutureTask<Set<Variable>>> entry : pending.entrySet()) {
+        results.put(entry.getKey(), fanOut.await(entry.getValue()));
+      }
+    }
+    return results;
+  }
+
+  private Set<Variable> sync(T t, Collection<Variable> variables) throws CloudManagerApiException {
+    List<com.adobe.aio.cloudmanager.impl.generated.Variable> changes = diff(target.get(t), variables);
+    if (!changes.isEmpty()) {
+      target.set(t, changes);
+    }
+    return changes.stream().map(VariableImpl::new).collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * The changes needed to turn the current variables into the desired ones.
+   *
+   * @param current the current variables
+   * @param desired the desired variables
+   * @return the variables to send, empty if none differ
+   */
+  static List<com.adobe.aio.cloudmanager.impl.generated.Variable> diff(Collection<Variable> current, Collection<Variable> desired) {
+    Map<Key, Variable> existing = new LinkedHashMap<>();
+    current.forEach(v -> existing.put(Key.of(v), v));
+    List<com.adobe.aio.cloudmanager.impl.generated.Variable> changes = new ArrayList<>();
+    for (Variable v : desired) {
+      Variable found = existing.remove(Key.of(v));
+      if (found == null || found.getVarType() != v.getVarType() || v.getVarType() == Variable.Type.SECRET || !Objects.equals(found.getValue(), v.getValue())) {
+        changes.add(toGenerated(v, v.getValue()));
+      }
+    }
+    existing.values().forEach(v -> changes.add(toGenerated(v, null)));
+    return changes;
+  }
+
+  private static com.adobe.aio.cloudmanager.impl.generated.Variable toGenerated(Variable v, String value) {
+    return new com.adobe.aio.cloudmanager.impl.generated.Variable()
+        .name(v.getName())
+        .value(value)
+        .type(com.adobe.aio.cloudmanager.impl.generated.Variable.TypeEnum.fromValue(v.getVarType().getValue()))
+        .service(service(v));
+  }
+
+  private static String service(Variable v) {
+    if (v instanceof VariableImpl) {
+      return ((VariableImpl) v).getService();
+    }
+    return v.getTier() == null ? null : v.getTier().name().toLowerCase();
+  }
+
+  /**
+   * Retrieves and updates the variables of one kind of target.
+   */
+  public interface Target<T> {
+    Set<Variable> get(T target) throws CloudManagerApiException;
+
+    void set(T target, List<com.adobe.aio.cloudmanager.impl.generated.Variable> changes) throws CloudManagerApiException;
+  }
+
+  @Value(staticConstructor = "of")
+  private static class Key {
+    String name;
+    String service;
+
+    static Key of(Variable v) {
+      return of(v.getName(), service(v));
+    }
+  }
+}
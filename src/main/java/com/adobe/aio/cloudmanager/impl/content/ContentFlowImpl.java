@@ -20,20 +20,24 @@ package com.adobe.aio.cloudmanager.impl.content;
  * #L%
  */
 
+import java.io.Serializable;
+
 import com.adobe.aio.cloudmanager.ContentFlow;
 import com.adobe.aio.cloudmanager.ContentSetApi;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
 import com.adobe.aio.cloudmanager.impl.generated.ContentFlowResultDetails;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 
 import static com.adobe.aio.cloudmanager.Environment.*;
 
-public class ContentFlowImpl extends com.adobe.aio.cloudmanager.impl.generated.ContentFlow implements ContentFlow {
+public class ContentFlowImpl implements ContentFlow, Serializable {
 
   private static final long serialVersionUID = 1L;
 
+  @Getter
   @Delegate
   private final com.adobe.aio.cloudmanager.impl.generated.ContentFlow delegate;
 
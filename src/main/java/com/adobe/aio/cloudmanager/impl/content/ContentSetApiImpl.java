@@ -24,7 +24,9 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.adobe.aio.cloudmanager.ContentFlow;
 import com.adobe.aio.cloudmanager.ContentSet;
@@ -33,10 +35,13 @@ import com.adobe.aio.workspace.Workspace;
 import feign.Param;
 import feign.RequestLine;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.HttpTransport;
 import com.adobe.aio.cloudmanager.Environment;
 import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.Idempotent;
+import com.adobe.aio.cloudmanager.impl.HalItems;
+import com.adobe.aio.cloudmanager.impl.PagedIterator;
 import com.adobe.aio.cloudmanager.impl.generated.ContentFlowInput;
-import com.adobe.aio.cloudmanager.impl.generated.ContentFlowList;
 import com.adobe.aio.cloudmanager.impl.generated.ContentSetList;
 import com.adobe.aio.cloudmanager.impl.generated.ContentSetPath;
 import com.adobe.aio.cloudmanager.impl.generated.NewContentSet;
@@ -46,10 +51,16 @@ import static com.adobe.aio.cloudmanager.Constants.*;
 public class ContentSetApiImpl implements ContentSetApi {
 
   private final FeignApi api;
+  private final ExecutorService executor;
 
-  public ContentSetApiImpl(Workspace workspace, URL url) {
+  public ContentSetApiImpl(Workspace workspace, URL url, HttpTransport transport) {
+    this(workspace, url, transport, null);
+  }
+
+  public ContentSetApiImpl(Workspace workspace, URL url, HttpTransport transport, ExecutorService executor) {
+    this.executor = executor;
     String baseUrl = url == null ? CLOUD_MANAGER_URL : url.toString();
-    api = FeignUtil.getBuilder(workspace).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    api = FeignUtil.getBuilder(workspace, transport).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
   }
 
   @Override
@@ -67,10 +78,25 @@ public class ContentSetApiImpl implements ContentSetApi {
 
   @Override
   public Collection<ContentSet> list(String programId, int start, int limit) throws CloudManagerApiException {
+    return page(programId, start, limit).items();
+  }
+
+  private PagedIterator.Page<ContentSet> page(String programId, int start, int limit) throws CloudManagerApiException {
     ContentSetList list = api.list(programId, start, limit);
-    return list.getEmbedded() == null || list.getEmbedded().getContentSets() == null ?
+    Collection<ContentSet> items = list.getEmbedded() == null || list.getEmbedded().getContentSets() == null ?
         Collections.emptyList() :
         list.getEmbedded().getContentSets().stream().map(cs -> new ContentSetImpl(cs, this)).collect(Collectors.toList());
+    return new PagedIterator.Page<>(items, list.getPage() == null ? null : list.getPage().getNext(), list.getTotalNumberOfItems());
+  }
+
+  @Override
+  public Stream<ContentSet> stream(String programId) {
+    return stream(programId, PagedIterator.DEFAULT_PAGE_SIZE);
+  }
+
+  @Override
+  public Stream<ContentSet> stream(String programId, int pageSize) {
+    return PagedIterator.stream((start, limit) -> page(programId, start, limit), pageSize, executor);
   }
 
   @Override
@@ -103,10 +129,7 @@ public class ContentSetApiImpl implements ContentSetApi {
 
   @Override
   public Collection<ContentFlow> listFlows(String programId) throws CloudManagerApiException {
-    ContentFlowList list = api.listFlows(programId);
-    return list.getEmbedded() == null || list.getEmbedded().getContentFlows() == null ?
-        Collections.emptyList() :
-        list.getEmbedded().getContentFlows().stream().map(cf -> new ContentFlowImpl(cf, this)).collect(Collectors.toList());
+    return api.listFlows(programId).collect(cf -> new ContentFlowImpl(cf, this));
   }
 
   @Override
@@ -116,10 +139,17 @@ public class ContentSetApiImpl implements ContentSetApi {
 
   @Override
   public Collection<ContentFlow> listFlows(String programId, int start, int limit) throws CloudManagerApiException {
-    ContentFlowList list = api.listFlows(programId, start, limit);
-    return list.getEmbedded() == null || list.getEmbedded().getContentFlows() == null ?
-        Collections.emptyList() :
-        list.getEmbedded().getContentFlows().stream().map(cf -> new ContentFlowImpl(cf, this)).collect(Collectors.toList());
+    return api.listFlows(programId, start, limit).collect(cf -> new ContentFlowImpl(cf, this));
+  }
+
+  @Override
+  public Stream<ContentFlow> streamFlows(String programId) {
+    return streamFlows(programId, PagedIterator.DEFAULT_PAGE_SIZE);
+  }
+
+  @Override
+  public Stream<ContentFlow> streamFlows(String programId, int pageSize) {
+    return PagedIterator.stream((start, limit) -> api.listFlows(programId, start, limit).page(cf -> new ContentFlowImpl(cf, this)), pageSize, executor);
   }
 
   @Override
@@ -145,6 +175,10 @@ public class ContentSetApiImpl implements ContentSetApi {
 
   public com.adobe.aio.cloudmanager.impl.generated.ContentSet internalUpdate(String programId, String id, String name, String description, Collection<ContentSet.PathDefinition> definitions) throws CloudManagerApiException {
     com.adobe.aio.cloudmanager.impl.generated.ContentSet current = api.get(programId, id);
+    return api.update(programId, id, merge(current, name, description, definitions));
+  }
+
+  static NewContentSet merge(com.adobe.aio.cloudmanager.impl.generated.ContentSet current, String name, String description, Collection<ContentSet.PathDefinition> definitions) {
     NewContentSet ncs = new NewContentSet();
     ncs.setName(name != null ? name : current.getName());
     ncs.setDescription(description != null ? description : current.getDescription());
@@ -153,7 +187,7 @@ public class ContentSetApiImpl implements ContentSetApi {
     } else {
       ncs.setPaths(current.getPaths());
     }
-    return api.update(programId, id, ncs);
+    return ncs;
   }
 
   interface FeignApi {
@@ -169,6 +203,7 @@ public class ContentSetApiImpl implements ContentSetApi {
     @RequestLine("GET /api/program/{programId}/contentSet/{id}")
     com.adobe.aio.cloudmanager.impl.generated.ContentSet get(@Param("programId") String programId, @Param("id") String id) throws CloudManagerApiException;
 
+    @Idempotent
     @RequestLine("PUT /api/program/{programId}/contentSet/{id}")
     com.adobe.aio.cloudmanager.impl.generated.ContentSet update(@Param("programId") String programId, @Param("id") String id, NewContentSet contentSet) throws CloudManagerApiException;
 
@@ -176,10 +211,10 @@ public class ContentSetApiImpl implements ContentSetApi {
     com.adobe.aio.cloudmanager.impl.generated.ContentSet delete(@Param("programId") String programId, @Param("id") String id) throws CloudManagerApiException;
 
     @RequestLine("GET /api/program/{programId}/contentFlows")
-    ContentFlowList listFlows(@Param("programId") String programId) throws CloudManagerApiException;
+    HalItems<com.adobe.aio.cloudmanager.impl.generated.ContentFlow> listFlows(@Param("programId") String programId) throws CloudManagerApiException;
 
     @RequestLine("GET /api/program/{programId}/contentFlows?start={start}&limit={limit}")
-    ContentFlowList listFlows(@Param("programId") String programId, @Param("start") int start, @Param("limit") int limit) throws CloudManagerApiException;
+    HalItems<com.adobe.aio.cloudmanager.impl.generated.ContentFlow> listFlows(@Param("programId") String programId, @Param("start") int start, @Param("limit") int limit) throws CloudManagerApiException;
 
     @RequestLine("POST /api/program/{programId}/environment/{environmentId}/contentFlow")
     com.adobe.aio.cloudmanager.impl.generated.ContentFlow createFlow(@Param("programId") String programId, @Param("environmentId") String environmentId, ContentFlowInput input) throws CloudManagerApiException;
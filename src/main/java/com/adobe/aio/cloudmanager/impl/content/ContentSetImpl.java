@@ -20,6 +20,7 @@ package com.adobe.aio.cloudmanager.impl.content;
  * #L%
  */
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -28,15 +29,17 @@ import com.adobe.aio.cloudmanager.ContentFlow;
 import com.adobe.aio.cloudmanager.ContentSet;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class ContentSetImpl extends com.adobe.aio.cloudmanager.impl.generated.ContentSet implements ContentSet {
+public class ContentSetImpl implements ContentSet, Serializable {
 
   private static final long serialVersionUID = 1L;
 
+  @Getter
   @Delegate
   private com.adobe.aio.cloudmanager.impl.generated.ContentSet delegate;
 
@@ -0,0 +1,181 @@
+package com.adobe.aio.cloudmanager.impl.environment;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.net.URL;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.adobe.aio.cloudmanager.AsyncEnvironmentApi;
+import com.adobe.aio.cloudmanager.EnvironmentApi;
+import com.adobe.aio.cloudmanager.HttpTransport;
+import com.adobe.aio.cloudmanager.LogOption;
+import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.Idempotent;
+import com.adobe.aio.cloudmanager.impl.generated.Environment;
+import com.adobe.aio.cloudmanager.impl.generated.EnvironmentList;
+import com.adobe.aio.cloudmanager.impl.generated.EnvironmentLogs;
+import com.adobe.aio.cloudmanager.impl.generated.Redirect;
+import com.adobe.aio.cloudmanager.impl.generated.RegionDeployment;
+import com.adobe.aio.cloudmanager.impl.generated.RegionDeploymentList;
+import com.adobe.aio.cloudmanager.impl.generated.Variable;
+import com.adobe.aio.cloudmanager.impl.generated.VariableList;
+import com.adobe.aio.workspace.Workspace;
+import feign.Body;
+import feign.Headers;
+import feign.Param;
+import feign.RequestLine;
+
+import static com.adobe.aio.cloudmanager.Constants.*;
+
+public class AsyncEnvironmentApiImpl implements AsyncEnvironmentApi {
+
+  private final FeignApi api;
+  private final EnvironmentApi client;
+
+  public AsyncEnvironmentApiImpl(Workspace workspace, URL url, HttpTransport transport) {
+    String baseUrl = url == null ? CLOUD_MANAGER_URL : url.toString();
+    api = FeignUtil.getAsyncBuilder(workspace, transport).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    client = new EnvironmentApiImpl(workspace, url, transport);
+  }
+
+  @Override
+  public CompletableFuture<Collection<com.adobe.aio.cloudmanager.Environment>> list(String programId) {
+    return api.list(programId).thenApply(this::toEnvironments);
+  }
+
+  @Override
+  public CompletableFuture<Collection<com.adobe.aio.cloudmanager.Environment>> list(String programId, com.adobe.aio.cloudmanager.Environment.Type type) {
+    return api.list(programId, type.name().toLowerCase()).thenApply(this::toEnvironments);
+  }
+
+  @Override
+  public CompletableFuture<com.adobe.aio.cloudmanager.Environment> create(String programId, String name, com.adobe.aio.cloudmanager.Environment.Type type, String region, String description) {
+    return FeignUtil.attempt(() -> EnvironmentApiImpl.createBody(name, type, region, description))
+        .thenCompose(body -> api.create(programId, body))
+        .thenApply(e -> new EnvironmentImpl(e, client));
+  }
+
+  @Override
+  public CompletableFuture<com.adobe.aio.cloudmanager.Environment> get(String programId, String environmentId) {
+    return api.get(programId, environmentId).thenApply(e -> new EnvironmentImpl(e, client));
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(String programId, String environmentId, boolean ignoreFailure) {
+    return api.delete(programId, environmentId, ignoreFailure).thenApply(e -> null);
+  }
+
+  @Override
+  public CompletableFuture<Collection<com.adobe.aio.cloudmanager.EnvironmentLog>> listLogs(String programId, String environmentId, LogOption option, int days) {
+    return api.listLogs(programId, environmentId, option.getService(), option.getName(), days).thenApply(list -> list.getEmbedded() == null ?
+        Collections.emptyList() :
+        list.getEmbedded().getDownloads().stream().map(EnvironmentLogImpl::new).collect(Collectors.toList()));
+  }
+
+  @Override
+  public CompletableFuture<String> getLogDownloadUrl(String programId, String environmentId, LogOption option, LocalDate date) {
+    return api.getLogs(programId, environmentId, option.getService(), option.getName(), date.toString())
+        .thenCompose(redirect -> FeignUtil.attempt(() -> EnvironmentApiImpl.toLogDownloadUrl(redirect, environmentId, option, date)));
+  }
+
+  @Override
+  public CompletableFuture<com.adobe.aio.cloudmanager.RegionDeployment> getRegionDeployment(String programId, String environmentId, String deploymentId) {
+    return api.getDeployment(programId, environmentId, deploymentId).thenApply(RegionDeploymentImpl::new);
+  }
+
+  @Override
+  public CompletableFuture<Collection<com.adobe.aio.cloudmanager.RegionDeployment>> listRegionDeployments(String programId, String environmentId) {
+    return api.listDeployments(programId, environmentId).thenApply(list -> list.getEmbedded() == null || list.getEmbedded().getRegionDeployments() == null ?
+        Collections.emptyList() :
+        list.getEmbedded().getRegionDeployments().stream().map(RegionDeploymentImpl::new).collect(Collectors.toList()));
+  }
+
+  @Override
+  public CompletableFuture<Set<com.adobe.aio.cloudmanager.Variable>> getVariables(String programId, String environmentId) {
+    return api.getVariables(programId, environmentId).thenApply(EnvironmentApiImpl::toVariables);
+  }
+
+  @Override
+  public CompletableFuture<Set<com.adobe.aio.cloudmanager.Variable>> setVariables(String programId, String environmentId, com.adobe.aio.cloudmanager.Variable... variables) {
+    return api.setVariables(programId, environmentId, EnvironmentApiImpl.toVariables(variables)).thenApply(EnvironmentApiImpl::toVariables);
+  }
+
+  @Override
+  public CompletableFuture<Void> resetRde(String programId, String environmentId) {
+    return api.reset(programId, environmentId);
+  }
+
+  private Collection<com.adobe.aio.cloudmanager.Environment> toEnvironments(EnvironmentList list) {
+    return list.getEmbedded() == null || list.getEmbedded().getEnvironments() == null ?
+        Collections.emptyList() :
+        list.getEmbedded().getEnvironments().stream().map(e -> new EnvironmentImpl(e, client)).collect(Collectors.toList());
+  }
+
+  // Method signatures must match the synchronous FeignApi, the ExceptionDecoder is keyed on them.
+  private interface FeignApi {
+
+    @RequestLine("GET /api/program/{programId}/environments")
+    CompletableFuture<EnvironmentList> list(@Param("programId") String programId);
+
+    @RequestLine("GET /api/program/{programId}/environments?type={type}")
+    CompletableFuture<EnvironmentList> list(@Param("programId") String programId, @Param("type") String type);
+
+    @RequestLine("POST /api/program/{programId}/environments")
+    @Headers("Content-Type: application/json")
+    @Body("{body}")
+    CompletableFuture<Environment> create(@Param("programId") String programId, @Param("body") String body);
+
+    @RequestLine("GET /api/program/{programId}/environment/{id}")
+    CompletableFuture<Environment> get(@Param("programId") String programId, @Param("id") String id);
+
+    @RequestLine("DELETE /api/program/{programId}/environment/{id}?ignoreResourcesDeletionResult={ignore}")
+    CompletableFuture<Environment> delete(@Param("programId") String programId, @Param("id") String id, @Param("ignore") boolean ignore);
+
+    @RequestLine("GET /api/program/{programId}/environment/{environmentId}/logs?service={service}&name={name}&days={days}")
+    CompletableFuture<EnvironmentLogs> listLogs(@Param("programId") String programId, @Param("environmentId") String environmentId, @Param("service") String service, @Param("name") String name, @Param("days") int days);
+
+    @RequestLine("GET /api/program/{programId}/environment/{environmentId}/logs/download?service={service}&name={name}&date={date}")
+    CompletableFuture<Redirect> getLogs(@Param("programId") String programId, @Param("environmentId") String environmentId, @Param("service") String service, @Param("name") String name, @Param("date") String date);
+
+    @RequestLine("GET /api/program/{programId}/environment/{environmentId}/regionDeployments/{id}")
+    CompletableFuture<RegionDeployment> getDeployment(@Param("programId") String programId, @Param("environmentId") String environmentId, @Param("id") String id);
+
+    @RequestLine("GET /api/program/{programId}/environment/{environmentId}/regionDeployments")
+    CompletableFuture<RegionDeploymentList> listDeployments(@Param("programId") String programId, @Param("environmentId") String environmentId);
+
+    @RequestLine("GET /api/program/{programId}/environment/{id}/variables")
+    CompletableFuture<VariableList> getVariables(@Param("programId") String programId, @Param("id") String id);
+
+    @Idempotent
+    @RequestLine("PATCH /api/program/{programId}/environment/{id}/variables")
+    @Headers("Content-Type: application/json")
+    CompletableFuture<VariableList> setVariables(@Param("programId") String programId, @Param("id") String id, List<Variable> variables);
+
+    @RequestLine("PUT /api/program/{programId}/environment/{id}/reset")
+    CompletableFuture<Void> reset(@Param("programId") String programId, @Param("id") String id);
+  }
+}
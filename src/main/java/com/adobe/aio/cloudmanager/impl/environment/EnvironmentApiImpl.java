@@ -24,18 +24,22 @@ import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.net.URL;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import com.adobe.aio.cloudmanager.Region;
@@ -51,12 +55,20 @@ import feign.Headers;
 import feign.Param;
 import feign.RequestLine;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.HttpTransport;
+import com.adobe.aio.cloudmanager.LogFilter;
 import com.adobe.aio.cloudmanager.EnvironmentApi;
+import com.adobe.aio.cloudmanager.EnvironmentSummary;
 import com.adobe.aio.cloudmanager.LogOption;
+import com.adobe.aio.cloudmanager.LogTail;
+import com.adobe.aio.cloudmanager.impl.FanOut;
 import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.Idempotent;
+import com.adobe.aio.cloudmanager.impl.FileDownloader;
+import com.adobe.aio.cloudmanager.impl.HalItems;
 import com.adobe.aio.cloudmanager.impl.VariableImpl;
+import com.adobe.aio.cloudmanager.impl.VariableSync;
 import com.adobe.aio.cloudmanager.impl.exception.CloudManagerExceptionDecoder;
-import com.adobe.aio.cloudmanager.impl.generated.EnvironmentList;
 import com.adobe.aio.cloudmanager.impl.generated.EnvironmentLogs;
 import com.adobe.aio.cloudmanager.impl.generated.Redirect;
 import com.adobe.aio.cloudmanager.impl.generated.RegionDeploymentList;
@@ -69,48 +81,38 @@ public class EnvironmentApiImpl implements EnvironmentApi {
 
   private final FeignApi api;
   private final String baseUrl;
+  private final FileDownloader downloader;
+  private final ExecutorService executor;
 
-  public EnvironmentApiImpl(Workspace workspace, URL url) {
+  public EnvironmentApiImpl(Workspace workspace, URL url, HttpTransport transport) {
+    this(workspace, url, transport, null);
+  }
+
+  public EnvironmentApiImpl(Workspace workspace, URL url, HttpTransport transport, ExecutorService executor) {
     baseUrl = url == null ? CLOUD_MANAGER_URL : url.toString();
-    api = FeignUtil.getBuilder(workspace).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    api = FeignUtil.getBuilder(workspace, transport).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    downloader = new FileDownloader(transport);
+    this.executor = executor;
   }
 
   @Override
   public Collection<com.adobe.aio.cloudmanager.Environment> list(String programId) throws CloudManagerApiException {
-    EnvironmentList list = api.list(programId);
-    return list.getEmbedded() == null || list.getEmbedded().getEnvironments() == null ?
-        Collections.emptyList() :
-        list.getEmbedded().getEnvironments().stream().map(e -> new EnvironmentImpl(e, this)).collect(Collectors.toList());
+    return api.list(programId).collect(e -> new EnvironmentImpl(e, this));
   }
 
   @Override
   public Collection<com.adobe.aio.cloudmanager.Environment> list(String programId, com.adobe.aio.cloudmanager.Environment.Type type) throws CloudManagerApiException {
-    EnvironmentList list = api.list(programId, type.name().toLowerCase());
-    return list.getEmbedded() == null || list.getEmbedded().getEnvironments() == null ?
-        Collections.emptyList() :
-        list.getEmbedded().getEnvironments().stream().map(e -> new EnvironmentImpl(e, this)).collect(Collectors.toList());
+    return api.list(programId, type.name().toLowerCase()).collect(e -> new EnvironmentImpl(e, this));
+  }
+
+  @Override
+  public Collection<EnvironmentSummary> listSummaries(String programId) throws CloudManagerApiException {
+    return api.listSummaries(programId).collect(e -> e);
   }
 
   @Override
   public com.adobe.aio.cloudmanager.Environment create(String programId, String name, com.adobe.aio.cloudmanager.Environment.Type type, String region, String description) throws CloudManagerApiException {
-    try {
-      StringWriter writer = new StringWriter();
-      JsonFactory jsonFactory = new JsonFactory();
-      JsonGenerator gen = jsonFactory.createGenerator(writer);
-      gen.writeStartObject();
-      gen.writeStringField("name", name);
-      gen.writeStringField("type", type.name().toLowerCase());
-      gen.writeStringField("region", region);
-      if (StringUtils.isNotBlank(description)) {
-        gen.writeStringField("description", description);
-      }
-      gen.writeEndObject();
-      gen.close();
-      String body = writer.toString();
-      return new EnvironmentImpl(api.create(programId, body), this);
-    } catch (IOException e) {
-      throw new CloudManagerApiException(CloudManagerExceptionDecoder.GENERATE_BODY.formatted(e.getLocalizedMessage()));
-    }
+    return new EnvironmentImpl(api.create(programId, createBody(name, type, region, description)), this);
   }
 
   @Override
@@ -154,10 +156,7 @@ public class EnvironmentApiImpl implements EnvironmentApi {
   @Override
   public String getLogDownloadUrl(String programId, String environmentId, LogOption option, LocalDate date) throws CloudManagerApiException {
     Redirect redirect = api.getLogs(programId, environmentId, option.getService(), option.getName(), date.toString());
-    if (redirect != null && StringUtils.isNotBlank(redirect.getRedirect())) {
-      return redirect.getRedirect();
-    }
-    throw new CloudManagerApiException(ENVIRONMENT_LOG_REDIRECT_ERROR.formatted(environmentId, option.getService(), option.getName(), date));
+    return toLogDownloadUrl(redirect, environmentId, option, date);
   }
 
   @Override
@@ -165,6 +164,31 @@ public class EnvironmentApiImpl implements EnvironmentApi {
     return getLogDownloadUrl(environment.getProgramId(), environment.getId(), option, date);
   }
 
+  @Override
+  public Stream<String> streamLogs(String programId, String environmentId, LogOption option, LocalDate date, LogFilter filter) throws CloudManagerApiException {
+    String url = getLogDownloadUrl(programId, environmentId, option, date);
+    try {
+      return LogLineIterator.stream(downloader.open(url), (LogFilterImpl) filter);
+    } catch (IOException e) {
+      throw new CloudManagerApiException("Cannot read %s log for environment %s, date %s (Cause: %s).".formatted(option.getName(), environmentId, date, e.getClass().getName()));
+    }
+  }
+
+  @Override
+  public Stream<String> streamLogs(com.adobe.aio.cloudmanager.Environment environment, LogOption option, LocalDate date, LogFilter filter) throws CloudManagerApiException {
+    return streamLogs(environment.getProgramId(), environment.getId(), option, date, filter);
+  }
+
+  @Override
+  public LogTail tail(String programId, String environmentId, LogOption option, Duration interval, LogFilter filter) {
+    return new LogTailImpl(this, downloader, programId, environmentId, option, interval, (LogFilterImpl) filter);
+  }
+
+  @Override
+  public LogTail tail(com.adobe.aio.cloudmanager.Environment environment, LogOption option, Duration interval, LogFilter filter) {
+    return tail(environment.getProgramId(), environment.getId(), option, interval, filter);
+  }
+
   @Override
   public com.adobe.aio.cloudmanager.RegionDeployment getRegionDeployment(String programId, String environmentId, String deploymentId) throws CloudManagerApiException {
     return new RegionDeploymentImpl(api.getDeployment(programId, environmentId, deploymentId));
@@ -209,10 +233,7 @@ public class EnvironmentApiImpl implements EnvironmentApi {
 
   @Override
   public Set<com.adobe.aio.cloudmanager.Variable> getVariables(String programId, String environmentId) throws CloudManagerApiException {
-    VariableList list = api.getVariables(programId, environmentId);
-    return list.getEmbedded() == null || list.getEmbedded().getVariables() == null ?
-        Collections.emptySet() :
-        list.getEmbedded().getVariables().stream().map(VariableImpl::new).collect(Collectors.toSet());
+    return toVariables(api.getVariables(programId, environmentId));
   }
 
   @Override
@@ -223,17 +244,7 @@ public class EnvironmentApiImpl implements EnvironmentApi {
   @Override
   public Set<com.adobe.aio.cloudmanager.Variable> setVariables(String programId, String environmentId, com.adobe.aio.cloudmanager.Variable... variables) throws
       CloudManagerApiException {
-    List<Variable> toSet =
-        Arrays.stream(variables).map((v) -> new Variable()
-                .name(v.getName())
-                .value(v.getValue())
-                .type(Variable.TypeEnum.fromValue(v.getVarType().getValue()))
-                .service(v.getTier().name().toLowerCase()))
-            .collect(Collectors.toList());
-    VariableList list = api.setVariables(programId, environmentId, toSet);
-    return list.getEmbedded() == null || list.getEmbedded().getVariables() == null ?
-        Collections.emptySet() : // How did creating a variable result in none returned?
-        list.getEmbedded().getVariables().stream().map(VariableImpl::new).collect(Collectors.toSet());
+    return toVariables(api.setVariables(programId, environmentId, toVariables(variables)));
   }
 
   @Override
@@ -241,6 +252,21 @@ public class EnvironmentApiImpl implements EnvironmentApi {
     return setVariables(environment.getProgramId(), environment.getId(), variables);
   }
 
+  @Override
+  public Map<com.adobe.aio.cloudmanager.Environment, Set<com.adobe.aio.cloudmanager.Variable>> syncVariables(Map<com.adobe.aio.cloudmanager.Environment, ? extends Collection<com.adobe.aio.cloudmanager.Variable>> desired) throws CloudManagerApiException {
+    return new VariableSync<>(new VariableSync.Target<com.adobe.aio.cloudmanager.Environment>() {
+      @Override
+      public Set<com.adobe.aio.cloudmanager.Variable> get(com.adobe.aio.cloudmanager.Environment environment) throws CloudManagerApiException {
+        return getVariables(environment);
+      }
+
+      @Override
+      public void set(com.adobe.aio.cloudmanager.Environment environment, List<Variable> changes) throws CloudManagerApiException {
+        api.setVariables(environment.getProgramId(), environment.getId(), changes);
+      }
+    }, executor, "environment").sync(desired);
+  }
+
   @Override
   public void resetRde(String programId, String environmentId) throws CloudManagerApiException {
     api.reset(programId, environmentId);
@@ -262,15 +288,20 @@ public class EnvironmentApiImpl implements EnvironmentApi {
     if (logs.getEmbedded() == null || logs.getEmbedded().getDownloads() == null || logs.getEmbedded().getDownloads().isEmpty()) {
       return Collections.emptyList();
     }
-    List<EnvironmentLog> downloads = logs.getEmbedded().getDownloads();
-    List<com.adobe.aio.cloudmanager.EnvironmentLog> downloaded = new ArrayList<>();
-    for (EnvironmentLog log : downloads) {
+    List<EnvironmentLogImpl> downloads = new ArrayList<>();
+    for (EnvironmentLog log : logs.getEmbedded().getDownloads()) {
       String logfileName = "environment-%s-%s-%s-%s.log.gz".formatted(environmentId, log.getService(), log.getName(), log.getDate());
-      EnvironmentLogImpl impl = new EnvironmentLogImpl(log, "%s/%s".formatted(dir.getPath(), logfileName));
-      downloadLog(impl);
-      downloaded.add(impl);
+      downloads.add(new EnvironmentLogImpl(log, "%s/%s".formatted(dir.getPath(), logfileName)));
     }
-    return downloaded;
+    List<Callable<Void>> tasks = new ArrayList<>();
+    downloads.forEach(l -> tasks.add(() -> {
+      downloadLog(l);
+      return null;
+    }));
+    try (FanOut fanOut = new FanOut(executor, "Cannot download logs for environment %s".formatted(environmentId), "Interrupted downloading logs for environment %s.".formatted(environmentId))) {
+      fanOut.invokeAll(tasks);
+    }
+    return new ArrayList<>(downloads);
   }
 
   @Override
@@ -278,11 +309,52 @@ public class EnvironmentApiImpl implements EnvironmentApi {
     return downloadLogs(environment.getProgramId(), environment.getId(), logOption, days, dir);
   }
 
+  static String createBody(String name, com.adobe.aio.cloudmanager.Environment.Type type, String region, String description) throws CloudManagerApiException {
+    try {
+      StringWriter writer = new StringWriter();
+      JsonFactory jsonFactory = new JsonFactory();
+      JsonGenerator gen = jsonFactory.createGenerator(writer);
+      gen.writeStartObject();
+      gen.writeStringField("name", name);
+      gen.writeStringField("type", type.name().toLowerCase());
+      gen.writeStringField("region", region);
+      if (StringUtils.isNotBlank(description)) {
+        gen.writeStringField("description", description);
+      }
+      gen.writeEndObject();
+      gen.close();
+      return writer.toString();
+    } catch (IOException e) {
+      throw new CloudManagerApiException(CloudManagerExceptionDecoder.GENERATE_BODY.formatted(e.getLocalizedMessage()));
+    }
+  }
+
+  static List<Variable> toVariables(com.adobe.aio.cloudmanager.Variable... variables) {
+    return Arrays.stream(variables).map((v) -> new Variable()
+            .name(v.getName())
+            .value(v.getValue())
+            .type(Variable.TypeEnum.fromValue(v.getVarType().getValue()))
+            .service(v.getTier().name().toLowerCase()))
+        .collect(Collectors.toList());
+  }
+
+  static Set<com.adobe.aio.cloudmanager.Variable> toVariables(VariableList list) {
+    return list.getEmbedded() == null || list.getEmbedded().getVariables() == null ?
+        Collections.emptySet() : // How did creating a variable result in none returned?
+        list.getEmbedded().getVariables().stream().map(VariableImpl::new).collect(Collectors.toSet());
+  }
+
+  static String toLogDownloadUrl(Redirect redirect, String environmentId, LogOption option, LocalDate date) throws CloudManagerApiException {
+    if (redirect != null && StringUtils.isNotBlank(redirect.getRedirect())) {
+      return redirect.getRedirect();
+    }
+    throw new CloudManagerApiException(ENVIRONMENT_LOG_REDIRECT_ERROR.formatted(environmentId, option.getService(), option.getName(), date));
+  }
+
   private void downloadLog(EnvironmentLogImpl log) throws CloudManagerApiException {
     Redirect redirect = api.getLogs(log.getProgramId(), log.getEnvironmentId(), log.getService(), log.getName(), log.getDate().toString());
     try {
-      File downloaded = new File(log.getDownloadPath());
-      FileUtils.copyInputStreamToFile(new URL(redirect.getRedirect()).openStream(), downloaded);
+      downloader.download(redirect.getRedirect(), new File(log.getDownloadPath()));
     } catch (IOException e) {
       throw new CloudManagerApiException("Cannot download %s%s to %s (Cause: %s).".formatted(baseUrl, log.getUrl(), log.getDownloadPath(), e.getClass().getName()));
     }
@@ -291,10 +363,13 @@ public class EnvironmentApiImpl implements EnvironmentApi {
   private interface FeignApi {
 
     @RequestLine("GET /api/program/{programId}/environments")
-    EnvironmentList list(@Param("programId") String programId) throws CloudManagerApiException;
+    HalItems<Environment> list(@Param("programId") String programId) throws CloudManagerApiException;
 
     @RequestLine("GET /api/program/{programId}/environments?type={type}")
-    EnvironmentList list(@Param("programId") String programId, @Param("type") String type) throws CloudManagerApiException;
+    HalItems<Environment> list(@Param("programId") String programId, @Param("type") String type) throws CloudManagerApiException;
+
+    @RequestLine("GET /api/program/{programId}/environments")
+    HalItems<EnvironmentSummaryImpl> listSummaries(@Param("programId") String programId) throws CloudManagerApiException;
 
     @RequestLine("POST /api/program/{programId}/environments")
     @Headers("Content-Type: application/json")
@@ -330,6 +405,7 @@ public class EnvironmentApiImpl implements EnvironmentApi {
     @RequestLine("GET /api/program/{programId}/environment/{id}/variables")
     VariableList getVariables(@Param("programId") String programId, @Param("id") String id) throws CloudManagerApiException;
 
+    @Idempotent
     @RequestLine("PATCH /api/program/{programId}/environment/{id}/variables")
     @Headers("Content-Type: application/json")
     VariableList setVariables(@Param("programId") String programId, @Param("id") String id, List<Variable> variables) throws CloudManagerApiException;
@@ -21,6 +21,7 @@ package com.adobe.aio.cloudmanager.impl.environment;
  */
 
 import java.io.File;
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.Set;
@@ -36,14 +37,16 @@ import com.adobe.aio.cloudmanager.RegionDeployment;
 import com.adobe.aio.cloudmanager.Variable;
 import com.adobe.aio.cloudmanager.impl.generated.HalLink;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class EnvironmentImpl extends Environment implements com.adobe.aio.cloudmanager.Environment {
+public class EnvironmentImpl implements com.adobe.aio.cloudmanager.Environment, Serializable {
   private static final long serialVersionUID = 1L;
 
+  @Getter
   @Delegate
   private final Environment delegate;
   @ToString.Exclude
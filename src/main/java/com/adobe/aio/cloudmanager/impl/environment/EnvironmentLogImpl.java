@@ -20,17 +20,21 @@ package com.adobe.aio.cloudmanager.impl.environment;
  * #L%
  */
 
+import java.io.Serializable;
+
 import com.adobe.aio.cloudmanager.impl.generated.EnvironmentLog;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class EnvironmentLogImpl extends EnvironmentLog implements com.adobe.aio.cloudmanager.EnvironmentLog {
+public class EnvironmentLogImpl implements com.adobe.aio.cloudmanager.EnvironmentLog, Serializable {
 
   private static final long serialVersionUID = 1L;
 
+  @Getter
   @Delegate
   private final EnvironmentLog delegate;
   private final String path;
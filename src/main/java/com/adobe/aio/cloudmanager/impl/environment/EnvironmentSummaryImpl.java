@@ -0,0 +1,55 @@
+package com.adobe.aio.cloudmanager.impl.environment;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.adobe.aio.cloudmanager.EnvironmentSummary;
+import com.adobe.aio.cloudmanager.impl.generated.Environment;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Binds only the summary properties of an environment representation, the parser skips all others.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class EnvironmentSummaryImpl implements EnvironmentSummary {
+
+  @JsonProperty("id")
+  private String id;
+  @JsonProperty("programId")
+  private String programId;
+  @JsonProperty("name")
+  private String name;
+  @Getter(AccessLevel.NONE)
+  @JsonProperty("type")
+  private Environment.TypeEnum type;
+  @JsonProperty("region")
+  private String region;
+
+  @Override
+  public com.adobe.aio.cloudmanager.Environment.Type getEnvType() {
+    return type == null ? null : com.adobe.aio.cloudmanager.Environment.Type.valueOf(type.name());
+  }
+}
@@ -34,7 +34,8 @@ public class ExceptionDecoder extends CloudManagerExceptionDecoder {
     ErrorType type = ErrorType.UNKNOWN;
     switch (methodKey) {
       case "FeignApi#list(String)":
-      case "FeignApi#list(String,String)": {
+      case "FeignApi#list(String,String)":
+      case "FeignApi#listSummaries(String)": {
         type = ErrorType.LIST;
         break;
       }
@@ -0,0 +1,208 @@
+package com.adobe.aio.cloudmanager.impl.environment;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Incrementally decodes a log, gzip compressed or not, into lines as its bytes arrive.
+ * <p>
+ * Unlike {@link java.util.zip.GZIPInputStream}, which blocks waiting for more input, the inflater state is kept between calls to {@link #feed(byte[], int)};
+ * content appended to the log, as further gzip members or within the last one, can therefore be decoded without reading the log again.
+ */
+class GzipLineDecoder {
+
+  private static final int FEXTRA = 4;
+  private static final int FNAME = 8;
+  private static final int FCOMMENT = 16;
+  private static final int FHCRC = 2;
+  private static final int TRAILER_SIZE = 8;
+
+  private enum State { START, HEADER, DATA, TRAILER, PLAIN }
+
+  private final Consumer<String> lines;
+  private final Inflater inflater = new Inflater(true);
+  private final byte[] output = new byte[64 * 1024];
+  private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+  private byte[] pending = new byte[0];
+  private State state = State.START;
+  private long skip;
+  private long emitted;
+
+  /**
+   * @param lines receives each complete line
+   * @param skip  the number of decoded bytes to drop, as they have already been emitted
+   */
+  GzipLineDecoder(Consumer<String> lines, long skip) {
+    this.lines = lines;
+    this.skip = skip;
+  }
+
+  /**
+   * The number of decoded bytes emitted as complete lines, including those skipped.
+   *
+   * @return the decoded length
+   */
+  long getEmitted() {
+    return emitted;
+  }
+
+  /**
+   * Decode the next bytes of the log.
+   *
+   * @param data   the bytes
+   * @param length the number of bytes to read from the array
+   * @throws ZipException when the content is not valid
+   */
+  void feed(byte[] data, int length) throws ZipException {
+    byte[] input = pending.length == 0 ? Arrays.copyOf(data, length) : concat(pending, data, length);
+    int pos = 0;
+    boolean progress = true;
+    while (progress && pos < input.length) {
+      switch (state) {
+        case START:
+          if (input.length - pos < 2) {
+            progress = false;
+          } else {
+            state = (input[pos] & 0xff) == 0x1f && (input[pos + 1] & 0xff) == 0x8b ? State.HEADER : State.PLAIN;
+          }
+          break;
+        case HEADER:
+          int header = headerLength(input, pos);
+          if (header < 0) {
+            progress = false;
+          } else {
+            pos += header;
+            inflater.reset();
+            state = State.DATA;
+          }
+          break;
+        case DATA:
+          inflater.setInput(input, pos, input.length - pos);
+          inflate();
+          pos = input.length - inflater.getRemaining();
+          if (inflater.finished()) {
+            state = State.TRAILER;
+          } else {
+            progress = false;
+          }
+          break;
+        case TRAILER:
+          if (input.length - pos < TRAILER_SIZE) {
+            progress = false;
+          } else {
+            pos += TRAILER_SIZE;
+            state = State.START;
+          }
+          break;
+        case PLAIN:
+          decoded(input, pos, input.length - pos);
+          pos = input.length;
+          break;
+        default:
+          throw new IllegalStateException();
+      }
+    }
+    pending = Arrays.copyOfRange(input, pos, input.length);
+  }
+
+  /**
+   * Release the inflater.
+   */
+  void end() {
+    inflater.end();
+  }
+
+  private void inflate() throws ZipException {
+    try {
+      int count;
+      while ((count = inflater.inflate(output)) > 0) {
+        decoded(output, 0, count);
+      }
+    } catch (DataFormatException e) {
+      throw new ZipException(e.getMessage());
+    }
+  }
+
+  private void decoded(byte[] bytes, int offset, int length) {
+    for (int i = offset; i < offset + length; i++) {
+      byte b = bytes[i];
+      if (b == '\n') {
+        int size = line.size() + 1;
+        if (skip >= size) {
+          skip -= size;
+        } else {
+          String text = line.toString(StandardCharsets.UTF_8);
+          lines.accept(text.endsWith("\r") ? text.substring(0, text.length() - 1) : text);
+        }
+        emitted += size;
+        line.reset();
+      } else {
+        line.write(b);
+      }
+    }
+  }
+
+  private static int headerLength(byte[] input, int start) throws ZipException {
+    int available = input.length - start;
+    if (available < 10) {
+      return -1;
+    }
+    if ((input[start] & 0xff) != 0x1f || (input[start + 1] & 0xff) != 0x8b || input[start + 2] != 8) {
+      throw new ZipException("Not in GZIP format");
+    }
+    int flags = input[start + 3] & 0xff;
+    int pos = start + 10;
+    if ((flags & FEXTRA) != 0) {
+      if (input.length - pos < 2) {
+        return -1;
+      }
+      pos += 2 + ((input[pos] & 0xff) | (input[pos + 1] & 0xff) << 8);
+    }
+    for (int flag : new int[] { FNAME, FCOMMENT }) {
+      if ((flags & flag) != 0) {
+        while (pos < input.length && input[pos] != 0) {
+          pos++;
+        }
+        if (pos >= input.length) {
+          return -1;
+        }
+        pos++;
+      }
+    }
+    if ((flags & FHCRC) != 0) {
+      pos += 2;
+    }
+    return pos > input.length ? -1 : pos - start;
+  }
+
+  private static byte[] concat(byte[] first, byte[] second, int length) {
+    byte[] result = Arrays.copyOf(first, first.length + length);
+    System.arraycopy(second, 0, result, first.length, length);
+    return result;
+  }
+}
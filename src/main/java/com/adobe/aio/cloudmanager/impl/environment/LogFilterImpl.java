@@ -0,0 +1,157 @@
+package com.adobe.aio.cloudmanager.impl.environment;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.adobe.aio.cloudmanager.LogFilter;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class LogFilterImpl implements LogFilter {
+
+  private static final Pattern ACCESS_TIMESTAMP = Pattern.compile("\\d{2}/[A-Z][a-z]{2}/\\d{4}:\\d{2}:\\d{2}:\\d{2} [+-]\\d{4}");
+  private static final DateTimeFormatter ACCESS_FORMAT = DateTimeFormatter.ofPattern("dd/MMM/yyyy:HH:mm:ss Z", Locale.US);
+
+  private final LocalDateTime from;
+  private final LocalDateTime to;
+  private final Set<String> levels;
+  @EqualsAndHashCode.Exclude
+  private final Pattern pattern;
+
+  public LogFilterImpl(LocalDateTime from, LocalDateTime to, Set<String> levels, Pattern pattern) {
+    this.from = from;
+    this.to = to;
+    this.levels = levels;
+    this.pattern = pattern;
+  }
+
+  /**
+   * Create a matcher for the lines of one log, in order.
+   *
+   * @return a new line matcher
+   */
+  LineMatcher matcher() {
+    return new LineMatcher();
+  }
+
+  /**
+   * Whether entries, rather than just lines, need to be identified to apply this filter.
+   */
+  private boolean hasEntryCriteria() {
+    return from != null || to != null || !levels.isEmpty();
+  }
+
+  private boolean acceptsEntry(String line, LocalDateTime timestamp) {
+    if (from != null && timestamp.isBefore(from)) {
+      return false;
+    }
+    return levels.isEmpty() || levels.contains(level(line));
+  }
+
+  /**
+   * Applies the filter to consecutive lines, tracking the entry each line belongs to.
+   */
+  class LineMatcher {
+    // Lines before the first entry can only match when no entry criteria are set.
+    private boolean entryAccepted = !hasEntryCriteria();
+    private boolean ended;
+
+    boolean matches(String line) {
+      if (ended) {
+        return false;
+      }
+      if (hasEntryCriteria()) {
+        LocalDateTime timestamp = timestamp(line);
+        if (timestamp != null) {
+          if (to != null && timestamp.isAfter(to)) {
+            ended = true;
+            return false;
+          }
+          entryAccepted = acceptsEntry(line, timestamp);
+        }
+      }
+      return entryAccepted && (pattern == null || pattern.matcher(line).find());
+    }
+
+    /**
+     * Whether an entry after the end of the time range has been seen; as logs are written in time order, no further line can match.
+     */
+    boolean isEnded() {
+      return ended;
+    }
+  }
+
+  /**
+   * The timestamp of the entry which starts on this line.
+   *
+   * @param line the line
+   * @return the timestamp, or null if the line does not start an entry
+   */
+  static LocalDateTime timestamp(String line) {
+    // AEM error log: 08.09.2019 10:00:00.123 *ERROR* [thread] ...
+    if (line.length() >= 23 && line.charAt(2) == '.' && line.charAt(5) == '.' && line.charAt(10) == ' ' && line.charAt(13) == ':' && line.charAt(19) == '.') {
+      try {
+        return LocalDateTime.of(
+            Integer.parseInt(line, 6, 10, 10),
+            Integer.parseInt(line, 3, 5, 10),
+            Integer.parseInt(line, 0, 2, 10),
+            Integer.parseInt(line, 11, 13, 10),
+            Integer.parseInt(line, 14, 16, 10),
+            Integer.parseInt(line, 17, 19, 10),
+            Integer.parseInt(line, 20, 23, 10) * 1_000_000);
+      } catch (RuntimeException e) {
+        return null;
+      }
+    }
+    // Access logs: ... [08/Sep/2019:10:00:00 +0000] ...
+    if (line.indexOf('/') < 0) {
+      return null;
+    }
+    Matcher matcher = ACCESS_TIMESTAMP.matcher(line);
+    if (!matcher.find()) {
+      return null;
+    }
+    try {
+      return OffsetDateTime.parse(matcher.group(), ACCESS_FORMAT).withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  private static String level(String line) {
+    int start = line.indexOf('*', 23);
+    int end = start < 0 ? -1 : line.indexOf('*', start + 1);
+    return end < 0 ? null : line.substring(start + 1, end);
+  }
+}
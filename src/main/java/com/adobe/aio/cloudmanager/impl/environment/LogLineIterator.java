@@ -0,0 +1,134 @@
+package com.adobe.aio.cloudmanager.impl.environment;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.exception.UncheckedCloudManagerApiException;
+
+/**
+ * Reads a log, decompressing it if needed, one line at a time; only the current line is held in memory.
+ * <p>
+ * The input is closed once the filter's time range has been passed, so the remainder of the log is never transferred. Read failures are thrown as {@link UncheckedCloudManagerApiException}s.
+ */
+public class LogLineIterator implements Iterator<String>, AutoCloseable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final String UNREADABLE = "Unable to read log: %s.";
+
+  private final BufferedReader reader;
+  private final LogFilterImpl.LineMatcher matcher;
+  private String next;
+  private boolean done;
+
+  LogLineIterator(InputStream in, LogFilterImpl filter) throws IOException {
+    this.reader = new BufferedReader(new InputStreamReader(decode(in), StandardCharsets.UTF_8), BUFFER_SIZE);
+    this.matcher = filter.matcher();
+  }
+
+  /**
+   * Stream the lines of the log which match the filter. The stream must be closed to release the input.
+   *
+   * @param in     the log content, gzip compressed or not
+   * @param filter the filter to apply
+   * @return the matching lines
+   * @throws IOException when the log cannot be read
+   */
+  public static Stream<String> stream(InputStream in, LogFilterImpl filter) throws IOException {
+    LogLineIterator iterator;
+    try {
+      iterator = new LogLineIterator(in, filter);
+    } catch (IOException e) {
+      in.close();
+      throw e;
+    }
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(iterator::close);
+  }
+
+  private static InputStream decode(InputStream in) throws IOException {
+    BufferedInputStream buffered = new BufferedInputStream(in, BUFFER_SIZE);
+    buffered.mark(2);
+    int first = buffered.read();
+    int second = buffered.read();
+    buffered.reset();
+    return first == 0x1f && second == 0x8b ? new GZIPInputStream(buffered, BUFFER_SIZE) : buffered;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !done) {
+      advance();
+    }
+    return next != null;
+  }
+
+  @Override
+  public String next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    String line = next;
+    next = null;
+    return line;
+  }
+
+  private void advance() {
+    try {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (matcher.matches(line)) {
+          next = line;
+          return;
+        }
+        if (matcher.isEnded()) {
+          break;
+        }
+      }
+      close();
+    } catch (IOException e) {
+      close();
+      throw new UncheckedCloudManagerApiException(new CloudManagerApiException(UNREADABLE.formatted(e.getLocalizedMessage())));
+    }
+  }
+
+  @Override
+  public void close() {
+    done = true;
+    try {
+      reader.close();
+    } catch (IOException e) {
+      // Nothing more to read.
+    }
+  }
+}
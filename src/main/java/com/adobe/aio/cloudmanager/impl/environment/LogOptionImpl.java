@@ -20,16 +20,20 @@ package com.adobe.aio.cloudmanager.impl.environment;
  * #L%
  */
 
+import java.io.Serializable;
+
 import com.adobe.aio.cloudmanager.LogOption;
 import com.adobe.aio.cloudmanager.impl.generated.LogOptionRepresentation;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class LogOptionImpl extends LogOptionRepresentation implements LogOption {
+public class LogOptionImpl implements LogOption, Serializable {
 
+  @Getter
   @Delegate
   private final LogOptionRepresentation delegate;
 
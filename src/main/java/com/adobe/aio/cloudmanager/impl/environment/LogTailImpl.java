@@ -0,0 +1,146 @@
+package com.adobe.aio.cloudmanager.impl.environment;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipException;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.LogOption;
+import com.adobe.aio.cloudmanager.LogTail;
+import com.adobe.aio.cloudmanager.impl.FileDownloader;
+
+/**
+ * Polls the log from the offset reached by the previous poll. The offset is in the stored, possibly compressed, content; the decoder keeps its state between polls
+ * so only the appended bytes need to be decompressed.
+ */
+public class LogTailImpl extends SubmissionPublisher<String> implements LogTail {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_FAILURES = 3;
+
+  private final EnvironmentApiImpl client;
+  private final FileDownloader downloader;
+  private final String programId;
+  private final String environmentId;
+  private final LogOption option;
+  private final LogFilterImpl.LineMatcher matcher;
+  private final ScheduledExecutorService scheduler;
+
+  private LocalDate date;
+  private long offset;
+  private GzipLineDecoder decoder;
+  private boolean started;
+  private int failures;
+
+  public LogTailImpl(EnvironmentApiImpl client, FileDownloader downloader, String programId, String environmentId, LogOption option, Duration interval, LogFilterImpl filter) {
+    if (interval.isNegative() || interval.isZero()) {
+      throw new IllegalArgumentException("Poll interval must be positive.");
+    }
+    this.client = client;
+    this.downloader = downloader;
+    this.programId = programId;
+    this.environmentId = environmentId;
+    this.option = option;
+    this.matcher = filter.matcher();
+    this.date = LocalDate.now(ZoneOffset.UTC);
+    this.decoder = new GzipLineDecoder(this::line, 0);
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "cloudmanager-log-tail");
+      t.setDaemon(true);
+      return t;
+    });
+    scheduler.scheduleWithFixedDelay(this::poll, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private void poll() {
+    try {
+      LocalDate today = LocalDate.now(ZoneOffset.UTC);
+      read();
+      if (today.isAfter(date)) {
+        // The previous day's log has been read to its end, the new one is read from its start.
+        decoder.end();
+        decoder = new GzipLineDecoder(this::line, 0);
+        date = today;
+        offset = 0;
+        read();
+      }
+      started = true;
+      failures = 0;
+    } catch (CloudManagerApiException | IOException e) {
+      if (++failures >= MAX_FAILURES) {
+        scheduler.shutdownNow();
+        closeExceptionally(e);
+      }
+    } catch (RuntimeException e) {
+      scheduler.shutdownNow();
+      closeExceptionally(e);
+    }
+  }
+
+  private void read() throws CloudManagerApiException, IOException {
+    String url = client.getLogDownloadUrl(programId, environmentId, option, date);
+    try (InputStream in = downloader.open(url, offset)) {
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int count;
+      while (!isClosed() && (count = in.read(buffer)) >= 0) {
+        decoder.feed(buffer, count);
+        offset += count;
+      }
+    } catch (FileNotFoundException e) {
+      // Nothing written yet.
+    } catch (ZipException | EOFException e) {
+      // The log was rewritten rather than appended to; decode it again, without publishing the lines already seen.
+      long emitted = decoder.getEmitted();
+      decoder.end();
+      decoder = new GzipLineDecoder(this::line, emitted);
+      offset = 0;
+    }
+  }
+
+  private void line(String line) {
+    if (isClosed()) {
+      return;
+    }
+    // Lines present at the start are still matched, so entries spanning the start are tracked.
+    if (matcher.matches(line) && started) {
+      submit(line);
+    } else if (matcher.isEnded()) {
+      close();
+    }
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    super.close();
+  }
+}
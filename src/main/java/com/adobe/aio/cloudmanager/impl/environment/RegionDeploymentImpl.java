@@ -25,6 +25,7 @@ import java.io.Serializable;
 import com.adobe.aio.cloudmanager.Region;
 import com.adobe.aio.cloudmanager.impl.generated.RegionDeployment;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 
 @ToString
@@ -33,6 +34,7 @@ public class RegionDeploymentImpl implements com.adobe.aio.cloudmanager.RegionDe
 
   private static final long serialVersionUID = 1L;
 
+  @Getter
   private final RegionDeployment delegate;
 
   public RegionDeploymentImpl(RegionDeployment delegate) {
@@ -30,8 +30,9 @@ import java.util.Map;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import com.adobe.aio.cloudmanager.impl.JsonCodecs;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import feign.Response;
 import feign.codec.ErrorDecoder;
 
@@ -42,6 +43,9 @@ public abstract class CloudManagerExceptionDecoder implements ErrorDecoder {
   private static final String APPLICATION_JSON_TYPE = "application/json";
   private static final String DEFAULT_REASON = "Unknown";
 
+  private static final ObjectReader PROBLEM_READER = JsonCodecs.reader(ProblemPayload.class);
+  private static final ObjectReader ERROR_READER = JsonCodecs.reader(ErrorPayload.class);
+
   private static final Map<Integer, String> phrases = new HashMap<>();
 
   static {
@@ -54,9 +58,8 @@ public abstract class CloudManagerExceptionDecoder implements ErrorDecoder {
   private static ProblemPayload getProblemBody(Response response, String body) {
     String contentType = getHeader(response, CONTENT_TYPE, null);
     if (StringUtils.equals(contentType, "application/problem+json")) {
-      ObjectMapper objectMapper = new ObjectMapper();
       try {
-        return objectMapper.readValue(body, ProblemPayload.class);
+        return PROBLEM_READER.readValue(body);
       } catch (IOException e) {
         return null;
       }
@@ -76,9 +79,8 @@ public abstract class CloudManagerExceptionDecoder implements ErrorDecoder {
     String contentType = getHeader(response, CONTENT_TYPE, null);
     if (contentType != null) {
       if (contentType.contains(APPLICATION_JSON_TYPE)) {
-        ObjectMapper objectMapper = new ObjectMapper();
         try {
-          return objectMapper.readValue(body, ErrorPayload.class);
+          return ERROR_READER.readValue(body);
         } catch (IOException e) {
           // TODO -- log?
           return null;
@@ -0,0 +1,139 @@
+package com.adobe.aio.cloudmanager.impl.pipeline;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.AsyncPipelineApi;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.Constants;
+import com.adobe.aio.cloudmanager.HttpTransport;
+import com.adobe.aio.cloudmanager.Pipeline;
+import com.adobe.aio.cloudmanager.PipelineApi;
+import com.adobe.aio.cloudmanager.PipelineExecutionApi;
+import com.adobe.aio.cloudmanager.PipelineUpdate;
+import com.adobe.aio.cloudmanager.Variable;
+import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.Idempotent;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineList;
+import com.adobe.aio.cloudmanager.impl.generated.VariableList;
+import com.adobe.aio.workspace.Workspace;
+import feign.Headers;
+import feign.Param;
+import feign.RequestLine;
+
+public class AsyncPipelineApiImpl implements AsyncPipelineApi {
+
+  private final FeignApi api;
+  private final PipelineApi client;
+  private final PipelineExecutionApi executionApi;
+
+  public AsyncPipelineApiImpl(Workspace workspace, URL url, HttpTransport transport) {
+    String baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
+    api = FeignUtil.getAsyncBuilder(workspace, transport).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    client = new PipelineApiImpl(workspace, url, transport);
+    try {
+      executionApi = new ApiBuilder<>(PipelineExecutionApi.class).workspace(workspace).url(new URL(baseUrl)).transport(transport).build();
+    } catch (CloudManagerApiException | MalformedURLException e) {
+      // This shouldn't be possible to reach.
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Collection<Pipeline>> list(String programId) {
+    return api.list(programId).thenCompose(list -> {
+      if (list.getEmbedded() == null || list.getEmbedded().getPipelines() == null) {
+        return CompletableFuture.failedFuture(new CloudManagerApiException("Cannot find pipelines for program %s.".formatted(programId)));
+      }
+      return CompletableFuture.completedFuture(list.getEmbedded().getPipelines().stream().map(p -> new PipelineImpl(p, client, executionApi)).collect(Collectors.toList()));
+    });
+  }
+
+  @Override
+  public CompletableFuture<Pipeline> get(String programId, String pipelineId) {
+    return api.get(programId, pipelineId).thenApply(p -> new PipelineImpl(p, client, executionApi));
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(String programId, String pipelineId) {
+    return api.delete(programId, pipelineId);
+  }
+
+  @Override
+  public CompletableFuture<Pipeline> update(String programId, String pipelineId, PipelineUpdate updates) {
+    return api.get(programId, pipelineId)
+        .thenCompose(original -> FeignUtil.attempt(() -> PipelineApiImpl.toUpdate(original, pipelineId, updates)))
+        .thenCompose(toUpdate -> api.update(programId, pipelineId, toUpdate))
+        .thenApply(p -> new PipelineImpl(p, client, executionApi));
+  }
+
+  @Override
+  public CompletableFuture<Void> invalidateCache(String programId, String pipelineId) {
+    return api.invalidateCache(programId, pipelineId);
+  }
+
+  @Override
+  public CompletableFuture<Set<Variable>> getVariables(String programId, String pipelineId) {
+    return api.getVariables(programId, pipelineId).thenApply(PipelineApiImpl::toVariables);
+  }
+
+  @Override
+  public CompletableFuture<Set<Variable>> setVariables(String programId, String pipelineId, Variable... variables) {
+    return api.setVariables(programId, pipelineId, PipelineApiImpl.toVariables(variables)).thenApply(PipelineApiImpl::toVariables);
+  }
+
+  // Method signatures must match the synchronous FeignApi, the ExceptionDecoder is keyed on them.
+  private interface FeignApi {
+    @RequestLine("GET /api/program/{programId}/pipelines")
+    CompletableFuture<PipelineList> list(@Param("programId") String programId);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{id}")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.Pipeline> get(@Param("programId") String programId, @Param("id") String id);
+
+    @RequestLine("DELETE /api/program/{programId}/pipeline/{id}")
+    CompletableFuture<Void> delete(@Param("programId") String programId, @Param("id") String id);
+
+    @Idempotent
+    @RequestLine("PATCH /api/program/{programId}/pipeline/{id}")
+    @Headers("Content-Type: application/json")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.Pipeline> update(@Param("programId") String programId, @Param("id") String id, com.adobe.aio.cloudmanager.impl.generated.Pipeline update);
+
+    @Idempotent
+    @RequestLine("DELETE /api/program/{programId}/pipeline/{id}/cache")
+    CompletableFuture<Void> invalidateCache(@Param("programId") String programId, @Param("id") String id);
+
+    @RequestLine("GET api/program/{programId}/pipeline/{id}/variables")
+    CompletableFuture<VariableList> getVariables(@Param("programId") String programId, @Param("id") String id);
+
+    @Idempotent
+    @RequestLine("PATCH api/program/{programId}/pipeline/{id}/variables")
+    @Headers("Content-Type: application/json")
+    CompletableFuture<VariableList> setVariables(@Param("programId") String programId, @Param("id") String id, List<com.adobe.aio.cloudmanager.impl.generated.Variable> variables);
+  }
+}
@@ -31,7 +31,8 @@ public class ExceptionDecoder extends CloudManagerExceptionDecoder {
   public Exception decode(String methodKey, Response response) {
     ErrorType type = ErrorType.UNKNOWN;
     switch (methodKey) {
-      case "FeignApi#list(String)": {
+      case "FeignApi#list(String)":
+      case "FeignApi#listSummaries(String)": {
         type = ErrorType.LIST;
         break;
       }
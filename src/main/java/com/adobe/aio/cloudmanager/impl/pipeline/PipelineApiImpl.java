@@ -22,22 +22,34 @@ package com.adobe.aio.cloudmanager.impl.pipeline;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.adobe.aio.cloudmanager.ApiBuilder;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.HttpTransport;
 import com.adobe.aio.cloudmanager.Constants;
 import com.adobe.aio.cloudmanager.Pipeline;
+import com.adobe.aio.cloudmanager.PipelineSummary;
 import com.adobe.aio.cloudmanager.PipelineUpdate;
 import com.adobe.aio.cloudmanager.Program;
+import com.adobe.aio.cloudmanager.ProgramApi;
+import com.adobe.aio.cloudmanager.Tenant;
 import com.adobe.aio.cloudmanager.Variable;
+import com.adobe.aio.cloudmanager.impl.FanOut;
 import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.Idempotent;
+import com.adobe.aio.cloudmanager.impl.HalItems;
 import com.adobe.aio.workspace.Workspace;
 import feign.Headers;
 import feign.Param;
@@ -45,7 +57,7 @@ import feign.RequestLine;
 import com.adobe.aio.cloudmanager.PipelineApi;
 import com.adobe.aio.cloudmanager.PipelineExecutionApi;
 import com.adobe.aio.cloudmanager.impl.VariableImpl;
-import com.adobe.aio.cloudmanager.impl.generated.PipelineList;
+import com.adobe.aio.cloudmanager.impl.VariableSync;
 import com.adobe.aio.cloudmanager.impl.generated.PipelinePhase;
 import com.adobe.aio.cloudmanager.impl.generated.VariableList;
 
@@ -53,12 +65,20 @@ public class PipelineApiImpl implements PipelineApi {
 
   private final FeignApi api;
   private final PipelineExecutionApi executionApi;
+  private final ProgramApi programApi;
+  private final ExecutorService executor;
 
-  public PipelineApiImpl(Workspace workspace, URL url) {
+  public PipelineApiImpl(Workspace workspace, URL url, HttpTransport transport) {
+    this(workspace, url, transport, null);
+  }
+
+  public PipelineApiImpl(Workspace workspace, URL url, HttpTransport transport, ExecutorService executor) {
     String baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
-    api = FeignUtil.getBuilder(workspace).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    api = FeignUtil.getBuilder(workspace, transport).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    this.executor = executor;
     try {
-      executionApi = new ApiBuilder<>(PipelineExecutionApi.class).workspace(workspace).url(new URL(baseUrl)).build();
+      executionApi = new ApiBuilder<>(PipelineExecutionApi.class).workspace(workspace).url(new URL(baseUrl)).transport(transport).build();
+      programApi = new ApiBuilder<>(ProgramApi.class).workspace(workspace).url(new URL(baseUrl)).transport(transport).build();
     } catch (CloudManagerApiException | MalformedURLException e) {
       // This shouldn't be possible to reach.
       throw new RuntimeException(e);
@@ -75,6 +95,15 @@ public class PipelineApiImpl implements PipelineApi {
     return list(program.getId());
   }
 
+  @Override
+  public Collection<PipelineSummary> listSummaries(String programId) throws CloudManagerApiException {
+    HalItems<PipelineSummaryImpl> items = api.listSummaries(programId);
+    if (!items.isPresent()) {
+      throw new CloudManagerApiException("Cannot find pipelines for program %s.".formatted(programId));
+    }
+    return items.collect(p -> p);
+  }
+
   @Override
   public PipelineImpl get(String programId, String pipelineId) throws CloudManagerApiException {
     return new PipelineImpl(api.get(programId, pipelineId), this, executionApi);
@@ -92,22 +121,7 @@ public class PipelineApiImpl implements PipelineApi {
 
   @Override
   public Pipeline update(String programId, String pipelineId, PipelineUpdate updates) throws CloudManagerApiException {
-    PipelineImpl original = get(programId, pipelineId);
-
-    PipelinePhase buildPhase = original.getPhases().stream()
-        .filter(p -> PipelinePhase.TypeEnum.BUILD == p.getType())
-        .findFirst()
-        .orElseThrow(() -> new CloudManagerApiException("Pipeline %s does not appear to have a build phase.".formatted(pipelineId)));
-
-    if (updates.getBranch() != null) {
-      buildPhase.setBranch(updates.getBranch());
-    }
-
-    if (updates.getRepositoryId() != null) {
-      buildPhase.setRepositoryId(updates.getRepositoryId());
-    }
-    com.adobe.aio.cloudmanager.impl.generated.Pipeline toUpdate = new com.adobe.aio.cloudmanager.impl.generated.Pipeline();
-    toUpdate.getPhases().add(buildPhase);
+    com.adobe.aio.cloudmanager.impl.generated.Pipeline toUpdate = toUpdate(api.get(programId, pipelineId), pipelineId, updates);
     return new PipelineImpl(api.update(programId, pipelineId, toUpdate), this, executionApi);
   }
 
@@ -128,10 +142,7 @@ public class PipelineApiImpl implements PipelineApi {
 
   @Override
   public Set<Variable> getVariables(String programId, String pipelineId) throws CloudManagerApiException {
-    VariableList list = api.getVariables(programId, pipelineId);
-    return list.getEmbedded() == null || list.getEmbedded().getVariables() == null ?
-        Collections.emptySet() :
-        list.getEmbedded().getVariables().stream().map(VariableImpl::new).collect(Collectors.toSet());
+    return toVariables(api.getVariables(programId, pipelineId));
   }
 
   @Override
@@ -141,16 +152,7 @@ public class PipelineApiImpl implements PipelineApi {
 
   @Override
   public Set<Variable> setVariables(String programId, String pipelineId, Variable... variables) throws CloudManagerApiException {
-    List<com.adobe.aio.cloudmanager.impl.generated.Variable> toSet =
-        Arrays.stream(variables).map((v) -> new com.adobe.aio.cloudmanager.impl.generated.Variable()
-                .name(v.getName())
-                .value(v.getValue())
-                .type(com.adobe.aio.cloudmanager.impl.generated.Variable.TypeEnum.fromValue(v.getVarType().getValue())))
-            .collect(Collectors.toList());
-    VariableList list = api.setVariables(programId, pipelineId, toSet);
-    return list.getEmbedded() == null || list.getEmbedded().getVariables() == null ?
-        Collections.emptySet() :
-        list.getEmbedded().getVariables().stream().map(VariableImpl::new).collect(Collectors.toSet());
+    return toVariables(api.setVariables(programId, pipelineId, toVariables(variables)));
   }
 
   @Override
@@ -163,18 +165,94 @@ public class PipelineApiImpl implements PipelineApi {
     return listDetails(programId, predicate);
   }
 
+  @Override
+  public Map<Pipeline, Set<Variable>> syncVariables(Map<Pipeline, ? extends Collection<Variable>> desired) throws CloudManagerApiException {
+    return new VariableSync<>(new VariableSync.Target<Pipeline>() {
+      @Override
+      public Set<Variable> get(Pipeline pipeline) throws CloudManagerApiException {
+        return getVariables(pipeline);
+      }
+
+      @Override
+      public void set(Pipeline pipeline, List<com.adobe.aio.cloudmanager.impl.generated.Variable> changes) throws CloudManagerApiException {
+        api.setVariables(pipeline.getProgramId(), pipeline.getId(), changes);
+      }
+    }, executor, "pipeline").sync(desired);
+  }
+
+  @Override
+  public Map<String, Collection<Pipeline>> listByTenant(String tenantId) throws CloudManagerApiException {
+    Collection<Program> programs = programApi.list(tenantId);
+    Map<String, Collection<Pipeline>> results = new LinkedHashMap<>();
+    try (FanOut fanOut = new FanOut(executor, "Cannot list pipelines for tenant %s".formatted(tenantId), "Interrupted listing pipelines for tenant %s.".formatted(tenantId))) {
+      Map<String, FutureTask<Collection<Pipeline>>> pending = new LinkedHashMap<>();
+      programs.forEach(p -> pending.put(p.getId(), fanOut.submit(() -> list(p.getId()))));
+      for (Map.Entry<String, FutureTask<Collection<Pipeline>>> entry : pending.entrySet()) {
+        results.put(entry.getKey(), fanOut.await(entry.getValue()));
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public Map<String, Collection<Pipeline>> listByTenant(Tenant tenant) throws CloudManagerApiException {
+    return listByTenant(tenant.getId());
+  }
+
   private Collection<Pipeline> listDetails(String programId, Predicate<Pipeline> predicate) throws CloudManagerApiException {
-    PipelineList list = api.list(programId);
-    if (list.getEmbedded() == null || list.getEmbedded().getPipelines() == null) {
+    HalItems<com.adobe.aio.cloudmanager.impl.generated.Pipeline> items = api.list(programId);
+    if (!items.isPresent()) {
       throw new CloudManagerApiException("Cannot find pipelines for program %s.".formatted(programId));
     }
 
-    return list.getEmbedded().getPipelines().stream().map(p -> new PipelineImpl(p, this, executionApi)).filter(predicate).collect(Collectors.toList());
+    List<Pipeline> pipelines = new ArrayList<>();
+    items.forEach(p -> {
+      Pipeline pipeline = new PipelineImpl(p, this, executionApi);
+      if (predicate.test(pipeline)) {
+        pipelines.add(pipeline);
+      }
+    });
+    return pipelines;
+  }
+
+  static com.adobe.aio.cloudmanager.impl.generated.Pipeline toUpdate(com.adobe.aio.cloudmanager.impl.generated.Pipeline original, String pipelineId, PipelineUpdate updates) throws CloudManagerApiException {
+    PipelinePhase buildPhase = original.getPhases().stream()
+        .filter(p -> PipelinePhase.TypeEnum.BUILD == p.getType())
+        .findFirst()
+        .orElseThrow(() -> new CloudManagerApiException("Pipeline %s does not appear to have a build phase.".formatted(pipelineId)));
+
+    if (updates.getBranch() != null) {
+      buildPhase.setBranch(updates.getBranch());
+    }
+
+    if (updates.getRepositoryId() != null) {
+      buildPhase.setRepositoryId(updates.getRepositoryId());
+    }
+    com.adobe.aio.cloudmanager.impl.generated.Pipeline toUpdate = new com.adobe.aio.cloudmanager.impl.generated.Pipeline();
+    toUpdate.getPhases().add(buildPhase);
+    return toUpdate;
+  }
+
+  static List<com.adobe.aio.cloudmanager.impl.generated.Variable> toVariables(Variable... variables) {
+    return Arrays.stream(variables).map((v) -> new com.adobe.aio.cloudmanager.impl.generated.Variable()
+            .name(v.getName())
+            .value(v.getValue())
+            .type(com.adobe.aio.cloudmanager.impl.generated.Variable.TypeEnum.fromValue(v.getVarType().getValue())))
+        .collect(Collectors.toList());
+  }
+
+  static Set<Variable> toVariables(VariableList list) {
+    return list.getEmbedded() == null || list.getEmbedded().getVariables() == null ?
+        Collections.emptySet() :
+        list.getEmbedded().getVariables().stream().map(VariableImpl::new).collect(Collectors.toSet());
   }
 
   private interface FeignApi {
     @RequestLine("GET /api/program/{programId}/pipelines")
-    PipelineList list(@Param("programId") String programId) throws CloudManagerApiException;
+    HalItems<com.adobe.aio.cloudmanager.impl.generated.Pipeline> list(@Param("programId") String programId) throws CloudManagerApiException;
+
+    @RequestLine("GET /api/program/{programId}/pipelines")
+    HalItems<PipelineSummaryImpl> listSummaries(@Param("programId") String programId) throws CloudManagerApiException;
 
     @RequestLine("GET /api/program/{programId}/pipeline/{id}")
     com.adobe.aio.cloudmanager.impl.generated.Pipeline get(@Param("programId") String programId, @Param("id") String id) throws CloudManagerApiException;
@@ -182,16 +260,19 @@ public class PipelineApiImpl implements PipelineApi {
     @RequestLine("DELETE /api/program/{programId}/pipeline/{id}")
     void delete(@Param("programId") String programId, @Param("id") String id) throws CloudManagerApiException;
 
+    @Idempotent
     @RequestLine("PATCH /api/program/{programId}/pipeline/{id}")
     @Headers("Content-Type: application/json")
     com.adobe.aio.cloudmanager.impl.generated.Pipeline update(@Param("programId") String programId, @Param("id") String id, com.adobe.aio.cloudmanager.impl.generated.Pipeline update) throws CloudManagerApiException;
 
+    @Idempotent
     @RequestLine("DELETE /api/program/{programId}/pipeline/{id}/cache")
     void invalidateCache(@Param("programId") String programId, @Param("id") String id) throws CloudManagerApiException;
 
     @RequestLine("GET api/program/{programId}/pipeline/{id}/variables")
     VariableList getVariables(@Param("programId") String programId, @Param("id") String id) throws CloudManagerApiException;
 
+    @Idempotent
     @RequestLine("PATCH api/program/{programId}/pipeline/{id}/variables")
     @Headers("Content-Type: application/json")
     VariableList setVariables(@Param("programId") String programId, @Param("id") String id, List<com.adobe.aio.cloudmanager.impl.generated.Variable> variables) throws CloudManagerApiException;
@@ -20,6 +20,7 @@ package com.adobe.aio.cloudmanager.impl.pipeline;
  * #L%
  */
 
+import java.io.Serializable;
 import java.util.Optional;
 import java.util.Set;
 
@@ -31,18 +32,20 @@ import com.adobe.aio.cloudmanager.PipelineExecutionApi;
 import com.adobe.aio.cloudmanager.PipelineUpdate;
 import com.adobe.aio.cloudmanager.Variable;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 
 /**
- * Extension to the Swagger generated Pipeline. Provides convenience methods for frequently used APIs
+ * Wraps the Swagger generated Pipeline. Provides convenience methods for frequently used APIs
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class PipelineImpl extends Pipeline implements com.adobe.aio.cloudmanager.Pipeline {
+public class PipelineImpl implements com.adobe.aio.cloudmanager.Pipeline, Serializable {
 
   private static final long serialVersionUID = 1L;
 
+  @Getter
   @Delegate
   private final Pipeline delegate;
   @ToString.Exclude
@@ -0,0 +1,63 @@
+package com.adobe.aio.cloudmanager.impl.pipeline;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.OffsetDateTime;
+
+import com.adobe.aio.cloudmanager.PipelineSummary;
+import com.adobe.aio.cloudmanager.impl.generated.Pipeline;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Binds only the summary properties of a pipeline representation, the parser skips all others.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class PipelineSummaryImpl implements PipelineSummary {
+
+  @JsonProperty("id")
+  private String id;
+  @JsonProperty("programId")
+  private String programId;
+  @JsonProperty("name")
+  private String name;
+  @Getter(AccessLevel.NONE)
+  @JsonProperty("status")
+  private Pipeline.StatusEnum status;
+  @JsonProperty("createdAt")
+  private OffsetDateTime createdAt;
+  @JsonProperty("updatedAt")
+  private OffsetDateTime updatedAt;
+  @JsonProperty("lastStartedAt")
+  private OffsetDateTime lastStartedAt;
+  @JsonProperty("lastFinishedAt")
+  private OffsetDateTime lastFinishedAt;
+
+  @Override
+  public com.adobe.aio.cloudmanager.Pipeline.Status getStatusState() {
+    return status == null ? null : com.adobe.aio.cloudmanager.Pipeline.Status.valueOf(status.getValue());
+  }
+}
@@ -0,0 +1,242 @@
+package com.adobe.aio.cloudmanager.impl.pipeline.execution;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.adobe.aio.cloudmanager.Artifact;
+import com.adobe.aio.cloudmanager.AsyncPipelineExecutionApi;
+import com.adobe.aio.cloudmanager.Constants;
+import com.adobe.aio.cloudmanager.HttpTransport;
+import com.adobe.aio.cloudmanager.Metric;
+import com.adobe.aio.cloudmanager.PipelineExecution;
+import com.adobe.aio.cloudmanager.PipelineExecutionStepState;
+import com.adobe.aio.cloudmanager.StepAction;
+import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.generated.ArtifactList;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionListRepresentation;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineStepMetrics;
+import com.adobe.aio.cloudmanager.impl.generated.Redirect;
+import com.adobe.aio.workspace.Workspace;
+import feign.Body;
+import feign.Headers;
+import feign.Param;
+import feign.RequestLine;
+
+public class AsyncPipelineExecutionApiImpl implements AsyncPipelineExecutionApi {
+
+  private final FeignApi api;
+  private final PipelineExecutionApiImpl client;
+
+  public AsyncPipelineExecutionApiImpl(Workspace workspace, URL url, HttpTransport transport) {
+    String baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
+    api = FeignUtil.getAsyncBuilder(workspace, transport).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    client = new PipelineExecutionApiImpl(workspace, url, transport);
+  }
+
+  /**
+   * How old an execution passed to step operations may be and still be used as is, rather than retrieved again.
+   *
+   * @param maxStaleness the staleness bound, zero to always retrieve executions again
+   */
+  public void setMaxStaleness(Duration maxStaleness) {
+    client.setMaxStaleness(maxStaleness);
+  }
+
+  /**
+   * How long the execution referred to by step events is reused for.
+   *
+   * @param eventStaleness the staleness bound, zero to only share concurrent retrievals
+   */
+  public void setEventStaleness(Duration eventStaleness) {
+    client.setEventStaleness(eventStaleness);
+  }
+
+  @Override
+  public CompletableFuture<Optional<PipelineExecution>> getCurrent(String programId, String pipelineId) {
+    return api.current(programId, pipelineId)
+        .thenApply(pe -> Optional.<PipelineExecution>of(new PipelineExecutionImpl(pe, client)))
+        .exceptionallyCompose(t -> FeignUtil.unwrap(t) instanceof CurrentNotFoundException ?
+            CompletableFuture.completedFuture(Optional.empty()) :
+            CompletableFuture.failedFuture(FeignUtil.unwrap(t)));
+  }
+
+  @Override
+  public CompletableFuture<PipelineExecution> start(String programId, String pipelineId) {
+    return api.start(programId, pipelineId).thenApply(pe -> new PipelineExecutionImpl(pe, client));
+  }
+
+  @Override
+  public CompletableFuture<PipelineExecution> get(String programId, String pipelineId, String executionId) {
+    return fetch(programId, pipelineId, executionId).thenApply(pe -> pe);
+  }
+
+  @Override
+  public CompletableFuture<PipelineExecutionStepState> getStepState(PipelineExecution execution, StepAction action) {
+    return getStepStateDetail(execution, action).thenApply(s -> s);
+  }
+
+  @Override
+  public CompletableFuture<Void> advance(String programId, String pipelineId, String executionId) {
+    return fetch(programId, pipelineId, executionId).thenCompose(execution ->
+        FeignUtil.attempt(() -> client.getWaitingStep(execution)).thenCompose(step ->
+            getAdvanceBody(execution, step).thenCompose(body ->
+                api.advance(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId(), body))));
+  }
+
+  @Override
+  public CompletableFuture<Void> cancel(String programId, String pipelineId, String executionId) {
+    return fetch(programId, pipelineId, executionId).thenCompose(execution ->
+        FeignUtil.attempt(() -> client.getCancelableStep(execution)).thenCompose(step ->
+            FeignUtil.attempt(step::getCancelBody).thenCompose(body ->
+                api.cancel(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId(), body))));
+  }
+
+  @Override
+  public CompletableFuture<String> getStepLogDownloadUrl(String programId, String pipelineId, String executionId, StepAction action) {
+    return getStepLogDownloadUrl(programId, pipelineId, executionId, action, null);
+  }
+
+  @Override
+  public CompletableFuture<String> getStepLogDownloadUrl(String programId, String pipelineId, String executionId, StepAction action, String name) {
+    return fetch(programId, pipelineId, executionId).thenCompose(execution ->
+        FeignUtil.attempt(() -> client.getStepStateDetail(execution, action)).thenCompose(step -> {
+          CompletableFuture<Redirect> redirect = StringUtils.isBlank(name) ?
+              api.getLogs(programId, pipelineId, executionId, step.getPhaseId(), step.getStepId()) :
+              api.getLogs(programId, pipelineId, executionId, step.getPhaseId(), step.getStepId(), name);
+          return redirect.thenCompose(r -> FeignUtil.attempt(() -> PipelineExecutionApiImpl.toLogDownloadUrl(r, execution, action.name())));
+        }));
+  }
+
+  @Override
+  public CompletableFuture<Collection<Metric>> getQualityGateResults(PipelineExecution execution, StepAction action) {
+    return getStepStateDetail(execution, action)
+        .thenCompose(step -> api.getStepMetrics(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId()))
+        .thenApply(PipelineExecutionApiImpl::toMetrics);
+  }
+
+  @Override
+  public CompletableFuture<Collection<PipelineExecution>> list(String programId, String pipelineId) {
+    return api.list(programId, pipelineId).thenApply(this::toExecutions);
+  }
+
+  @Override
+  public CompletableFuture<Collection<PipelineExecution>> list(String programId, String pipelineId, int start, int limit) {
+    return api.list(programId, pipelineId, start, limit).thenApply(this::toExecutions);
+  }
+
+  @Override
+  public CompletableFuture<Collection<Artifact>> listArtifacts(PipelineExecutionStepState step) {
+    return FeignUtil.attempt(step::getExecution)
+        .thenCompose(execution -> api.listArtifacts(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId()))
+        .thenApply(list -> list.getEmbedded() == null || list.getEmbedded().getArtifacts() == null ?
+            Collections.emptyList() :
+            list.getEmbedded().getArtifacts().stream().map(a -> new ArtifactImpl(a, client, step)).collect(Collectors.toList()));
+  }
+
+  @Override
+  public CompletableFuture<String> getArtifactDownloadUrl(PipelineExecutionStepState step, String artifactId) {
+    return FeignUtil.attempt(step::getExecution)
+        .thenCompose(execution -> api.getArtifact(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId(), artifactId))
+        .thenCompose(redirect -> FeignUtil.attempt(() -> PipelineExecutionApiImpl.toArtifactDownloadUrl(redirect, step)));
+  }
+
+  // Helper methods.
+
+  private CompletableFuture<PipelineExecutionImpl> fetch(String programId, String pipelineId, String executionId) {
+    return api.get(programId, pipelineId, executionId).thenApply(pe -> new PipelineExecutionImpl(pe, client));
+  }
+
+  private CompletableFuture<PipelineExecutionStepStateImpl> getStepStateDetail(PipelineExecution execution, StepAction action) {
+    CompletableFuture<PipelineExecutionImpl> current = client.isFresh(execution) ?
+        CompletableFuture.completedFuture((PipelineExecutionImpl) execution) :
+        fetch(execution.getProgramId(), execution.getPipelineId(), execution.getId());
+    return current.thenCompose(actual -> FeignUtil.attempt(() -> client.getStepStateDetail(actual, action)));
+  }
+
+  private CompletableFuture<String> getAdvanceBody(PipelineExecutionImpl execution, PipelineExecutionStepStateImpl step) {
+    if (StepAction.approval == step.getStepAction()) {
+      return FeignUtil.attempt(() -> step.getAdvanceBody(Collections.emptyList()));
+    }
+    return FeignUtil.attempt(() -> client.getStepStateDetail(execution, StepAction.codeQuality))
+        .thenCompose(quality -> api.getStepMetrics(execution.getProgramId(), execution.getPipelineId(), execution.getId(), quality.getPhaseId(), quality.getStepId()))
+        .thenApply(PipelineExecutionApiImpl::toMetrics)
+        .thenCompose(metrics -> FeignUtil.attempt(() -> step.getAdvanceBody(metrics)));
+  }
+
+  private Collection<PipelineExecution> toExecutions(PipelineExecutionListRepresentation list) {
+    return list.getEmbedded() == null || list.getEmbedded().getExecutions() == null ?
+        Collections.emptyList() :
+        list.getEmbedded().getExecutions().stream().map(pe -> new PipelineExecutionImpl(pe, client)).collect(Collectors.toList());
+  }
+
+  // Method signatures must match the synchronous FeignApi, the ExceptionDecoder is keyed on them.
+  private interface FeignApi {
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.PipelineExecution> current(@Param("programId") String programId, @Param("pipelineId") String pipelineId);
+
+    @RequestLine("PUT /api/program/{programId}/pipeline/{pipelineId}/execution")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.PipelineExecution> start(@Param("programId") String programId, @Param("pipelineId") String pipelineId);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{id}")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.PipelineExecution> get(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("id") String id);
+
+    @RequestLine("PUT /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/advance")
+    @Headers("Content-Type: application/json")
+    @Body("{body}")
+    CompletableFuture<Void> advance(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId, @Param("body") String body);
+
+    @RequestLine("PUT /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/cancel")
+    @Headers("Content-Type: application/json")
+    @Body("{body}")
+    CompletableFuture<Void> cancel(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId, @Param("body") String body);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/logs")
+    CompletableFuture<Redirect> getLogs(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/logs?file={filename}")
+    CompletableFuture<Redirect> getLogs(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId, @Param("filename") String filename);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/metrics")
+    CompletableFuture<PipelineStepMetrics> getStepMetrics(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/executions")
+    CompletableFuture<PipelineExecutionListRepresentation> list(@Param("programId") String programId, @Param("pipelineId") String pipelineId);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/executions?start={start}&limit={limit}")
+    CompletableFuture<PipelineExecutionListRepresentation> list(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("start") int start, @Param("limit") int limit);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/artifacts")
+    CompletableFuture<ArtifactList> listArtifacts(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/artifact/{id}")
+    CompletableFuture<Redirect> getArtifact(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId, @Param("id") String id);
+  }
+}
@@ -0,0 +1,153 @@
+package com.adobe.aio.cloudmanager.impl.pipeline.execution;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.EventIngestor;
+import com.adobe.aio.cloudmanager.PipelineExecutionEvent;
+import com.adobe.aio.cloudmanager.impl.FanOut;
+
+/**
+ * Verifies each batch, concurrently on the executor if any, then parses and queues the verified events in delivery order on the caller's thread.
+ * <p>
+ * Ids are only recorded once an event has passed verification, so unsigned deliveries cannot suppress genuine ones. Expired ids are purged at most once per window.
+ */
+public class EventIngestorImpl implements EventIngestor {
+
+  private final PipelineExecutionApiImpl client;
+  private final ExecutorService executor;
+  private final long window;
+  private final LinkedBlockingQueue<PipelineExecutionEvent> queue;
+  private final Map<String, Long> seen = new ConcurrentHashMap<>();
+  private volatile long nextPurge;
+  private volatile boolean closed;
+
+  public EventIngestorImpl(PipelineExecutionApiImpl client, ExecutorService executor, int capacity, Duration dedupeWindow) {
+    if (capacity < 1 || dedupeWindow.isNegative()) {
+      throw new IllegalArgumentException("Capacity must be positive, and the de-duplication window cannot be negative.");
+    }
+    this.client = client;
+    this.executor = executor;
+    this.window = dedupeWindow.toNanos();
+    this.queue = new LinkedBlockingQueue<>(capacity);
+    this.nextPurge = System.nanoTime() + window;
+  }
+
+  @Override
+  public List<Outcome> ingest(Collection<Delivery> deliveries) throws CloudManagerApiException {
+    if (closed) {
+      throw new IllegalStateException("Event ingestor is closed.");
+    }
+    purge();
+    List<Delivery> batch = new ArrayList<>(deliveries);
+    List<Boolean> verified = verify(batch);
+    List<Outcome> outcomes = new ArrayList<>(batch.size());
+    try {
+      for (int i = 0; i < batch.size(); i++) {
+        outcomes.add(verified.get(i) ? enqueue(batch.get(i).getBody()) : Outcome.REJECTED);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CloudManagerApiException("Interrupted waiting to queue event %d of %d.".formatted(outcomes.size() + 1, batch.size()));
+    }
+    return outcomes;
+  }
+
+  @Override
+  public PipelineExecutionEvent take() throws InterruptedException {
+    return queue.take();
+  }
+
+  @Override
+  public Optional<PipelineExecutionEvent> poll(Duration timeout) throws InterruptedException {
+    return Optional.ofNullable(queue.poll(timeout.toNanos(), TimeUnit.NANOSECONDS));
+  }
+
+  @Override
+  public List<PipelineExecutionEvent> drain(int max) {
+    List<PipelineExecutionEvent> events = new ArrayList<>();
+    queue.drainTo(events, max);
+    return events;
+  }
+
+  @Override
+  public int size() {
+    return queue.size();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    seen.clear();
+  }
+
+  private Outcome enqueue(String body) throws InterruptedException {
+    PipelineExecutionEvent event;
+    try {
+      event = client.parseEvent(body);
+    } catch (CloudManagerApiException e) {
+      return Outcome.INVALID;
+    }
+    long now = System.nanoTime();
+    long expires = now + window;
+    Long previous = seen.putIfAbsent(event.getId(), expires);
+    if (previous != null && (previous - now > 0 || !seen.replace(event.getId(), previous, expires))) {
+      return Outcome.DUPLICATE;
+    }
+    try {
+      queue.put(event);
+    } catch (InterruptedException e) {
+      // Not queued, so its redelivery must not be taken for a duplicate.
+      seen.remove(event.getId(), expires);
+      throw e;
+    }
+    return Outcome.QUEUED;
+  }
+
+  private void purge() {
+    long now = System.nanoTime();
+    if (now - nextPurge < 0) {
+      return;
+    }
+    nextPurge = now + window;
+    seen.values().removeIf(expires -> expires - now <= 0);
+  }
+
+  private List<Boolean> verify(List<Delivery> batch) throws CloudManagerApiException {
+    List<Callable<Boolean>> tasks = new ArrayList<>(batch.size());
+    batch.forEach(d -> tasks.add(() -> client.internalVerify(d.getBody(), d.getHeaders())));
+    try (FanOut fanOut = new FanOut(executor, "Cannot verify event signature", "Interrupted verifying event signatures.")) {
+      return fanOut.invokeAll(tasks);
+    }
+  }
+}
@@ -30,6 +30,8 @@ public class ExceptionDecoder extends CloudManagerExceptionDecoder {
 
   private static final int NOT_FOUND = 404;
   private static final int BUSY = 412;
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final int SERVER_ERROR = 500;
 
 
   @Override
@@ -73,7 +75,8 @@ public class ExceptionDecoder extends CloudManagerExceptionDecoder {
         break;
       }
       case "FeignApi#list(String,String)":
-      case "FeignApi#list(String,String,int,int)": {
+      case "FeignApi#list(String,String,int,int)":
+      case "FeignApi#listSummaries(String,String,int,int)": {
         type = ErrorType.LIST;
         break;
       }
@@ -90,6 +93,9 @@ public class ExceptionDecoder extends CloudManagerExceptionDecoder {
         break;
       }
     }
+    if (type == ErrorType.GET && (status == TOO_MANY_REQUESTS || status >= SERVER_ERROR)) {
+      return new UnavailableException(type.message.formatted(getError(response)));
+    }
     return new CloudManagerApiException(type.message.formatted(getError(response)));
   }
 
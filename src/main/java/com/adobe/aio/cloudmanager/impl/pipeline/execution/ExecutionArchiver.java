@@ -0,0 +1,194 @@
+package com.adobe.aio.cloudmanager.impl.pipeline.execution;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FileUtils;
+
+import com.adobe.aio.cloudmanager.Artifact;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.StepAction;
+import com.adobe.aio.cloudmanager.impl.FanOut;
+import com.adobe.aio.cloudmanager.impl.FileDownloader;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes the step logs and build artifacts of an execution, with a manifest, to a directory or zip file.
+ * <p>
+ * Listing the artifacts of each step, and resolving and downloading each file, are independent requests; they are submitted to the executor, if any.
+ * Artifact files are prefixed with their id, as a step may produce several with the same name.
+ */
+class ExecutionArchiver {
+
+  static final String MANIFEST = "manifest.json";
+
+  // Only build steps produce artifacts. Compared by name, so that steps with actions this client does not know are archived as well.
+  private static final Set<String> BUILD_ACTIONS = Set.of(StepAction.build.name(), StepAction.buildImage.name());
+
+  private final PipelineExecutionApiImpl client;
+  private final FileDownloader downloader;
+  private final ExecutorService executor;
+
+  ExecutionArchiver(PipelineExecutionApiImpl client, FileDownloader downloader, ExecutorService executor) {
+    this.client = client;
+    this.downloader = downloader;
+    this.executor = executor;
+  }
+
+  void archive(PipelineExecutionImpl execution, File target) throws CloudManagerApiException {
+    boolean zip = target.getName().endsWith(".zip");
+    File dir;
+    try {
+      dir = zip ? Files.createTempDirectory("cloudmanager-archive").toFile() : target;
+    } catch (IOException e) {
+      throw new CloudManagerApiException("Cannot archive pipeline %s, execution %s to %s (Cause: %s).".formatted(execution.getPipelineId(), execution.getId(), target, e.getClass().getName()));
+    }
+    try {
+      List<PipelineExecutionStepStateImpl> steps = execution.getSteps();
+
+      List<Callable<List<Entry>>> listings = new ArrayList<>();
+      for (PipelineExecutionStepStateImpl step : steps) {
+        if (step.hasLogs()) {
+          listings.add(() -> List.of(new Entry(step, null, "logs/%s-%s.txt".formatted(step.getStepId(), step.getAction()))));
+        }
+        if (BUILD_ACTIONS.contains(step.getAction())) {
+          listings.add(() -> client.listArtifacts(step).stream()
+              .map(a -> new Entry(step, a, "artifacts/%s-%s/%s-%s".formatted(step.getStepId(), step.getAction(), a.getId(), new File(a.getFileName()).getName())))
+              .collect(Collectors.toList()));
+        }
+      }
+      List<Entry> entries = invoke(listings, execution).stream().flatMap(Collection::stream).collect(Collectors.toList());
+      invoke(entries.stream().map(e -> (Callable<Void>) () -> {
+        fetch(execution, e, dir);
+        return null;
+      }).collect(Collectors.toList()), execution);
+
+      writeManifest(execution, entries, new File(dir, MANIFEST));
+      if (zip) {
+        zip(dir, entries, target);
+      }
+    } catch (IOException e) {
+      throw new CloudManagerApiException("Cannot archive pipeline %s, execution %s to %s (Cause: %s).".formatted(execution.getPipelineId(), execution.getId(), target, e.getClass().getName()));
+    } finally {
+      if (zip) {
+        FileUtils.deleteQuietly(dir);
+      }
+    }
+  }
+
+  private void fetch(PipelineExecutionImpl execution, Entry entry, File dir) throws CloudManagerApiException {
+    String url = entry.artifact == null ?
+        client.getStepLogDownloadUrl(entry.step, null) :
+        client.getArtifactDownloadUrl(entry.step, entry.artifact.getId());
+    File file = new File(dir, entry.path);
+    try {
+      downloader.download(url, file);
+    } catch (IOException e) {
+      throw new CloudManagerApiException("Cannot download %s for pipeline %s, execution %s (Cause: %s).".formatted(entry.path, execution.getPipelineId(), execution.getId(), e.getClass().getName()));
+    }
+    entry.size = file.length();
+  }
+
+  private <T> List<T> invoke(List<Callable<T>> tasks, PipelineExecutionImpl execution) throws CloudManagerApiException {
+    try (FanOut fanOut = new FanOut(executor, "Cannot archive pipeline %s, execution %s".formatted(execution.getPipelineId(), execution.getId()),
+        "Interrupted archiving pipeline %s, execution %s.".formatted(execution.getPipelineId(), execution.getId()))) {
+      return fanOut.invokeAll(tasks);
+    }
+  }
+
+  private static void writeManifest(PipelineExecutionImpl execution, List<Entry> entries, File manifest) throws IOException {
+    Files.createDirectories(manifest.getParentFile().toPath());
+    try (JsonGenerator gen = new JsonFactory().createGenerator(manifest, JsonEncoding.UTF8)) {
+      gen.useDefaultPrettyPrinter();
+      gen.writeStartObject();
+      gen.writeStringField("programId", execution.getProgramId());
+      gen.writeStringField("pipelineId", execution.getPipelineId());
+      gen.writeStringField("executionId", execution.getId());
+      gen.writeStringField("status", execution.getStatusState().name());
+      gen.writeArrayFieldStart("files");
+      for (Entry entry : entries) {
+        gen.writeStartObject();
+        gen.writeStringField("path", entry.path);
+        gen.writeStringField("phaseId", entry.step.getPhaseId());
+        gen.writeStringField("stepId", entry.step.getStepId());
+        gen.writeStringField("action", entry.step.getAction());
+        if (entry.artifact == null) {
+          gen.writeStringField("type", "log");
+        } else {
+          gen.writeStringField("type", "artifact");
+          gen.writeStringField("artifactId", entry.artifact.getId());
+          gen.writeStringField("artifactType", entry.artifact.getType());
+          gen.writeStringField("md5", entry.artifact.getMd5());
+        }
+        gen.writeNumberField("size", entry.size);
+        gen.writeEndObject();
+      }
+      gen.writeEndArray();
+      gen.writeEndObject();
+    }
+  }
+
+  private static void zip(File dir, List<Entry> entries, File target) throws IOException {
+    File parent = target.getAbsoluteFile().getParentFile();
+    if (parent != null) {
+      Files.createDirectories(parent.toPath());
+    }
+    try (OutputStream out = new FileOutputStream(target); ZipOutputStream zip = new ZipOutputStream(out)) {
+      List<String> paths = new ArrayList<>();
+      paths.add(MANIFEST);
+      entries.forEach(e -> paths.add(e.path));
+      for (String path : paths) {
+        zip.putNextEntry(new ZipEntry(path));
+        Files.copy(new File(dir, path).toPath(), zip);
+        zip.closeEntry();
+      }
+    }
+  }
+
+  private static class Entry {
+    private final PipelineExecutionStepStateImpl step;
+    private final Artifact artifact;
+    private final String path;
+    private long size;
+
+    private Entry(PipelineExecutionStepStateImpl step, Artifact artifact, String path) {
+      this.step = step;
+      this.artifact = artifact;
+      this.path = path;
+    }
+  }
+}
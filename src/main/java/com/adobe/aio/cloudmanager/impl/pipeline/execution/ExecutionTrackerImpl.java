@@ -0,0 +1,231 @@
+package com.adobe.aio.cloudmanager.impl.pipeline.execution;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.ExecutionTracker;
+import com.adobe.aio.cloudmanager.PipelineExecution;
+import com.adobe.aio.cloudmanager.PipelineExecutionEndEvent;
+import com.adobe.aio.cloudmanager.PipelineExecutionEvent;
+import feign.FeignException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the last known status of each tracked execution, updated from events. An execution is only retrieved when its end event arrives, or when no event has arrived within the poll interval.
+ * The poll interval doubles, up to the maximum, each time an execution is retrieved unchanged, or cannot be reached; any event or status change resets it.
+ * Tracking fails on any other error, or once an execution has been unreachable, or answered with 429 or a server error, {@value #MAX_FAILURES} times in a row.
+ */
+public class ExecutionTrackerImpl implements ExecutionTracker {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ExecutionTrackerImpl.class);
+  static final int MAX_FAILURES = 5;
+
+  private static final Pattern OBJECT_ID = Pattern.compile("^.*/api/program/([^/]+)/pipeline/([^/]+)/execution/([^/]+)(/phase/[^/]+/step/[^/]+)?$");
+  private static final Set<PipelineExecution.Status> TERMINAL = EnumSet.of(
+      PipelineExecution.Status.CANCELLED,
+      PipelineExecution.Status.FINISHED,
+      PipelineExecution.Status.ERROR,
+      PipelineExecution.Status.FAILED
+  );
+
+  private final PipelineExecutionApiImpl client;
+  private final Duration minPollInterval;
+  private final Duration maxPollInterval;
+  private final ScheduledExecutorService scheduler;
+  private final Map<String, Tracked> tracked = new ConcurrentHashMap<>();
+
+  public ExecutionTrackerImpl(PipelineExecutionApiImpl client, Duration minPollInterval, Duration maxPollInterval) {
+    if (minPollInterval.isNegative() || minPollInterval.isZero() || maxPollInterval.compareTo(minPollInterval) < 0) {
+      throw new IllegalArgumentException("Poll intervals must be positive, and the maximum no less than the minimum.");
+    }
+    this.client = client;
+    this.minPollInterval = minPollInterval;
+    this.maxPollInterval = maxPollInterval;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "cloudmanager-execution-tracker");
+      t.setDaemon(true);
+      return t;
+    });
+  }
+
+  @Override
+  public CompletableFuture<PipelineExecution> track(PipelineExecution execution) {
+    return track(execution, new Listener() {});
+  }
+
+  @Override
+  public CompletableFuture<PipelineExecution> track(PipelineExecution execution, Listener listener) {
+    if (TERMINAL.contains(execution.getStatusState())) {
+      return CompletableFuture.completedFuture(execution);
+    }
+    Tracked t = tracked.computeIfAbsent(execution.getId(), id -> {
+      Tracked created = new Tracked(execution);
+      created.schedule(minPollInterval);
+      return created;
+    });
+    t.listeners.add(listener);
+    return t.result;
+  }
+
+  @Override
+  public void accept(PipelineExecutionEvent event) {
+    if (!(event instanceof ObjectEvent)) {
+      return;
+    }
+    Matcher matcher = OBJECT_ID.matcher(((ObjectEvent) event).getObjectId());
+    if (!matcher.matches()) {
+      return;
+    }
+    Tracked t = tracked.get(matcher.group(3));
+    if (t != null) {
+      t.onEvent(event);
+    }
+  }
+
+  @Override
+  public Optional<PipelineExecution.Status> getStatus(String executionId) {
+    return Optional.ofNullable(tracked.get(executionId)).map(t -> t.status);
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    tracked.values().forEach(t -> t.result.cancel(false));
+    tracked.clear();
+  }
+
+  private class Tracked {
+    private final String programId;
+    private final String pipelineId;
+    private final String executionId;
+    private final CompletableFuture<PipelineExecution> result = new CompletableFuture<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile PipelineExecution.Status status;
+    private Duration interval;
+    private ScheduledFuture<?> poll;
+    private int failures;
+
+    private Tracked(PipelineExecution execution) {
+      this.programId = execution.getProgramId();
+      this.pipelineId = execution.getPipelineId();
+      this.executionId = execution.getId();
+      this.status = execution.getStatusState();
+      this.interval = minPollInterval;
+    }
+
+    private synchronized void schedule(Duration delay) {
+      if (poll != null) {
+        poll.cancel(false);
+      }
+      if (result.isDone()) {
+        return;
+      }
+      try {
+        poll = scheduler.schedule(this::poll, delay.toMillis(), TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        // Tracker was closed.
+      }
+    }
+
+    private void onEvent(PipelineExecutionEvent event) {
+      inform(l -> l.onEvent(event));
+      if (event instanceof PipelineExecutionEndEvent) {
+        // The end event does not say how the execution ended.
+        schedule(Duration.ZERO);
+      } else {
+        status = PipelineExecution.Status.RUNNING;
+        synchronized (this) {
+          interval = minPollInterval;
+          schedule(interval);
+        }
+      }
+    }
+
+    private void poll() {
+      try {
+        PipelineExecution execution = client.get(programId, pipelineId, executionId);
+        inform(l -> l.onUpdate(execution));
+        PipelineExecution.Status previous = status;
+        status = execution.getStatusState();
+        if (TERMINAL.contains(status)) {
+          tracked.remove(executionId, this);
+          result.complete(execution);
+          return;
+        }
+        failures = 0;
+        reschedule(status != previous);
+      } catch (FeignException | UnavailableException e) {
+        // No response, e.g. the connection failed, or a transient status; the execution may still be retrieved later.
+        if (++failures < MAX_FAILURES) {
+          reschedule(false);
+        } else {
+          fail(e);
+        }
+      } catch (CloudManagerApiException | RuntimeException e) {
+        fail(e);
+      }
+    }
+
+    private void fail(Exception e) {
+      tracked.remove(executionId, this);
+      result.completeExceptionally(e);
+    }
+
+    private synchronized void reschedule(boolean changed) {
+      interval = changed ? minPollInterval : min(interval.multipliedBy(2), maxPollInterval);
+      schedule(interval);
+    }
+
+    // A failing listener must neither stop tracking nor keep the others from being notified.
+    private void inform(Consumer<Listener> callback) {
+      for (Listener listener : listeners) {
+        try {
+          callback.accept(listener);
+        } catch (RuntimeException e) {
+          LOG.warn("Listener failed for execution {}.", executionId, e);
+        }
+      }
+    }
+  }
+
+  private static Duration min(Duration a, Duration b) {
+    return a.compareTo(b) <= 0 ? a : b;
+  }
+}
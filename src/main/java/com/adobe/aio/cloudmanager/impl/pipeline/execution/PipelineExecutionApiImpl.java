@@ -20,22 +20,34 @@ package com.adobe.aio.cloudmanager.impl.pipeline.execution;
  * #L%
  */
 
+import java.io.File;
+import java.io.IOException;
 import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import jakarta.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.StringUtils;
 
 import com.adobe.aio.cloudmanager.Artifact;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.EventIngestor;
+import com.adobe.aio.cloudmanager.ExecutionTracker;
+import com.adobe.aio.cloudmanager.HttpTransport;
 import com.adobe.aio.cloudmanager.Constants;
 import com.adobe.aio.cloudmanager.Metric;
 import com.adobe.aio.cloudmanager.Pipeline;
@@ -44,7 +56,11 @@ import com.adobe.aio.cloudmanager.PipelineExecutionEvent;
 import com.adobe.aio.cloudmanager.PipelineExecutionStepState;
 import com.adobe.aio.cloudmanager.StepAction;
 import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.FileDownloader;
+import com.adobe.aio.cloudmanager.impl.HalItems;
+import com.adobe.aio.cloudmanager.impl.JsonCodecs;
 import com.adobe.aio.cloudmanager.impl.MetricImpl;
+import com.adobe.aio.cloudmanager.impl.PagedIterator;
 import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionEndEvent;
 import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStartEvent;
 import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStepEndEvent;
@@ -52,17 +68,21 @@ import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStepStar
 import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStepWaitingEvent;
 import com.adobe.aio.event.webhook.service.EventVerifier;
 import com.adobe.aio.workspace.Workspace;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.jayway.jsonpath.JsonPath;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import feign.Body;
 import feign.Headers;
 import feign.Param;
 import feign.RequestLine;
+import lombok.Getter;
+import lombok.Setter;
 import com.adobe.aio.cloudmanager.PipelineExecutionApi;
+import com.adobe.aio.cloudmanager.PipelineExecutionSummary;
 import com.adobe.aio.cloudmanager.impl.generated.ArtifactList;
-import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionEmbedded;
-import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionListRepresentation;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionStepState.StatusEnum;
 import com.adobe.aio.cloudmanager.impl.generated.PipelineStepMetrics;
 import com.adobe.aio.cloudmanager.impl.generated.Redirect;
 
@@ -73,20 +93,58 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
   private static final String ENDED_EVENT_TYPE = "https://ns.adobe.com/experience/cloudmanager/event/ended";
   private static final String PIPELINE_EXECUTION_TYPE = "https://ns.adobe.com/experience/cloudmanager/pipeline-execution";
   private static final String PIPELINE_STEP_STATE_TYPE = "https://ns.adobe.com/experience/cloudmanager/execution-step-state";
+  private static final Duration DEFAULT_EVENT_STALENESS = Duration.ofSeconds(5);
   private static final String EXECUTION_LOG_REDIRECT_ERROR = "Log redirect for execution %s, action '%s' did not exist.";
   private static final String ARTIFACT_REDIRECT_ERROR = "Artifact redirect for execution %s, phase %s, step %s did not exist.";
+  private static final Pattern API_PATH = Pattern.compile("^.*(/api.*)$");
+
+  // Readers are immutable and thread safe, so events are bound without looking up deserializers again.
+  private static final int MAX_LINKED_EXECUTIONS = 256;
+
+  private static final ObjectReader START_READER = JsonCodecs.reader(PipelineExecutionStartEvent.class);
+  private static final ObjectReader END_READER = JsonCodecs.reader(PipelineExecutionEndEvent.class);
+  private static final ObjectReader STEP_START_READER = JsonCodecs.reader(PipelineExecutionStepStartEvent.class);
+  private static final ObjectReader STEP_WAITING_READER = JsonCodecs.reader(PipelineExecutionStepWaitingEvent.class);
+  private static final ObjectReader STEP_END_READER = JsonCodecs.reader(PipelineExecutionStepEndEvent.class);
 
   private final Workspace workspace;
   private final EventVerifier verifier;
-  private final ObjectMapper mapper;
   private final FeignApi api;
+  private final FileDownloader downloader;
+  private final ExecutorService executor;
+  // Least recently used first; expired entries are replaced when next requested, or evicted once the map is full.
+  private final Map<String, CompletableFuture<PipelineExecutionImpl>> linkedExecutions = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<PipelineExecutionImpl>> eldest) {
+      return size() > MAX_LINKED_EXECUTIONS;
+    }
+  };
+
+  /**
+   * How old an execution passed to step operations may be and still be used as is, rather than retrieved again. Zero, the default, always retrieves it again.
+   */
+  @Getter
+  @Setter
+  private Duration maxStaleness = Duration.ZERO;
+
+  /**
+   * How long the execution referred to by step events is reused for, so events handled one after another for the same execution retrieve it once. Zero only shares concurrent retrievals.
+   */
+  @Getter
+  @Setter
+  private Duration eventStaleness = DEFAULT_EVENT_STALENESS;
+
+  public PipelineExecutionApiImpl(Workspace workspace, URL url, HttpTransport transport) {
+    this(workspace, url, transport, null);
+  }
 
-  public PipelineExecutionApiImpl(Workspace workspace, URL url) {
+  public PipelineExecutionApiImpl(Workspace workspace, URL url, HttpTransport transport, ExecutorService executor) {
     this.workspace = workspace;
-    mapper = FeignUtil.getMapper();
+    this.executor = executor;
+    downloader = new FileDownloader(transport);
     verifier = new EventVerifier();
     String baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
-    api = FeignUtil.getBuilder(workspace).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    api = FeignUtil.getBuilder(workspace, transport).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
   }
 
   @Override
@@ -126,8 +184,7 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
 
   @Override
   public PipelineExecutionStepStateImpl getStepState(PipelineExecution execution, StepAction action) throws CloudManagerApiException {
-    PipelineExecutionImpl actual = get(execution.getProgramId(), execution.getPipelineId(), execution.getId());
-    return getStepStateDetail(actual, action);
+    return getStepStateDetail(refresh(execution), action);
   }
 
   @Override
@@ -137,7 +194,7 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
 
   @Override
   public void advance(PipelineExecution execution) throws CloudManagerApiException {
-    advance(execution.getProgramId(), execution.getPipelineId(), execution.getId());
+    internalAdvance(refresh(execution));
   }
 
   @Override
@@ -147,7 +204,7 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
 
   @Override
   public void cancel(PipelineExecution execution) throws CloudManagerApiException {
-    cancel(execution.getProgramId(), execution.getPipelineId(), execution.getId());
+    internalCancel(refresh(execution));
   }
 
   @Override
@@ -163,30 +220,22 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
 
   @Override
   public String getStepLogDownloadUrl(PipelineExecution execution, StepAction action) throws CloudManagerApiException {
-    return getStepLogDownloadUrl(execution.getProgramId(), execution.getPipelineId(), execution.getId(), action);
+    return getStepLogDownloadUrlDetail(refresh(execution), action, null);
   }
 
   @Override
   public String getStepLogDownloadUrl(PipelineExecution execution, StepAction action, String name) throws CloudManagerApiException {
-    return getStepLogDownloadUrl(execution.getProgramId(), execution.getPipelineId(), execution.getId(), action, name);
+    return getStepLogDownloadUrlDetail(refresh(execution), action, name);
   }
 
   @Override
   public Collection<Metric> getQualityGateResults(PipelineExecution execution, StepAction action) throws CloudManagerApiException {
-    PipelineExecutionStepStateImpl step = getStepState(execution, action);
-    PipelineStepMetrics psm = api.getStepMetrics(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId());
-    return psm.getMetrics() == null || psm.getMetrics().isEmpty() ?
-        Collections.emptyList() :
-        psm.getMetrics().stream().map(MetricImpl::new).collect(Collectors.toList());
+    return getQualityGateResultsDetail(refresh(execution), action);
   }
 
   @Override
   public Collection<PipelineExecution> list(String programId, String pipelineId) throws CloudManagerApiException {
-    PipelineExecutionListRepresentation list = api.list(programId, pipelineId);
-
-    return list.getEmbedded() == null || list.getEmbedded().getExecutions() == null ?
-        Collections.emptyList() :
-        list.getEmbedded().getExecutions().stream().map(pe -> new PipelineExecutionImpl(pe, this)).collect(Collectors.toList());
+    return api.list(programId, pipelineId).collect(pe -> new PipelineExecutionImpl(pe, this));
   }
 
   @Override
@@ -206,10 +255,7 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
 
   @Override
   public Collection<PipelineExecution> list(String programId, String pipelineId, int start, int limit) throws CloudManagerApiException {
-    PipelineExecutionListRepresentation list = api.list(programId, pipelineId, start, limit);
-    return list.getEmbedded() == null || list.getEmbedded().getExecutions() == null ?
-        Collections.emptyList() :
-        list.getEmbedded().getExecutions().stream().map(pe -> new PipelineExecutionImpl(pe, this)).collect(Collectors.toList());
+    return api.list(programId, pipelineId, start, limit).collect(pe -> new PipelineExecutionImpl(pe, this));
   }
 
   @Override
@@ -217,6 +263,26 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
     return list(pipeline.getProgramId(), pipeline.getId(), start, limit);
   }
 
+  @Override
+  public Collection<PipelineExecutionSummary> listSummaries(String programId, String pipelineId, int start, int limit) throws CloudManagerApiException {
+    return api.listSummaries(programId, pipelineId, start, limit).collect(pe -> pe);
+  }
+
+  @Override
+  public Stream<PipelineExecution> stream(String programId, String pipelineId) {
+    return stream(programId, pipelineId, PagedIterator.DEFAULT_PAGE_SIZE);
+  }
+
+  @Override
+  public Stream<PipelineExecution> stream(String programId, String pipelineId, int pageSize) {
+    return PagedIterator.stream((start, limit) -> api.list(programId, pipelineId, start, limit).page(pe -> new PipelineExecutionImpl(pe, this)), pageSize, executor);
+  }
+
+  @Override
+  public void forEach(String programId, String pipelineId, int start, int limit, Consumer<PipelineExecution> action) throws CloudManagerApiException {
+    api.list(programId, pipelineId, start, limit).forEach(pe -> action.accept(new PipelineExecutionImpl(pe, this)));
+  }
+
   @Override
   public Collection<Artifact> listArtifacts(PipelineExecutionStepState step) throws CloudManagerApiException {
     ArtifactList list = api.listArtifacts(step.getExecution().getProgramId(), step.getExecution().getPipelineId(), step.getExecution().getId(), step.getPhaseId(), step.getStepId());
@@ -228,127 +294,264 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
   @Override
   public String getArtifactDownloadUrl(PipelineExecutionStepState step, String artifactId) throws CloudManagerApiException {
     Redirect redirect = api.getArtifact(step.getExecution().getProgramId(), step.getExecution().getPipelineId(), step.getExecution().getId(), step.getPhaseId(), step.getStepId(), artifactId);
-    if (redirect != null && StringUtils.isNotBlank(redirect.getRedirect())) {
-      return redirect.getRedirect();
-    }
-    throw new CloudManagerApiException(ARTIFACT_REDIRECT_ERROR.formatted(step.getExecution().getId(), step.getPhaseId(), step.getStepId()));
+    return toArtifactDownloadUrl(redirect, step);
+  }
+
+  @Override
+  public void archive(PipelineExecution execution, File target) throws CloudManagerApiException {
+    new ExecutionArchiver(this, downloader, executor).archive(refresh(execution), target);
   }
 
   @Override
   public PipelineExecutionEvent parseEvent(String eventBody) throws CloudManagerApiException {
-    String eventType = JsonPath.read(eventBody, "$.event.@type");
-    String objType = JsonPath.read(eventBody, "$.event.xdmEventEnvelope:objectType");
     PipelineExecutionEvent event;
-    try {
+    try (JsonParser parser = JsonCodecs.mapper().createParser(eventBody)) {
+      // Tokenize the body once, noting the discriminators as they pass; the typed event is then bound from the buffered tokens.
+      TokenBuffer tokens = new TokenBuffer(parser);
+      String eventType = null;
+      String objType = null;
+      JsonToken token;
+      while ((token = parser.nextToken()) != null) {
+        tokens.copyCurrentEvent(parser);
+        if (token == JsonToken.VALUE_STRING && inEnvelope(parser.getParsingContext())) {
+          if ("@type".equals(parser.currentName())) {
+            eventType = parser.getText();
+          } else if ("xdmEventEnvelope:objectType".equals(parser.currentName())) {
+            objType = parser.getText();
+          }
+        }
+      }
+      if (tokens.firstToken() == null) {
+        throw new CloudManagerApiException("Unable to process event: no content.");
+      }
       if (Objects.equals(objType, PIPELINE_EXECUTION_TYPE) && Objects.equals(eventType, STARTED_EVENT_TYPE)) {
-        event = new PipelineExecutionStartEventImpl(mapper.readValue(eventBody, PipelineExecutionStartEvent.class).getEvent(), this);
+        event = new PipelineExecutionStartEventImpl(START_READER.<PipelineExecutionStartEvent>readValue(tokens.asParser()).getEvent(), this);
       } else if (Objects.equals(objType, PIPELINE_EXECUTION_TYPE) && Objects.equals(eventType, ENDED_EVENT_TYPE)) {
-        event = new PipelineExecutionEndEventImpl(mapper.readValue(eventBody, PipelineExecutionEndEvent.class).getEvent(), this);
+        event = new PipelineExecutionEndEventImpl(END_READER.<PipelineExecutionEndEvent>readValue(tokens.asParser()).getEvent(), this);
       } else if (Objects.equals(objType, PIPELINE_STEP_STATE_TYPE) && Objects.equals(eventType, STARTED_EVENT_TYPE)) {
-        event = new PipelineExecutionStepStartEventImpl(mapper.readValue(eventBody, PipelineExecutionStepStartEvent.class).getEvent(), this);
+        event = new PipelineExecutionStepStartEventImpl(STEP_START_READER.<PipelineExecutionStepStartEvent>readValue(tokens.asParser()).getEvent(), this);
       } else if (Objects.equals(objType, PIPELINE_STEP_STATE_TYPE) && Objects.equals(eventType, WAITING_EVENT_TYPE)) {
-        event = new PipelineExecutionStepWaitingEventImpl(mapper.readValue(eventBody, PipelineExecutionStepWaitingEvent.class).getEvent(), this);
+        event = new PipelineExecutionStepWaitingEventImpl(STEP_WAITING_READER.<PipelineExecutionStepWaitingEvent>readValue(tokens.asParser()).getEvent(), this);
       } else if (Objects.equals(objType, PIPELINE_STEP_STATE_TYPE) && Objects.equals(eventType, ENDED_EVENT_TYPE)) {
-        event = new PipelineExecutionStepEndEventImpl(mapper.readValue(eventBody, PipelineExecutionStepEndEvent.class).getEvent(), this);
+        event = new PipelineExecutionStepEndEventImpl(STEP_END_READER.<PipelineExecutionStepEndEvent>readValue(tokens.asParser()).getEvent(), this);
       } else {
         throw new CloudManagerApiException("Unknown event/object types (Event: '%s', Object: '%s').".formatted(eventType, objType));
       }
-    } catch (JsonProcessingException e) {
+    } catch (IOException e) {
       throw new CloudManagerApiException("Unable to process event: %s".formatted(e.getLocalizedMessage()));
     }
 
     return event;
   }
 
+  // True for the fields of the top level "event" object, which hold the event and object types.
+  private static boolean inEnvelope(JsonStreamContext context) {
+    JsonStreamContext body = context.getParent();
+    return context.inObject() && body != null && body.inObject() && "event".equals(body.getCurrentName()) && body.getParent().inRoot();
+  }
+
   @Override
   public PipelineExecutionEvent parseEvent(String eventBody, Map<String, String> requestHeaders) throws CloudManagerApiException {
-    if (!verifier.verify(eventBody, workspace.getApiKey(), requestHeaders)) {
+    if (!internalVerify(eventBody, requestHeaders)) {
       throw new CloudManagerApiException("Cannot parse event, did not pass signature validation.");
     }
     return parseEvent(eventBody);
   }
 
+  @Override
+  public EventIngestor ingestor() {
+    return ingestor(1000, Duration.ofHours(1));
+  }
+
+  @Override
+  public EventIngestor ingestor(int capacity, Duration dedupeWindow) {
+    return new EventIngestorImpl(this, executor, capacity, dedupeWindow);
+  }
+
+  @Override
+  public ExecutionTracker tracker() {
+    return tracker(Duration.ofSeconds(30), Duration.ofMinutes(10));
+  }
+
+  @Override
+  public ExecutionTracker tracker(Duration minPollInterval, Duration maxPollInterval) {
+    return new ExecutionTrackerImpl(this, minPollInterval, maxPollInterval);
+  }
+
   // Helper methods.
 
+  boolean internalVerify(String eventBody, Map<String, String> requestHeaders) {
+    return verifier.verify(eventBody, workspace.getApiKey(), requestHeaders);
+  }
+
   void internalAdvance(PipelineExecutionImpl execution) throws CloudManagerApiException {
     PipelineExecutionStepStateImpl waitingStep = getWaitingStep(execution);
     api.advance(execution.getProgramId(), execution.getPipelineId(), execution.getId(), waitingStep.getPhaseId(), waitingStep.getStepId(), waitingStep.getAdvanceBody());
   }
 
+  boolean isFresh(PipelineExecution execution) {
+    return isFresh(execution, maxStaleness);
+  }
+
+  private static boolean isFresh(PipelineExecution execution, Duration staleness) {
+    return !staleness.isZero() &&
+        execution instanceof PipelineExecutionImpl &&
+        !((PipelineExecutionImpl) execution).getFetchedAt().plus(staleness).isBefore(Instant.now());
+  }
+
+  PipelineExecutionImpl refresh(PipelineExecution execution) throws CloudManagerApiException {
+    return isFresh(execution) ? (PipelineExecutionImpl) execution : get(execution.getProgramId(), execution.getPipelineId(), execution.getId());
+  }
+
   void internalCancel(PipelineExecutionImpl execution) throws CloudManagerApiException {
-    final String err = "Cannot find a cancelable step for pipeline %s, execution %s.".formatted(execution.getPipelineId(), execution.getId());
-    PipelineExecutionStepStateImpl step;
-    try {
-      step = getStep(execution, PipelineExecutionStepStateImpl.IS_RUNNING, err);
-    } catch (CloudManagerApiException ex) {
-      step = getStep(execution, PipelineExecutionStepStateImpl.IS_WAITING, err);
-    }
+    PipelineExecutionStepStateImpl step = getCancelableStep(execution);
     api.cancel(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId(), step.getCancelBody());
   }
 
   @NotNull
   PipelineExecutionImpl get(com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecution pe) throws CloudManagerApiException {
     String path = pe.getAtId();
-    Matcher matcher = Pattern.compile("^.*(/api.*)$").matcher(path);
+    Matcher matcher = API_PATH.matcher(path);
     if (!matcher.matches()) {
       throw new CloudManagerApiException("Unable to parse Event Object ID: %s.".formatted(path));
     }
-    return new PipelineExecutionImpl(api.get(matcher.group(1)), this);
+    // Execution events report a change of status, so are always retrieved again; the result is shared with the step events which follow.
+    return getLinkedExecution(matcher.group(1), true);
   }
 
   @NotNull
   PipelineExecutionStepStateImpl getStepState(com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStepState pes) throws CloudManagerApiException {
     String path = pes.getAtId();
-    Matcher matcher = Pattern.compile("^.*(/api.*)$").matcher(path);
+    Matcher matcher = API_PATH.matcher(path);
     if (!matcher.matches()) {
       throw new CloudManagerApiException("Unable to parse Event Object ID: %s.".formatted(path));
     }
 
     com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionStepState delegate = api.getStepState(matcher.group(1));
-    PipelineExecution execution = new PipelineExecutionImpl(api.get(delegate.getLinks().getHttpnsAdobeComadobecloudrelexecution().getHref()), this);
+    String href = delegate.getLinks().getHttpnsAdobeComadobecloudrelexecution().getHref();
+    Matcher link = API_PATH.matcher(href);
+    PipelineExecution execution = getLinkedExecution(link.matches() ? link.group(1) : href, false);
 
     return new PipelineExecutionStepStateImpl(delegate, execution, this);
   }
 
-  String getStepLogDownloadUrlDetail(PipelineExecutionImpl execution, StepAction action, String file) throws CloudManagerApiException {
+  /**
+   * Retrieve the execution an event refers to. Concurrent requests for the same execution share a single retrieval, and the result is reused for up to the {@link #getEventStaleness() event staleness bound}.
+   * A reload always starts a new retrieval, which later requests share in turn. The most recently used {@value #MAX_LINKED_EXECUTIONS} executions are kept.
+   */
+  private PipelineExecutionImpl getLinkedExecution(String path, boolean reload) throws CloudManagerApiException {
+    Duration staleness = eventStaleness;
+    CompletableFuture<PipelineExecutionImpl> pending = new CompletableFuture<>();
+    CompletableFuture<PipelineExecutionImpl> cached;
+    synchronized (linkedExecutions) {
+      cached = reload ? null : linkedExecutions.get(path);
+      if (cached != null && cached.isDone() && (cached.isCompletedExceptionally() || !isFresh(cached.getNow(null), staleness))) {
+        cached = null;
+      }
+      if (cached == null) {
+        linkedExecutions.put(path, pending);
+      }
+    }
+    if (cached != null) {
+      return join(cached);
+    }
+    try {
+      PipelineExecutionImpl execution = new PipelineExecutionImpl(api.get(path), this);
+      if (staleness.isZero()) {
+        unlink(path, pending);
+      }
+      pending.complete(execution);
+      return execution;
+    } catch (CloudManagerApiException | RuntimeException e) {
+      unlink(path, pending);
+      pending.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private void unlink(String path, CompletableFuture<PipelineExecutionImpl> retrieval) {
+    synchronized (linkedExecutions) {
+      linkedExecutions.remove(path, retrieval);
+    }
+  }
+
+  private static PipelineExecutionImpl join(CompletableFuture<PipelineExecutionImpl> future) throws CloudManagerApiException {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof CloudManagerApiException) {
+        throw (CloudManagerApiException) e.getCause();
+      }
+      throw (RuntimeException) e.getCause();
+    }
+  }
+
+  Collection<Metric> getQualityGateResultsDetail(PipelineExecutionImpl execution, StepAction action) throws CloudManagerApiException {
     PipelineExecutionStepStateImpl step = getStepStateDetail(execution, action);
+    PipelineStepMetrics psm = api.getStepMetrics(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId());
+    return toMetrics(psm);
+  }
+
+  String getStepLogDownloadUrlDetail(PipelineExecutionImpl execution, StepAction action, String file) throws CloudManagerApiException {
+    return getStepLogDownloadUrl(getStepStateDetail(execution, action), file);
+  }
+
+  String getStepLogDownloadUrl(PipelineExecutionStepStateImpl step, String file) throws CloudManagerApiException {
+    PipelineExecution execution = step.getExecution();
     Redirect redirect;
     if (StringUtils.isBlank(file)) {
       redirect = api.getLogs(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId());
     } else {
       redirect = api.getLogs(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId(), file);
     }
+    return toLogDownloadUrl(redirect, execution, step.getAction());
+  }
+
+  static Collection<Metric> toMetrics(PipelineStepMetrics psm) {
+    return psm.getMetrics() == null || psm.getMetrics().isEmpty() ?
+        Collections.emptyList() :
+        psm.getMetrics().stream().map(MetricImpl::new).collect(Collectors.toList());
+  }
+
+  static String toLogDownloadUrl(Redirect redirect, PipelineExecution execution, String action) throws CloudManagerApiException {
+    if (redirect != null && StringUtils.isNotBlank(redirect.getRedirect())) {
+      return redirect.getRedirect();
+    }
+    throw new CloudManagerApiException(EXECUTION_LOG_REDIRECT_ERROR.formatted(execution.getId(), action));
+  }
+
+  static String toArtifactDownloadUrl(Redirect redirect, PipelineExecutionStepState step) throws CloudManagerApiException {
     if (redirect != null && StringUtils.isNotBlank(redirect.getRedirect())) {
       return redirect.getRedirect();
     }
-    throw new CloudManagerApiException(EXECUTION_LOG_REDIRECT_ERROR.formatted(execution.getId(), action.name()));
+    throw new CloudManagerApiException(ARTIFACT_REDIRECT_ERROR.formatted(step.getExecution().getId(), step.getPhaseId(), step.getStepId()));
   }
 
-  private PipelineExecutionStepStateImpl getStepStateDetail(PipelineExecutionImpl execution, StepAction action) throws CloudManagerApiException {
-    return getStep(execution,
-        s -> s.getStepAction() == action,
-        "Cannot find step state for action '%s' on execution %s.".formatted(action, execution.getId()));
+  PipelineExecutionStepStateImpl getCancelableStep(PipelineExecutionImpl execution) throws CloudManagerApiException {
+    PipelineExecutionStepStateImpl step = execution.getIndexedStep(StatusEnum.RUNNING);
+    if (step == null) {
+      step = execution.getIndexedStep(StatusEnum.WAITING);
+    }
+    if (step == null) {
+      throw new CloudManagerApiException("Cannot find a cancelable step for pipeline %s, execution %s.".formatted(execution.getPipelineId(), execution.getId()));
+    }
+    return step;
   }
 
-  private PipelineExecutionStepStateImpl getWaitingStep(PipelineExecutionImpl execution) throws CloudManagerApiException {
-    return getStep(execution, PipelineExecutionStepStateImpl.IS_WAITING, "Cannot find a waiting step for pipeline %s, execution %s.".formatted(execution.getPipelineId(), execution.getId()));
+  PipelineExecutionStepStateImpl getStepStateDetail(PipelineExecutionImpl execution, StepAction action) throws CloudManagerApiException {
+    PipelineExecutionStepStateImpl step = execution.getIndexedStep(action);
+    if (step == null) {
+      throw new CloudManagerApiException("Cannot find step state for action '%s' on execution %s.".formatted(action, execution.getId()));
+    }
+    return step;
   }
 
-  private PipelineExecutionStepStateImpl getStep(
-      PipelineExecutionImpl actual,
-      Predicate<PipelineExecutionStepState> predicate,
-      String errorMessage) throws CloudManagerApiException {
-    PipelineExecutionEmbedded embeddeds = actual.getEmbedded();
-    CloudManagerApiException potential = new CloudManagerApiException(errorMessage);
-    if (embeddeds == null || embeddeds.getStepStates() == null || embeddeds.getStepStates().isEmpty()) {
-      throw potential;
+  PipelineExecutionStepStateImpl getWaitingStep(PipelineExecutionImpl execution) throws CloudManagerApiException {
+    PipelineExecutionStepStateImpl step = execution.getIndexedStep(StatusEnum.WAITING);
+    if (step == null) {
+      throw new CloudManagerApiException("Cannot find a waiting step for pipeline %s, execution %s.".formatted(execution.getPipelineId(), execution.getId()));
     }
-    return embeddeds.getStepStates()
-        .stream()
-        .map(s -> new PipelineExecutionStepStateImpl(s, actual, this))
-        .filter(predicate)
-        .findFirst()
-        .orElseThrow(() -> potential);
+    return step;
   }
 
   private interface FeignApi {
@@ -382,10 +585,13 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
     PipelineStepMetrics getStepMetrics(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId) throws CloudManagerApiException;
 
     @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/executions")
-    PipelineExecutionListRepresentation list(@Param("programId") String programId, @Param("pipelineId") String pipelineId) throws CloudManagerApiException;
+    HalItems<com.adobe.aio.cloudmanager.impl.generated.PipelineExecution> list(@Param("programId") String programId, @Param("pipelineId") String pipelineId) throws CloudManagerApiException;
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/executions?start={start}&limit={limit}")
+    HalItems<com.adobe.aio.cloudmanager.impl.generated.PipelineExecution> list(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("start") int start, @Param("limit") int limit) throws CloudManagerApiException;
 
     @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/executions?start={start}&limit={limit}")
-    PipelineExecutionListRepresentation list(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("start") int start, @Param("limit") int limit) throws CloudManagerApiException;
+    HalItems<PipelineExecutionSummaryImpl> listSummaries(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("start") int start, @Param("limit") int limit) throws CloudManagerApiException;
 
     @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/artifacts")
     ArtifactList listArtifacts(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId) throws CloudManagerApiException;
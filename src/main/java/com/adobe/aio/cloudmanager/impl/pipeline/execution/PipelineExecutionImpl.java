@@ -20,9 +20,19 @@ package com.adobe.aio.cloudmanager.impl.pipeline.execution;
  * #L%
  */
 
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.adobe.aio.cloudmanager.impl.generated.PipelineExecution;
 import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionStepState;
@@ -30,21 +40,25 @@ import com.adobe.aio.cloudmanager.CloudManagerApiException;
 import com.adobe.aio.cloudmanager.StepAction;
 import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionEmbedded;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 
 /**
- * Extension to the Swagger generated Pipeline. Provides convenience methods for frequently used APIs
+ * Wraps the Swagger generated Pipeline Execution. Provides convenience methods for frequently used APIs
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class PipelineExecutionImpl extends PipelineExecution implements com.adobe.aio.cloudmanager.PipelineExecution {
+public class PipelineExecutionImpl implements com.adobe.aio.cloudmanager.PipelineExecution, Serializable {
 
   private static final String FIND_STEP_ERROR = "Cannot find step with action '%s' for pipeline %s, execution %s.";
   private static final String FIND_CURRENT_ERROR = "Cannot find a current step for pipeline %s, execution %s.";
 
   private static final long serialVersionUID = 1L;
 
+  private static final Map<String, StepAction> ACTIONS = Stream.of(StepAction.values()).collect(Collectors.toUnmodifiableMap(StepAction::name, a -> a));
+
+  @Getter
   @Delegate
   private final PipelineExecution delegate;
 
@@ -52,6 +66,18 @@ public class PipelineExecutionImpl extends PipelineExecution implements com.adob
   @EqualsAndHashCode.Exclude
   private final PipelineExecutionApiImpl client;
 
+  /**
+   * When this execution was retrieved from the API.
+   */
+  @Getter
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private final Instant fetchedAt = Instant.now();
+
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private transient volatile StepIndex index;
+
   public PipelineExecutionImpl(PipelineExecution delegate, PipelineExecutionApiImpl client) {
     this.delegate = delegate;
     this.client = client;
@@ -66,34 +92,104 @@ public class PipelineExecutionImpl extends PipelineExecution implements com.adob
 
   @Override
   public com.adobe.aio.cloudmanager.PipelineExecutionStepState getStep(StepAction action) throws CloudManagerApiException {
-    Optional<com.adobe.aio.cloudmanager.PipelineExecutionStepState> step = getStep((s) -> s.getStepAction() == action);
-    if (step.isEmpty()) {
+    PipelineExecutionStepStateImpl step = getIndexedStep(action);
+    if (step == null) {
       throw new CloudManagerApiException(FIND_STEP_ERROR.formatted(action, getPipelineId(), getId()));
     }
-    return step.get();
+    return step;
   }
 
   @Override
   public com.adobe.aio.cloudmanager.PipelineExecutionStepState getCurrentStep() throws CloudManagerApiException {
-    PipelineExecutionEmbedded embeddeds = getEmbedded();
-    if (embeddeds == null || embeddeds.getStepStates().isEmpty()) {
+    PipelineExecutionStepStateImpl step = index().current;
+    if (step == null) {
       throw new CloudManagerApiException(FIND_CURRENT_ERROR.formatted(getPipelineId(), getId()));
     }
-    PipelineExecutionStepState step = embeddeds.getStepStates()
-        .stream()
-        .filter(stepState -> stepState.getStatus() != PipelineExecutionStepState.StatusEnum.FINISHED)
-        .findFirst()
-        .orElseThrow(() -> new CloudManagerApiException(FIND_CURRENT_ERROR.formatted(getPipelineId(), getId())));
-    return new PipelineExecutionStepStateImpl(step, this, client);
+    return step;
   }
 
   @Override
   public Optional<com.adobe.aio.cloudmanager.PipelineExecutionStepState> getStep(Predicate<com.adobe.aio.cloudmanager.PipelineExecutionStepState> predicate) {
-    PipelineExecutionEmbedded embeddeds = getEmbedded();
-    if (embeddeds == null || embeddeds.getStepStates().isEmpty()) {
-      return Optional.empty();
+    return getSteps().stream().map(s -> (com.adobe.aio.cloudmanager.PipelineExecutionStepState) s).filter(predicate).findFirst();
+  }
+
+  /**
+   * The steps of this execution. They are wrapped once, on first use, and shared by all lookups.
+   *
+   * @return the steps, in execution order
+   */
+  List<PipelineExecutionStepStateImpl> getSteps() {
+    return index().steps;
+  }
+
+  /**
+   * The first step with the action.
+   *
+   * @param action the action
+   * @return the step, or {@code null} if there is none
+   */
+  PipelineExecutionStepStateImpl getIndexedStep(StepAction action) {
+    return index().byAction.get(action);
+  }
+
+  /**
+   * The first step in the status.
+   *
+   * @param status the status
+   * @return the step, or {@code null} if there is none
+   */
+  PipelineExecutionStepStateImpl getIndexedStep(PipelineExecutionStepState.StatusEnum status) {
+    return index().byStatus.get(status);
+  }
+
+  /**
+   * The steps of the phase.
+   *
+   * @param phaseId the phase id
+   * @return the steps, in execution order
+   */
+  List<PipelineExecutionStepStateImpl> getPhaseSteps(String phaseId) {
+    return index().byPhase.getOrDefault(phaseId, Collections.emptyList());
+  }
+
+  private StepIndex index() {
+    StepIndex result = index;
+    if (result == null) {
+      PipelineExecutionEmbedded embeddeds = getEmbedded();
+      result = new StepIndex(embeddeds == null || embeddeds.getStepStates() == null ?
+          Collections.emptyList() :
+          embeddeds.getStepStates().stream().map(s -> new PipelineExecutionStepStateImpl(s, this, client)).collect(Collectors.toUnmodifiableList()));
+      index = result;
+    }
+    return result;
+  }
+
+  // Lookups of the steps by action, status and phase. The first step in execution order wins for actions and statuses.
+  private static final class StepIndex {
+    private final List<PipelineExecutionStepStateImpl> steps;
+    private final Map<StepAction, PipelineExecutionStepStateImpl> byAction = new EnumMap<>(StepAction.class);
+    private final Map<PipelineExecutionStepState.StatusEnum, PipelineExecutionStepStateImpl> byStatus = new EnumMap<>(PipelineExecutionStepState.StatusEnum.class);
+    private final Map<String, List<PipelineExecutionStepStateImpl>> byPhase = new HashMap<>();
+    private final PipelineExecutionStepStateImpl current;
+
+    private StepIndex(List<PipelineExecutionStepStateImpl> steps) {
+      this.steps = steps;
+      PipelineExecutionStepStateImpl first = null;
+      for (PipelineExecutionStepStateImpl step : steps) {
+        StepAction action = ACTIONS.get(step.getAction());
+        if (action != null) {
+          byAction.putIfAbsent(action, step);
+        }
+        if (step.getStatus() != null) {
+          byStatus.putIfAbsent(step.getStatus(), step);
+        }
+        if (first == null && step.getStatus() != PipelineExecutionStepState.StatusEnum.FINISHED) {
+          first = step;
+        }
+        byPhase.computeIfAbsent(step.getPhaseId(), k -> new ArrayList<>()).add(step);
+      }
+      this.current = first;
     }
-    return embeddeds.getStepStates().stream().map(s -> (com.adobe.aio.cloudmanager.PipelineExecutionStepState) new PipelineExecutionStepStateImpl(s, this, client)).filter(predicate).findFirst();
   }
 
   @Override
@@ -31,7 +31,7 @@ import lombok.ToString;
 
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class PipelineExecutionStartEventImpl implements PipelineExecutionStartEvent {
+public class PipelineExecutionStartEventImpl implements PipelineExecutionStartEvent, ObjectEvent {
 
   private final PipelineExecutionStartEventEvent delegate;
 
@@ -39,6 +39,10 @@ public class PipelineExecutionStartEventImpl implements PipelineExecutionStartEv
   @EqualsAndHashCode.Exclude
   private final PipelineExecutionApiImpl client;
 
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private volatile PipelineExecution execution;
+
   public PipelineExecutionStartEventImpl(PipelineExecutionStartEventEvent delegate, PipelineExecutionApiImpl client) {
     this.delegate = delegate;
     this.client = client;
@@ -54,9 +58,17 @@ public class PipelineExecutionStartEventImpl implements PipelineExecutionStartEv
     return delegate.getActivitystreamspublished();
   }
 
+  @Override
+  public String getObjectId() {
+    return delegate.getActivitystreamsobject().getAtId();
+  }
+
   @Override
   public PipelineExecution getExecution() throws CloudManagerApiException {
-    return client.get(delegate.getActivitystreamsobject());
+    if (execution == null) {
+      execution = client.get(delegate.getActivitystreamsobject());
+    }
+    return execution;
   }
 
 }
@@ -31,12 +31,16 @@ import lombok.ToString;
 
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class PipelineExecutionStepStartEventImpl implements PipelineExecutionStepStartEvent {
+public class PipelineExecutionStepStartEventImpl implements PipelineExecutionStepStartEvent, ObjectEvent {
 
   private final PipelineExecutionStepStartEventEvent delegate;
 
   private final PipelineExecutionApiImpl client;
 
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private volatile PipelineExecutionStepState stepState;
+
   public PipelineExecutionStepStartEventImpl(PipelineExecutionStepStartEventEvent delegate, PipelineExecutionApiImpl client) {
     this.delegate = delegate;
     this.client = client;
@@ -52,8 +56,16 @@ public class PipelineExecutionStepStartEventImpl implements PipelineExecutionSte
     return delegate.getActivitystreamspublished();
   }
 
+  @Override
+  public String getObjectId() {
+    return delegate.getActivitystreamsobject().getAtId();
+  }
+
   @Override
   public PipelineExecutionStepState getStepState() throws CloudManagerApiException {
-    return client.getStepState(delegate.getActivitystreamsobject());
+    if (stepState == null) {
+      stepState = client.getStepState(delegate.getActivitystreamsobject());
+    }
+    return stepState;
   }
 }
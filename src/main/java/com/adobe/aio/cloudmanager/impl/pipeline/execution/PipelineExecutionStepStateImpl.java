@@ -22,9 +22,11 @@ package com.adobe.aio.cloudmanager.impl.pipeline.execution;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Serializable;
 import java.io.StringWriter;
 import java.net.URL;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.stream.Collectors;
 
 import org.apache.commons.io.FileUtils;
@@ -39,15 +41,16 @@ import com.adobe.aio.cloudmanager.PipelineExecutionApi;
 import com.adobe.aio.cloudmanager.StepAction;
 import com.adobe.aio.cloudmanager.impl.exception.CloudManagerExceptionDecoder;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 
 /**
- * Extension to the Swagger generated Pipeline. Provides convenience methods for frequently used APIs
+ * Wraps the Swagger generated Pipeline Execution Step State. Provides convenience methods for frequently used APIs
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class PipelineExecutionStepStateImpl extends PipelineExecutionStepState implements com.adobe.aio.cloudmanager.PipelineExecutionStepState {
+public class PipelineExecutionStepStateImpl implements com.adobe.aio.cloudmanager.PipelineExecutionStepState, Serializable {
 
   private static final long serialVersionUID = 1L;
 
@@ -55,6 +58,7 @@ public class PipelineExecutionStepStateImpl extends PipelineExecutionStepState i
   public static final String ACTION_SCHEDULE = "schedule";
   public static final String ACTION_DEPLOY = "deploy";
 
+  @Getter
   @Delegate
   private final PipelineExecutionStepState delegate;
   @ToString.Exclude
@@ -90,7 +94,7 @@ public class PipelineExecutionStepStateImpl extends PipelineExecutionStepState i
 
   @Override
   public boolean hasLogs() {
-    return delegate.getLinks().getHttpnsAdobeComadobecloudrelpipelinelogs() != null;
+    return delegate.getLinks() != null && delegate.getLinks().getHttpnsAdobeComadobecloudrelpipelinelogs() != null;
   }
 
   @Override
@@ -120,6 +124,16 @@ public class PipelineExecutionStepStateImpl extends PipelineExecutionStepState i
   }
 
   protected String getAdvanceBody() throws CloudManagerApiException {
+    if (StepAction.approval == getStepAction()) {
+      return getAdvanceBody(Collections.emptyList());
+    }
+    // The step was read from the execution being advanced, look up the metrics from the same snapshot.
+    return getAdvanceBody(execution instanceof PipelineExecutionImpl && client instanceof PipelineExecutionApiImpl ?
+        ((PipelineExecutionApiImpl) client).getQualityGateResultsDetail((PipelineExecutionImpl) execution, StepAction.codeQuality) :
+        client.getQualityGateResults(execution, StepAction.codeQuality));
+  }
+
+  String getAdvanceBody(Collection<Metric> metrics) throws CloudManagerApiException {
     StringWriter writer = new StringWriter();
     JsonFactory jsonFactory = new JsonFactory();
     try {
@@ -130,7 +144,7 @@ public class PipelineExecutionStepStateImpl extends PipelineExecutionStepState i
       } else {
         gen.writeFieldName("metrics");
         gen.writeStartArray();
-        buildMetricsOverride(gen);
+        buildMetricsOverride(gen, metrics);
         gen.writeEndArray();
       }
       gen.writeEndObject();
@@ -171,8 +185,7 @@ public class PipelineExecutionStepStateImpl extends PipelineExecutionStepState i
   /*
    * Builds the body needed to override any blocking metrics for advancing the pipeline.
    */
-  private void buildMetricsOverride(JsonGenerator gen) throws CloudManagerApiException, IOException {
-    Collection<Metric> metrics = client.getQualityGateResults(getExecution(), StepAction.codeQuality);
+  private void buildMetricsOverride(JsonGenerator gen, Collection<Metric> metrics) throws IOException {
     Collection<Metric> failed = metrics.stream().filter(m -> !m.isPassed() && Metric.Severity.IMPORTANT.equals(m.getSev())).collect(Collectors.toList());
     for (Metric m : failed) {
       gen.writeStartObject();
@@ -31,12 +31,16 @@ import lombok.ToString;
 
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class PipelineExecutionStepWaitingEventImpl implements PipelineExecutionStepWaitingEvent {
+public class PipelineExecutionStepWaitingEventImpl implements PipelineExecutionStepWaitingEvent, ObjectEvent {
 
   private final PipelineExecutionStepStartEventEvent delegate;
 
   private final PipelineExecutionApiImpl client;
 
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private volatile PipelineExecutionStepState stepState;
+
   public PipelineExecutionStepWaitingEventImpl(PipelineExecutionStepStartEventEvent delegate, PipelineExecutionApiImpl client) {
     this.delegate = delegate;
     this.client = client;
@@ -52,8 +56,16 @@ public class PipelineExecutionStepWaitingEventImpl implements PipelineExecutionS
     return delegate.getActivitystreamspublished();
   }
 
+  @Override
+  public String getObjectId() {
+    return delegate.getActivitystreamsobject().getAtId();
+  }
+
   @Override
   public PipelineExecutionStepState getStepState() throws CloudManagerApiException {
-    return client.getStepState(delegate.getActivitystreamsobject());
+    if (stepState == null) {
+      stepState = client.getStepState(delegate.getActivitystreamsobject());
+    }
+    return stepState;
   }
 }
@@ -0,0 +1,92 @@
+package com.adobe.aio.cloudmanager.impl.program;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.net.URL;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.adobe.aio.cloudmanager.AsyncProgramApi;
+import com.adobe.aio.cloudmanager.Constants;
+import com.adobe.aio.cloudmanager.HttpTransport;
+import com.adobe.aio.cloudmanager.Program;
+import com.adobe.aio.cloudmanager.ProgramApi;
+import com.adobe.aio.cloudmanager.Region;
+import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.generated.EmbeddedProgram;
+import com.adobe.aio.cloudmanager.impl.generated.ProgramList;
+import com.adobe.aio.cloudmanager.impl.generated.RegionsList;
+import com.adobe.aio.workspace.Workspace;
+import feign.Param;
+import feign.RequestLine;
+
+public class AsyncProgramApiImpl implements AsyncProgramApi {
+
+  private final FeignApi api;
+  private final ProgramApi client;
+
+  public AsyncProgramApiImpl(Workspace workspace, URL url, HttpTransport transport) {
+    String baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
+    api = FeignUtil.getAsyncBuilder(workspace, transport).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    client = new ProgramApiImpl(workspace, url, transport);
+  }
+
+  @Override
+  public CompletableFuture<Program> get(String programId) {
+    return api.get(programId).thenApply(p -> new ProgramImpl(p, client));
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(String programId) {
+    return api.delete(programId);
+  }
+
+  @Override
+  public CompletableFuture<Collection<Program>> list(String tenantId) {
+    return api.list(tenantId).thenApply(list -> list.getEmbedded() == null || list.getEmbedded().getPrograms() == null ?
+        Collections.emptyList() :
+        list.getEmbedded().getPrograms().stream().map(p -> new ProgramImpl(p, client)).collect(Collectors.toList()));
+  }
+
+  @Override
+  public CompletableFuture<Collection<Region>> listRegions(String programId) {
+    return api.listRegions(programId).thenApply(list -> list.getEmbedded() == null || list.getEmbedded().getRegions() == null ?
+        Collections.emptySet() :
+        list.getEmbedded().getRegions().stream().map(r -> Region.fromValue(r.getName())).collect(Collectors.toList()));
+  }
+
+  // Method signatures must match the synchronous FeignApi, the ExceptionDecoder is keyed on them.
+  private interface FeignApi {
+    @RequestLine("GET /api/program/{id}")
+    CompletableFuture<EmbeddedProgram> get(@Param("id") String id);
+
+    @RequestLine("DELETE /api/program/{id}")
+    CompletableFuture<Void> delete(@Param("id") String id);
+
+    @RequestLine("GET /api/tenant/{tenantId}/programs")
+    CompletableFuture<ProgramList> list(@Param("tenantId") String tenantId);
+
+    @RequestLine("GET /api/program/{id}/regions")
+    CompletableFuture<RegionsList> listRegions(@Param("id") String id);
+  }
+}
@@ -20,21 +20,47 @@ package com.adobe.aio.cloudmanager.impl.program;
  * #L%
  */
 
+import java.io.File;
+import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
 import java.util.stream.Collectors;
 
+import com.adobe.aio.cloudmanager.ApiBuilder;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.ContentSet;
+import com.adobe.aio.cloudmanager.ContentSetApi;
+import com.adobe.aio.cloudmanager.Environment;
+import com.adobe.aio.cloudmanager.EnvironmentApi;
+import com.adobe.aio.cloudmanager.Pipeline;
+import com.adobe.aio.cloudmanager.PipelineApi;
+import com.adobe.aio.cloudmanager.PipelineExecutionApi;
+import com.adobe.aio.cloudmanager.ProgramSnapshot;
+import com.adobe.aio.cloudmanager.RegionDeployment;
+import com.adobe.aio.cloudmanager.Repository;
+import com.adobe.aio.cloudmanager.RepositoryApi;
+import com.adobe.aio.cloudmanager.Variable;
+import com.adobe.aio.cloudmanager.HttpTransport;
 import com.adobe.aio.cloudmanager.Constants;
 import com.adobe.aio.cloudmanager.Program;
+import com.adobe.aio.cloudmanager.ProgramSummary;
 import com.adobe.aio.cloudmanager.Region;
 import com.adobe.aio.workspace.Workspace;
 import feign.Param;
 import feign.RequestLine;
+import lombok.Getter;
 import com.adobe.aio.cloudmanager.ProgramApi;
 import com.adobe.aio.cloudmanager.Tenant;
+import com.adobe.aio.cloudmanager.impl.FanOut;
 import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.HalItems;
 import com.adobe.aio.cloudmanager.impl.generated.EmbeddedProgram;
 import com.adobe.aio.cloudmanager.impl.generated.ProgramList;
 import com.adobe.aio.cloudmanager.impl.generated.RegionsList;
@@ -42,10 +68,22 @@ import com.adobe.aio.cloudmanager.impl.generated.RegionsList;
 public class ProgramApiImpl implements ProgramApi {
 
   private final FeignApi api;
+  private final Workspace workspace;
+  private final String baseUrl;
+  private final HttpTransport transport;
+  private final ExecutorService executor;
+  private volatile Apis apis;
+
+  public ProgramApiImpl(Workspace workspace, URL url, HttpTransport transport) {
+    this(workspace, url, transport, null);
+  }
 
-  public ProgramApiImpl(Workspace workspace, URL url) {
-    String baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
-    api = FeignUtil.getBuilder(workspace).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+  public ProgramApiImpl(Workspace workspace, URL url, HttpTransport transport, ExecutorService executor) {
+    this.workspace = workspace;
+    this.transport = transport;
+    this.executor = executor;
+    baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
+    api = FeignUtil.getBuilder(workspace, transport).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
   }
 
   @Override
@@ -76,6 +114,11 @@ public class ProgramApiImpl implements ProgramApi {
     return list(tenant.getId());
   }
 
+  @Override
+  public Collection<ProgramSummary> listSummaries(String tenantId) throws CloudManagerApiException {
+    return api.listSummaries(tenantId).collect(p -> p);
+  }
+
   @Override
   public Collection<Region> listRegions(String programId) throws CloudManagerApiException {
     RegionsList list = api.listRegions(programId);
@@ -84,6 +127,87 @@ public class ProgramApiImpl implements ProgramApi {
         list.getEmbedded().getRegions().stream().map(r -> Region.fromValue(r.getName())).collect(Collectors.toList());
   }
 
+  @Override
+  public ProgramSnapshot snapshot(String programId) throws CloudManagerApiException {
+    Apis apis = getApis();
+    try (FanOut fanOut = new FanOut(executor, "Cannot snapshot program %s".formatted(programId), "Interrupted taking snapshot of program %s.".formatted(programId))) {
+      FutureTask<Program> program = fanOut.submit(() -> get(programId));
+      FutureTask<Collection<Environment>> environments = fanOut.submit(() -> apis.getEnvironmentApi().list(programId));
+      FutureTask<Collection<Pipeline>> pipelines = fanOut.submit(() -> apis.getPipelineApi().list(programId));
+      FutureTask<Collection<Repository>> repositories = fanOut.submit(() -> apis.getRepositoryApi().list(programId));
+      FutureTask<Collection<ContentSet>> contentSets = fanOut.submit(() -> apis.getContentSetApi().list(programId));
+
+      Map<String, FutureTask<Collection<RegionDeployment>>> deployments = new LinkedHashMap<>();
+      Map<String, FutureTask<Set<Variable>>> variables = new LinkedHashMap<>();
+      for (Environment environment : fanOut.await(environments)) {
+        deployments.put(environment.getId(), fanOut.submit(() -> apis.getEnvironmentApi().listRegionDeployments(programId, environment.getId())));
+        variables.put(environment.getId(), fanOut.submit(() -> apis.getEnvironmentApi().getVariables(environment)));
+      }
+      Map<String, Collection<RegionDeployment>> deploymentResults = new LinkedHashMap<>();
+      for (Map.Entry<String, FutureTask<Collection<RegionDeployment>>> entry : deployments.entrySet()) {
+        deploymentResults.put(entry.getKey(), fanOut.await(entry.getValue()));
+      }
+      Map<String, Collection<Variable>> variableResults = new LinkedHashMap<>();
+      for (Map.Entry<String, FutureTask<Set<Variable>>> entry : variables.entrySet()) {
+        variableResults.put(entry.getKey(), fanOut.await(entry.getValue()));
+      }
+      return new ProgramSnapshotImpl(OffsetDateTime.now(), fanOut.await(program), fanOut.await(environments), deploymentResults, variableResults,
+          fanOut.await(pipelines), fanOut.await(repositories), fanOut.await(contentSets));
+    }
+  }
+
+  @Override
+  public ProgramSnapshot snapshot(Program program) throws CloudManagerApiException {
+    return snapshot(program.getId());
+  }
+
+  @Override
+  public ProgramSnapshot readSnapshot(File file) throws CloudManagerApiException {
+    return ProgramSnapshotImpl.read(file, getApis());
+  }
+
+  // The other APIs depend on this one, so they are only built when a snapshot needs them.
+  private Apis getApis() throws CloudManagerApiException {
+    Apis result = apis;
+    if (result == null) {
+      synchronized (this) {
+        if (apis == null) {
+          apis = new Apis(this, workspace, baseUrl, transport);
+        }
+        result = apis;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * The APIs of the other parts of a program, sharing this API's transport.
+   */
+  @Getter
+  static class Apis {
+    private final ProgramApi programApi;
+    private final EnvironmentApi environmentApi;
+    private final PipelineApi pipelineApi;
+    private final PipelineExecutionApi executionApi;
+    private final RepositoryApi repositoryApi;
+    private final ContentSetApi contentSetApi;
+
+    private Apis(ProgramApi programApi, Workspace workspace, String baseUrl, HttpTransport transport) throws CloudManagerApiException {
+      this.programApi = programApi;
+      try {
+        URL url = new URL(baseUrl);
+        environmentApi = new ApiBuilder<>(EnvironmentApi.class).workspace(workspace).url(url).transport(transport).build();
+        pipelineApi = new ApiBuilder<>(PipelineApi.class).workspace(workspace).url(url).transport(transport).build();
+        executionApi = new ApiBuilder<>(PipelineExecutionApi.class).workspace(workspace).url(url).transport(transport).build();
+        repositoryApi = new ApiBuilder<>(RepositoryApi.class).workspace(workspace).url(url).transport(transport).build();
+        contentSetApi = new ApiBuilder<>(ContentSetApi.class).workspace(workspace).url(url).transport(transport).build();
+      } catch (MalformedURLException e) {
+        // This shouldn't be possible to reach.
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
   private interface FeignApi {
     @RequestLine("GET /api/program/{id}")
     EmbeddedProgram get(@Param("id") String id) throws CloudManagerApiException;
@@ -94,6 +218,9 @@ public class ProgramApiImpl implements ProgramApi {
     @RequestLine("GET /api/tenant/{tenantId}/programs")
     ProgramList list(@Param("tenantId") String tenantId) throws CloudManagerApiException;
 
+    @RequestLine("GET /api/tenant/{tenantId}/programs")
+    HalItems<ProgramSummaryImpl> listSummaries(@Param("tenantId") String tenantId) throws CloudManagerApiException;
+
     @RequestLine("GET /api/program/{id}/regions")
     RegionsList listRegions(@Param("id") String id) throws CloudManagerApiException;
   }
@@ -20,6 +20,7 @@ package com.adobe.aio.cloudmanager.impl.program;
  * #L%
  */
 
+import java.io.Serializable;
 import java.util.Collection;
 
 import com.adobe.aio.cloudmanager.Region;
@@ -28,17 +29,19 @@ import com.adobe.aio.cloudmanager.CloudManagerApiException;
 import com.adobe.aio.cloudmanager.Program;
 import com.adobe.aio.cloudmanager.ProgramApi;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 
 /**
- * Extension to the Swagger generated Embedded Program. Provides convenience methods for frequently used APIs
+ * Wraps the Swagger generated Embedded Program. Provides convenience methods for frequently used APIs
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class ProgramImpl extends EmbeddedProgram implements Program {
+public class ProgramImpl implements Program, Serializable {
   private static final long serialVersionUID = 1L;
 
+  @Getter
   @Delegate
   private final EmbeddedProgram delegate;
 
@@ -0,0 +1,258 @@
+package com.adobe.aio.cloudmanager.impl.program;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.ContentSet;
+import com.adobe.aio.cloudmanager.Environment;
+import com.adobe.aio.cloudmanager.Pipeline;
+import com.adobe.aio.cloudmanager.Program;
+import com.adobe.aio.cloudmanager.ProgramSnapshot;
+import com.adobe.aio.cloudmanager.RegionDeployment;
+import com.adobe.aio.cloudmanager.Repository;
+import com.adobe.aio.cloudmanager.Variable;
+import com.adobe.aio.cloudmanager.impl.JsonCodecs;
+import com.adobe.aio.cloudmanager.impl.VariableImpl;
+import com.adobe.aio.cloudmanager.impl.content.ContentSetApiImpl;
+import com.adobe.aio.cloudmanager.impl.content.ContentSetImpl;
+import com.adobe.aio.cloudmanager.impl.environment.EnvironmentImpl;
+import com.adobe.aio.cloudmanager.impl.environment.RegionDeploymentImpl;
+import com.adobe.aio.cloudmanager.impl.generated.EmbeddedProgram;
+import com.adobe.aio.cloudmanager.impl.generated.PipelinePhase;
+import com.adobe.aio.cloudmanager.impl.pipeline.PipelineImpl;
+import com.adobe.aio.cloudmanager.impl.repository.RepositoryImpl;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+/**
+ * Indexes the topology once, when created. The file form is gzipped JSON of the API representations, so reading it back only needs the APIs to reconnect the objects.
+ */
+@Getter
+public class ProgramSnapshotImpl implements ProgramSnapshot {
+
+  private static final int VERSION = 1;
+  private static final ObjectMapper MAPPER = JsonCodecs.mapper();
+
+  private final OffsetDateTime capturedAt;
+  private final Program program;
+  private final Collection<Environment> environments;
+  private final Collection<Pipeline> pipelines;
+  private final Collection<Repository> repositories;
+  private final Collection<ContentSet> contentSets;
+  @Getter(lombok.AccessLevel.NONE)
+  private final Map<String, Collection<RegionDeployment>> regionDeployments;
+  @Getter(lombok.AccessLevel.NONE)
+  private final Map<String, Collection<Variable>> variables;
+  @Getter(lombok.AccessLevel.NONE)
+  private final Map<String, Environment> environmentsById;
+  @Getter(lombok.AccessLevel.NONE)
+  private final Map<Environment.Type, List<Environment>> environmentsByType;
+  @Getter(lombok.AccessLevel.NONE)
+  private final Map<String, Pipeline> pipelinesById;
+  @Getter(lombok.AccessLevel.NONE)
+  private final Map<String, List<Pipeline>> pipelinesByRepository;
+  @Getter(lombok.AccessLevel.NONE)
+  private final Map<String, Repository> repositoriesById;
+  @Getter(lombok.AccessLevel.NONE)
+  private final Map<String, ContentSet> contentSetsById;
+
+  public ProgramSnapshotImpl(OffsetDateTime capturedAt, Program program, Collection<Environment> environments, Map<String, Collection<RegionDeployment>> regionDeployments,
+                             Map<String, Collection<Variable>> variables, Collection<Pipeline> pipelines, Collection<Repository> repositories, Collection<ContentSet> contentSets) {
+    this.capturedAt = capturedAt;
+    this.program = program;
+    this.environments = List.copyOf(environments);
+    this.pipelines = List.copyOf(pipelines);
+    this.repositories = List.copyOf(repositories);
+    this.contentSets = List.copyOf(contentSets);
+    this.regionDeployments = regionDeployments.entrySet().stream().collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> List.copyOf(e.getValue())));
+    this.variables = variables.entrySet().stream().collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> Set.copyOf(e.getValue())));
+    this.environmentsById = index(this.environments, Environment::getId);
+    this.environmentsByType = this.environments.stream().collect(Collectors.groupingBy(Environment::getEnvType, Collectors.toUnmodifiableList()));
+    this.pipelinesById = index(this.pipelines, Pipeline::getId);
+    this.pipelinesByRepository = new LinkedHashMap<>();
+    this.pipelines.forEach(p -> repositoryIds(p).forEach(r -> pipelinesByRepository.computeIfAbsent(r, k -> new ArrayList<>()).add(p)));
+    this.repositoriesById = index(this.repositories, Repository::getId);
+    this.contentSetsById = index(this.contentSets, ContentSet::getId);
+  }
+
+  @Override
+  public Collection<Environment> getEnvironments(Environment.Type type) {
+    return environmentsByType.getOrDefault(type, Collections.emptyList());
+  }
+
+  @Override
+  public Optional<Environment> getEnvironment(String environmentId) {
+    return Optional.ofNullable(environmentsById.get(environmentId));
+  }
+
+  @Override
+  public Collection<RegionDeployment> getRegionDeployments(Environment environment) {
+    return regionDeployments.getOrDefault(environment.getId(), Collections.emptyList());
+  }
+
+  @Override
+  public Collection<Variable> getVariables(Environment environment) {
+    return variables.getOrDefault(environment.getId(), Collections.emptySet());
+  }
+
+  @Override
+  public Collection<Pipeline> getPipelines(Repository repository) {
+    return Collections.unmodifiableList(pipelinesByRepository.getOrDefault(repository.getId(), Collections.emptyList()));
+  }
+
+  @Override
+  public Optional<Pipeline> getPipeline(String pipelineId) {
+    return Optional.ofNullable(pipelinesById.get(pipelineId));
+  }
+
+  @Override
+  public Optional<Repository> getRepository(String repositoryId) {
+    return Optional.ofNullable(repositoriesById.get(repositoryId));
+  }
+
+  @Override
+  public Optional<ContentSet> getContentSet(String contentSetId) {
+    return Optional.ofNullable(contentSetsById.get(contentSetId));
+  }
+
+  @Override
+  public void write(File file) throws CloudManagerApiException {
+    try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())));
+         JsonGenerator gen = MAPPER.createGenerator(out)) {
+      gen.writeStartObject();
+      gen.writeNumberField("version", VERSION);
+      gen.writeStringField("capturedAt", capturedAt.toString());
+      gen.writeFieldName("program");
+      JsonCodecs.writer(EmbeddedProgram.class).writeValue(gen, ((ProgramImpl) program).getDelegate());
+      writeArray(gen, "environments", com.adobe.aio.cloudmanager.impl.generated.Environment.class, environments, e -> ((EnvironmentImpl) e).getDelegate());
+      gen.writeObjectFieldStart("regionDeployments");
+      for (Map.Entry<String, Collection<RegionDeployment>> entry : regionDeployments.entrySet()) {
+        writeArray(gen, entry.getKey(), com.adobe.aio.cloudmanager.impl.generated.RegionDeployment.class, entry.getValue(), d -> ((RegionDeploymentImpl) d).getDelegate());
+      }
+      gen.writeEndObject();
+      gen.writeObjectFieldStart("variables");
+      for (Map.Entry<String, Collection<Variable>> entry : variables.entrySet()) {
+        writeArray(gen, entry.getKey(), com.adobe.aio.cloudmanager.impl.generated.Variable.class, entry.getValue(), v -> ((VariableImpl) v).getDelegate());
+      }
+      gen.writeEndObject();
+      writeArray(gen, "pipelines", com.adobe.aio.cloudmanager.impl.generated.Pipeline.class, pipelines, p -> ((PipelineImpl) p).getDelegate());
+      writeArray(gen, "repositories", com.adobe.aio.cloudmanager.impl.generated.Repository.class, repositories, r -> ((RepositoryImpl) r).getDelegate());
+      writeArray(gen, "contentSets", com.adobe.aio.cloudmanager.impl.generated.ContentSet.class, contentSets, c -> ((ContentSetImpl) c).getDelegate());
+      gen.writeEndObject();
+    } catch (IOException | ClassCastException e) {
+      throw new CloudManagerApiException("Cannot write snapshot of program %s to %s: %s.".formatted(program.getId(), file, e.getLocalizedMessage()));
+    }
+  }
+
+  /**
+   * Read a snapshot written by {@link #write(File)}, reconnecting its objects to the APIs.
+   *
+   * @param file the snapshot file
+   * @param apis the APIs of the program
+   * @return the snapshot
+   * @throws CloudManagerApiException when the file cannot be read
+   */
+  static ProgramSnapshotImpl read(File file, ProgramApiImpl.Apis apis) throws CloudManagerApiException {
+    JsonNode root;
+    try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+      root = MAPPER.readTree(in);
+    } catch (IOException e) {
+      throw new CloudManagerApiException("Cannot read program snapshot %s: %s.".formatted(file, e.getLocalizedMessage()));
+    }
+    if (root == null || root.path("version").asInt() != VERSION) {
+      throw new CloudManagerApiException("Cannot read program snapshot %s: unsupported version.".formatted(file));
+    }
+    try {
+      Program program = new ProgramImpl(JsonCodecs.reader(EmbeddedProgram.class).readValue(root.path("program")), apis.getProgramApi());
+      List<Environment> environments = readArray(root.path("environments"), com.adobe.aio.cloudmanager.impl.generated.Environment.class, e -> new EnvironmentImpl(e, apis.getEnvironmentApi()));
+      Map<String, Collection<RegionDeployment>> regionDeployments = new LinkedHashMap<>();
+      for (Map.Entry<String, JsonNode> entry : root.path("regionDeployments").properties()) {
+        regionDeployments.put(entry.getKey(), readArray(entry.getValue(), com.adobe.aio.cloudmanager.impl.generated.RegionDeployment.class, RegionDeploymentImpl::new));
+      }
+      Map<String, Collection<Variable>> variables = new LinkedHashMap<>();
+      for (Map.Entry<String, JsonNode> entry : root.path("variables").properties()) {
+        variables.put(entry.getKey(), readArray(entry.getValue(), com.adobe.aio.cloudmanager.impl.generated.Variable.class, VariableImpl::new));
+      }
+      List<Pipeline> pipelines = readArray(root.path("pipelines"), com.adobe.aio.cloudmanager.impl.generated.Pipeline.class, p -> new PipelineImpl(p, apis.getPipelineApi(), apis.getExecutionApi()));
+      List<Repository> repositories = readArray(root.path("repositories"), com.adobe.aio.cloudmanager.impl.generated.Repository.class, r -> new RepositoryImpl(r, apis.getRepositoryApi()));
+      List<ContentSet> contentSets = readArray(root.path("contentSets"), com.adobe.aio.cloudmanager.impl.generated.ContentSet.class, c -> new ContentSetImpl(c, (ContentSetApiImpl) apis.getContentSetApi()));
+      return new ProgramSnapshotImpl(OffsetDateTime.parse(root.path("capturedAt").asText()), program, environments, regionDeployments, variables, pipelines, repositories, contentSets);
+    } catch (IOException | RuntimeException e) {
+      throw new CloudManagerApiException("Cannot read program snapshot %s: %s.".formatted(file, e.getLocalizedMessage()));
+    }
+  }
+
+  private static <T> Map<String, T> index(Collection<T> items, Function<T, String> id) {
+    Map<String, T> index = new LinkedHashMap<>();
+    items.forEach(i -> index.put(id.apply(i), i));
+    return Collections.unmodifiableMap(index);
+  }
+
+  private static Collection<String> repositoryIds(Pipeline pipeline) {
+    if (!(pipeline instanceof PipelineImpl) || ((PipelineImpl) pipeline).getPhases() == null) {
+      return Collections.emptyList();
+    }
+    return ((PipelineImpl) pipeline).getPhases().stream()
+        .filter(p -> PipelinePhase.TypeEnum.BUILD == p.getType() && p.getRepositoryId() != null)
+        .map(PipelinePhase::getRepositoryId)
+        .distinct()
+        .collect(Collectors.toList());
+  }
+
+  private static <T> void writeArray(JsonGenerator gen, String name, Class<?> type, Collection<T> items, Function<T, ?> unwrap) throws IOException {
+    gen.writeArrayFieldStart(name);
+    for (T item : items) {
+      JsonCodecs.writer(type).writeValue(gen, unwrap.apply(item));
+    }
+    gen.writeEndArray();
+  }
+
+  private static <R, T> List<T> readArray(JsonNode array, Class<R> type, Function<R, T> wrap) throws IOException {
+    List<T> items = new ArrayList<>();
+    for (JsonNode node : array) {
+      items.add(wrap.apply(JsonCodecs.reader(type).readValue(node)));
+    }
+    return items;
+  }
+}
@@ -0,0 +1,58 @@
+package com.adobe.aio.cloudmanager.impl.program;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.OffsetDateTime;
+
+import com.adobe.aio.cloudmanager.ProgramSummary;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Binds only the summary properties of a program representation, the parser skips all others.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class ProgramSummaryImpl implements ProgramSummary {
+
+  @JsonProperty("id")
+  private String id;
+  @JsonProperty("name")
+  private String name;
+  @Getter(AccessLevel.NONE)
+  @JsonProperty("enabled")
+  private Boolean enabled;
+  @JsonProperty("tenantId")
+  private String tenantId;
+  @JsonProperty("createdAt")
+  private OffsetDateTime createdAt;
+  @JsonProperty("updatedAt")
+  private OffsetDateTime updatedAt;
+
+  @Override
+  public boolean isEnabled() {
+    return Boolean.TRUE.equals(enabled);
+  }
+}
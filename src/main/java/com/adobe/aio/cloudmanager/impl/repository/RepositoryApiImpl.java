@@ -23,9 +23,12 @@ package com.adobe.aio.cloudmanager.impl.repository;
 import java.net.URL;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.HttpTransport;
 import com.adobe.aio.cloudmanager.Constants;
 import com.adobe.aio.cloudmanager.Program;
 import com.adobe.aio.cloudmanager.impl.generated.Repository;
@@ -34,6 +37,7 @@ import feign.Param;
 import feign.RequestLine;
 import com.adobe.aio.cloudmanager.RepositoryApi;
 import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.PagedIterator;
 import com.adobe.aio.cloudmanager.impl.generated.BranchList;
 import com.adobe.aio.cloudmanager.impl.generated.RepositoryBranch;
 import com.adobe.aio.cloudmanager.impl.generated.RepositoryList;
@@ -41,10 +45,16 @@ import com.adobe.aio.cloudmanager.impl.generated.RepositoryList;
 public class RepositoryApiImpl implements RepositoryApi {
 
   private final FeignApi api;
+  private final ExecutorService executor;
 
-  public RepositoryApiImpl(Workspace workspace, URL url) {
+  public RepositoryApiImpl(Workspace workspace, URL url, HttpTransport transport) {
+    this(workspace, url, transport, null);
+  }
+
+  public RepositoryApiImpl(Workspace workspace, URL url, HttpTransport transport, ExecutorService executor) {
+    this.executor = executor;
     String baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
-    api = FeignUtil.getBuilder(workspace).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    api = FeignUtil.getBuilder(workspace, transport).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
   }
 
   @Override
@@ -72,10 +82,15 @@ public class RepositoryApiImpl implements RepositoryApi {
 
   @Override
   public Collection<com.adobe.aio.cloudmanager.Repository> list(String programId, int start, int limit) throws CloudManagerApiException {
+    return page(programId, start, limit).items();
+  }
+
+  private PagedIterator.Page<com.adobe.aio.cloudmanager.Repository> page(String programId, int start, int limit) throws CloudManagerApiException {
     RepositoryList list = api.list(programId, start, limit);
-    return list.getEmbedded() == null || list.getEmbedded().getRepositories() == null ?
+    Collection<com.adobe.aio.cloudmanager.Repository> items = list.getEmbedded() == null || list.getEmbedded().getRepositories() == null ?
         Collections.emptyList() :
         list.getEmbedded().getRepositories().stream().map(r -> new RepositoryImpl(r, this)).collect(Collectors.toList());
+    return new PagedIterator.Page<>(items, list.getPage() == null ? null : list.getPage().getNext(), list.getTotalNumberOfItems());
   }
 
   @Override
@@ -83,6 +98,16 @@ public class RepositoryApiImpl implements RepositoryApi {
     return list(program.getId(), start, limit);
   }
 
+  @Override
+  public Stream<com.adobe.aio.cloudmanager.Repository> stream(String programId) {
+    return stream(programId, PagedIterator.DEFAULT_PAGE_SIZE);
+  }
+
+  @Override
+  public Stream<com.adobe.aio.cloudmanager.Repository> stream(String programId, int pageSize) {
+    return PagedIterator.stream((start, limit) -> page(programId, start, limit), pageSize, executor);
+  }
+
   @Override
   public com.adobe.aio.cloudmanager.Repository get(String programId, String repositoryId) throws CloudManagerApiException {
     return new RepositoryImpl(api.get(programId, repositoryId), this);
@@ -20,20 +20,23 @@ package com.adobe.aio.cloudmanager.impl.repository;
  * #L%
  */
 
+import java.io.Serializable;
 import java.util.Collection;
 
 import com.adobe.aio.cloudmanager.impl.generated.Repository;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
 import com.adobe.aio.cloudmanager.RepositoryApi;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class RepositoryImpl extends Repository implements com.adobe.aio.cloudmanager.Repository {
+public class RepositoryImpl implements com.adobe.aio.cloudmanager.Repository, Serializable {
   private static final long serialVersionUID = 1L;
 
+  @Getter
   @Delegate
   private final Repository delegate;
 
@@ -0,0 +1,68 @@
+package com.adobe.aio.cloudmanager.impl.tenant;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.net.URL;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.adobe.aio.cloudmanager.AsyncTenantApi;
+import com.adobe.aio.cloudmanager.Constants;
+import com.adobe.aio.cloudmanager.HttpTransport;
+import com.adobe.aio.cloudmanager.Tenant;
+import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.generated.TenantList;
+import com.adobe.aio.workspace.Workspace;
+import feign.Param;
+import feign.RequestLine;
+
+public class AsyncTenantApiImpl implements AsyncTenantApi {
+
+  private final FeignApi api;
+
+  public AsyncTenantApiImpl(Workspace workspace, URL url, HttpTransport transport) {
+    String baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
+    api = FeignUtil.getAsyncBuilder(workspace, transport).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+  }
+
+  @Override
+  public CompletableFuture<Collection<Tenant>> list() {
+    return api.list().thenApply(tenantList -> tenantList.getEmbedded() == null ?
+        Collections.emptyList() :
+        tenantList.getEmbedded().getTenants().stream().map(TenantImpl::new).collect(Collectors.toList()));
+  }
+
+  @Override
+  public CompletableFuture<Tenant> get(String tenantId) {
+    return api.get(tenantId).thenApply(TenantImpl::new);
+  }
+
+  // Method signatures must match the synchronous FeignApi, the ExceptionDecoder is keyed on them.
+  private interface FeignApi {
+    @RequestLine("GET /api/tenants")
+    CompletableFuture<TenantList> list();
+
+    @RequestLine("GET /api/tenant/{id}")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.Tenant> get(@Param("id") String id);
+  }
+}
@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.stream.Collectors;
 
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.HttpTransport;
 import com.adobe.aio.cloudmanager.Constants;
 import com.adobe.aio.cloudmanager.Tenant;
 import com.adobe.aio.cloudmanager.TenantApi;
@@ -39,9 +40,9 @@ public class TenantApiImpl implements TenantApi {
 
   private final FeignApi api;
 
-  public TenantApiImpl(Workspace workspace, URL url) {
+  public TenantApiImpl(Workspace workspace, URL url, HttpTransport transport) {
     String baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
-    api = FeignUtil.getBuilder(workspace).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    api = FeignUtil.getBuilder(workspace, transport).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
   }
 
   @Override
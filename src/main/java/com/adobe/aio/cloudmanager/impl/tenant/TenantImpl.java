@@ -20,17 +20,21 @@ package com.adobe.aio.cloudmanager.impl.tenant;
  * #L%
  */
 
+import java.io.Serializable;
+
 import com.adobe.aio.cloudmanager.impl.generated.Tenant;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Delegate;
 
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class TenantImpl extends Tenant implements com.adobe.aio.cloudmanager.Tenant {
+public class TenantImpl implements com.adobe.aio.cloudmanager.Tenant, Serializable {
 
   private static final long serialVersionUID = 1L;
 
+  @Getter
   @Delegate
   private final Tenant delegate;
 
@@ -20,7 +20,12 @@ package com.adobe.aio.cloudmanager;
  * #L%
  */
 
+import java.time.Duration;
+
 import com.adobe.aio.auth.Context;
+import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.JsonCodecs;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineList;
 import com.adobe.aio.workspace.Workspace;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -45,6 +50,23 @@ public class ApiBuilderTest {
     assertEquals("Workspace must specify AuthContext.", exception.getMessage(), "Message was correct.");
   }
 
+  @Test
+  void negative_staleness(@Mock Workspace workspace, @Mock Context authContext) {
+    when(workspace.getAuthContext()).thenReturn(authContext);
+    IllegalStateException exception = assertThrows(IllegalStateException.class, () -> new ApiBuilder<>(PipelineExecutionApi.class).workspace(workspace).maxStaleness(Duration.ofSeconds(-1)).build(), "Exception thrown.");
+    assertEquals("Max staleness cannot be negative.", exception.getMessage(), "Message was correct.");
+    exception = assertThrows(IllegalStateException.class, () -> new ApiBuilder<>(PipelineExecutionApi.class).workspace(workspace).eventStaleness(Duration.ofSeconds(-1)).build(), "Exception thrown.");
+    assertEquals("Event staleness cannot be negative.", exception.getMessage(), "Message was correct.");
+  }
+
+  @Test
+  void invalid_retry_policy() {
+    IllegalStateException exception = assertThrows(IllegalStateException.class, () -> RetryPolicy.builder().maxAttempts(0).build(), "Exception thrown.");
+    assertEquals("Max attempts must be positive.", exception.getMessage(), "Message was correct.");
+    exception = assertThrows(IllegalStateException.class, () -> RetryPolicy.builder().backoff(Duration.ofSeconds(2), Duration.ofSeconds(1)).build(), "Exception thrown.");
+    assertEquals("Backoffs and time budget cannot be negative, and the maximum backoff must be no less than the initial.", exception.getMessage(), "Message was correct.");
+  }
+
   @Test
   void unknown_type(@Mock Workspace workspace, @Mock Context authContext) {
     when(workspace.getAuthContext()).thenReturn(authContext);
@@ -52,4 +74,53 @@ public class ApiBuilderTest {
     assertEquals("Unknown API requested (class com.adobe.aio.cloudmanager.ApiBuilder).", exception.getMessage(), "Message was correct.");
 
   }
+
+  @Test
+  void transport_invalid() {
+    IllegalStateException exception = assertThrows(IllegalStateException.class, () -> HttpTransport.builder().maxIdleConnections(-1).build(), "Exception thrown.");
+    assertEquals("Max idle connections cannot be negative.", exception.getMessage(), "Message was correct.");
+    exception = assertThrows(IllegalStateException.class, () -> HttpTransport.builder().maxRequestsPerHost(0).build(), "Exception thrown.");
+    assertEquals("Max requests and max requests per host must be positive.", exception.getMessage(), "Message was correct.");
+    exception = assertThrows(IllegalStateException.class, () -> HttpTransport.builder().cacheSize(-1).build(), "Exception thrown.");
+    assertEquals("Cache sizes cannot be negative.", exception.getMessage(), "Message was correct.");
+    exception = assertThrows(IllegalStateException.class, () -> HttpTransport.builder().rateLimit(10, 0).build(), "Exception thrown.");
+    assertEquals("Rate limit, burst and max throttle wait must be positive.", exception.getMessage(), "Message was correct.");
+  }
+
+  @Test
+  void transport_settings() {
+    HttpTransport transport = HttpTransport.builder()
+        .maxIdleConnections(10)
+        .keepAlive(Duration.ofMinutes(1))
+        .http2(false)
+        .connectTimeout(Duration.ofSeconds(5))
+        .readTimeout(Duration.ofSeconds(30))
+        .maxRequests(100)
+        .maxRequestsPerHost(20)
+        .cacheSize(2048)
+        .rateLimit(10, 5)
+        .maxThrottleWait(Duration.ofSeconds(30))
+        .build();
+    assertEquals(10, transport.getMaxIdleConnections(), "Max idle correct.");
+    assertEquals(Duration.ofMinutes(1), transport.getKeepAlive(), "Keep alive correct.");
+    assertFalse(transport.isHttp2(), "HTTP/2 correct.");
+    assertEquals(Duration.ofSeconds(5), transport.getConnectTimeout(), "Connect timeout correct.");
+    assertEquals(Duration.ofSeconds(30), transport.getReadTimeout(), "Read timeout correct.");
+    assertEquals(100, transport.getMaxRequests(), "Max requests correct.");
+    assertEquals(20, transport.getMaxRequestsPerHost(), "Max requests per host correct.");
+    assertEquals(2048, transport.getCacheSize(), "Cache size correct.");
+    assertNull(transport.getCacheDirectory(), "No disk cache.");
+    assertEquals(10, transport.getRateLimit(), "Rate limit correct.");
+    assertEquals(5, transport.getRateLimitBurst(), "Burst correct.");
+    assertEquals(Duration.ofSeconds(30), transport.getMaxThrottleWait(), "Max throttle wait correct.");
+  }
+
+  @Test
+  void warm_up() {
+    ApiBuilder.warmUp();
+    ApiBuilder.warmUp();
+    assertSame(JsonCodecs.mapper(), FeignUtil.getMapper(), "Mapper shared.");
+    assertSame(JsonCodecs.reader(PipelineList.class), JsonCodecs.reader(PipelineList.class), "Reader cached.");
+    assertSame(JsonCodecs.writer(PipelineList.class), JsonCodecs.writer(PipelineList.class), "Writer cached.");
+  }
 }
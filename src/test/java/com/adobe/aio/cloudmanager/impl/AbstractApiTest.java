@@ -22,11 +22,14 @@ package com.adobe.aio.cloudmanager.impl;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 import java.nio.charset.Charset;
+import java.util.function.UnaryOperator;
 
 import org.apache.commons.io.IOUtils;
 
 import com.adobe.aio.auth.Context;
+import com.adobe.aio.cloudmanager.ApiBuilder;
 import com.adobe.aio.ims.feign.AuthInterceptor;
 import com.adobe.aio.ims.feign.OAuthInterceptor;
 import com.adobe.aio.workspace.Workspace;
@@ -35,6 +38,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.TestInstantiationException;
 import org.mockito.Mock;
+import org.mockito.MockedConstruction;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockserver.client.MockServerClient;
 import org.mockserver.junit.jupiter.MockServerExtension;
@@ -42,6 +46,7 @@ import org.mockserver.model.JsonBody;
 
 import static com.adobe.aio.util.Constants.*;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.when;
 
 @ExtendWith({ MockitoExtension.class, MockServerExtension.class })
@@ -74,6 +79,24 @@ public abstract class AbstractApiTest {
     doNothing().when(authContext).validate();
   }
 
+  /**
+   * Builds an API against the mock server, authenticated by the test interceptor.
+   *
+   * @param api       the API type
+   * @param configure additional builder configuration
+   * @param <A>       the API type
+   * @return the API
+   */
+  protected <A> A build(Class<A> api, UnaryOperator<ApiBuilder<A>> configure) throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      return configure.apply(new ApiBuilder<>(api).workspace(workspace).url(new URL(baseUrl))).build();
+    }
+  }
 
   protected static JsonBody loadBodyJson(String filePath) {
     try (InputStream is = AbstractApiTest.class.getClassLoader().getResourceAsStream(filePath)) {
@@ -21,16 +21,31 @@ package com.adobe.aio.cloudmanager.impl.environment;
  */
 
 import java.io.File;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
@@ -40,17 +55,25 @@ import com.adobe.aio.ims.feign.AuthInterceptor;
 import com.adobe.aio.cloudmanager.ApiBuilder;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
 import com.adobe.aio.cloudmanager.EnvironmentApi;
+import com.adobe.aio.cloudmanager.HttpTransport;
 import com.adobe.aio.cloudmanager.EnvironmentLog;
+import com.adobe.aio.cloudmanager.EnvironmentSummary;
+import com.adobe.aio.cloudmanager.LogFilter;
 import com.adobe.aio.cloudmanager.LogOption;
+import com.adobe.aio.cloudmanager.LogTail;
 import com.adobe.aio.cloudmanager.Region;
 import com.adobe.aio.cloudmanager.RegionDeployment;
+import com.adobe.aio.cloudmanager.InstrumentationRegistry;
+import com.adobe.aio.cloudmanager.RetryPolicy;
 import com.adobe.aio.cloudmanager.Variable;
+import com.adobe.aio.cloudmanager.exception.UncheckedCloudManagerApiException;
 import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
 import org.mockserver.model.HttpRequest;
+import org.mockserver.matchers.Times;
 import org.mockserver.model.JsonBody;
 import org.mockserver.verify.VerificationTimes;
 
@@ -136,6 +159,23 @@ public class EnvironmentTest extends AbstractApiTest {
     client.clear(list);
   }
 
+  @Test
+  void listSummaries_success() throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environments");
+    client.when(list).respond(response().withBody(LIST_BODY));
+
+    List<EnvironmentSummary> environments = new ArrayList<>(underTest.listSummaries("1"));
+    assertEquals(4, environments.size(), "List was correct size.");
+    assertEquals("1", environments.get(0).getId(), "Id correct.");
+    assertEquals("1", environments.get(0).getProgramId(), "Program id correct.");
+    assertEquals("TestProgram_prod", environments.get(0).getName(), "Name correct.");
+    assertEquals(com.adobe.aio.cloudmanager.Environment.Type.PROD, environments.get(0).getEnvType(), "Type correct.");
+    client.verify(list);
+    client.clear(list);
+  }
+
   @Test
   void list_type_failure_404() {
     String sessionId = UUID.randomUUID().toString();
@@ -208,6 +248,101 @@ public class EnvironmentTest extends AbstractApiTest {
     client.clear(post);
   }
 
+  @Test
+  void create_not_retried() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    RetryPolicy policy = RetryPolicy.builder().backoff(Duration.ofMillis(10), Duration.ofMillis(50)).build();
+    EnvironmentApi retrying = build(EnvironmentApi.class, b -> b.retryPolicy(policy));
+    HttpRequest post = request().withMethod("POST")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environments");
+    client.when(post).respond(response().withStatusCode(BAD_GATEWAY_502.code()));
+
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class,
+        () -> retrying.create("1", "Test", com.adobe.aio.cloudmanager.Environment.Type.DEV, "va7", null),
+        "Exception thrown.");
+    assertEquals("Cannot create environment: %s/api/program/1/environments (502 Unknown).".formatted(baseUrl), exception.getMessage(), "Message was correct.");
+    assertEquals(0, policy.getRetryCount(), "No retries.");
+    client.verify(post, VerificationTimes.exactly(1));
+    client.clear(post);
+  }
+
+  @Test
+  void create_not_resent_when_unavailable() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpTransport transport = HttpTransport.builder().rateLimit(100, 1).maxThrottleWait(Duration.ofSeconds(5)).build();
+    EnvironmentApi limited = build(EnvironmentApi.class, b -> b.transport(transport));
+    HttpRequest post = request().withMethod("POST")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environments");
+    client.when(post).respond(response().withStatusCode(SERVICE_UNAVAILABLE_503.code()));
+
+    assertThrows(CloudManagerApiException.class,
+        () -> limited.create("1", "Test", com.adobe.aio.cloudmanager.Environment.Type.DEV, "va7", null),
+        "Exception thrown.");
+    client.verify(post, VerificationTimes.exactly(1));
+    client.clear(post);
+
+    client.when(post, Times.once()).respond(response().withStatusCode(429).withHeader("Retry-After", "0"));
+    client.when(post).respond(response().withBody(GET_BODY));
+    assertNotNull(limited.create("1", "Test", com.adobe.aio.cloudmanager.Environment.Type.DEV, "va7", null), "Resent after 429.");
+    client.verify(post, VerificationTimes.exactly(2));
+    client.clear(post);
+  }
+
+  @Test
+  void throttled_once() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    RetryPolicy policy = RetryPolicy.builder().backoff(Duration.ofMillis(10), Duration.ofMillis(50)).build();
+    HttpTransport transport = HttpTransport.builder().rateLimit(100, 1).maxThrottleWait(Duration.ofSeconds(5)).build();
+    EnvironmentApi limited = build(EnvironmentApi.class, b -> b.transport(transport).retryPolicy(policy));
+    HttpRequest put = request().withMethod("PUT").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1/reset");
+    client.when(put).respond(response().withStatusCode(SERVICE_UNAVAILABLE_503.code()));
+    assertThrows(CloudManagerApiException.class, () -> limited.resetRde("1", "1"), "Exception thrown.");
+    client.verify(put, VerificationTimes.exactly(1));
+    client.clear(put);
+
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1");
+    client.when(get, Times.once()).respond(response().withStatusCode(SERVICE_UNAVAILABLE_503.code()).withHeader("Retry-After", "1"));
+    client.when(get).respond(response().withBody(GET_BODY));
+    assertNotNull(limited.get("1", "1"), "Environment found after throttling.");
+    assertEquals(0, policy.getRetryCount(), "Only re-sent by the rate limiter.");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void retried_by_endpoint(@Mock Environment mock) throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(mock.getProgramId()).thenReturn("1");
+    when(mock.getId()).thenReturn("1");
+    RetryPolicy policy = RetryPolicy.builder().backoff(Duration.ofMillis(10), Duration.ofMillis(50)).build();
+    InstrumentationRegistry registry = InstrumentationRegistry.create();
+    EnvironmentApi retrying = build(EnvironmentApi.class, b -> b.retryPolicy(policy).instrumentation(registry));
+    HttpRequest put = request().withMethod("PUT").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1/reset");
+    client.when(put).respond(response().withStatusCode(BAD_GATEWAY_502.code()));
+    assertThrows(CloudManagerApiException.class, () -> retrying.resetRde("1", "1"), "Exception thrown.");
+    assertEquals(0, policy.getRetryCount(), "Reset not retried.");
+    client.verify(put, VerificationTimes.exactly(1));
+    client.clear(put);
+
+    HttpRequest patch = request().withMethod("PATCH").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1/variables");
+    client.when(patch, Times.once()).respond(response().withStatusCode(BAD_GATEWAY_502.code()));
+    client.when(patch).respond(response().withBody(LIST_VARIABLES_BODY));
+    Variable variable = Variable.builder().name("foo").value("bar").type(Variable.Type.STRING).service(com.adobe.aio.cloudmanager.Environment.Tier.AUTHOR).build();
+    assertEquals(2, new EnvironmentImpl(mock, retrying).setVariables(variable).size(), "Variables set after retry.");
+    assertEquals(1, policy.getRetryCount(), "Variables retried.");
+    assertEquals(1, registry.getRetries("EnvironmentApi", "setVariables"), "Retry reported.");
+    assertEquals(0, registry.getExhausted("EnvironmentApi", "setVariables"), "Nothing exhausted.");
+    assertTrue(registry.scrape().contains("cloudmanager_request_retries_total{api=\"EnvironmentApi\",method=\"setVariables\"} 1\n"), "Retries scraped.");
+    client.verify(patch, VerificationTimes.exactly(2));
+    client.clear(patch);
+  }
+
   @Test
   void create_success() throws CloudManagerApiException {
     String sessionId = UUID.randomUUID().toString();
@@ -399,6 +534,195 @@ public class EnvironmentTest extends AbstractApiTest {
     client.clear(get);
   }
 
+  @Test
+  void streamLogs_not_found() {
+    LocalDate date = LocalDate.now();
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs/download")
+        .withQueryStringParameter("date", date.toString());
+    client.when(get).respond(response().withBody(json("{ \"redirect\": \"%s/logs/missing.log.gz\" }".formatted(baseUrl))));
+    HttpRequest download = request().withMethod("GET").withPath("/logs/missing.log.gz");
+    client.when(download).respond(response().withStatusCode(NOT_FOUND_404.code()));
+
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> underTest.streamLogs("1", "1", option, date, LogFilter.builder().build()), "Exception thrown.");
+    assertEquals("Cannot read aemerror log for environment 1, date %s (Cause: java.io.FileNotFoundException).".formatted(date), exception.getMessage(), "Message was correct.");
+    client.clear(get);
+    client.clear(download);
+  }
+
+  @Test
+  void streamLogs_success() throws Exception {
+    LocalDate date = LocalDate.of(2019, 9, 8);
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    String log = String.join("\n",
+        "08.09.2019 10:00:00.000 *INFO* [main] com.example.Startup Started",
+        "08.09.2019 10:00:01.000 *ERROR* [worker-1] com.example.Service Failed",
+        "java.lang.IllegalStateException: broken",
+        "\tat com.example.Service.run(Service.java:10)",
+        "08.09.2019 10:00:02.000 *WARN* [worker-2] com.example.Service Slow",
+        "08.09.2019 10:00:03.000 *ERROR* [worker-3] com.example.Other Failed",
+        "08.09.2019 10:00:04.000 *ERROR* [worker-4] com.example.Service Failed again",
+        "08.09.2019 10:00:05.000 *ERROR* [worker-5] com.example.Service Not read");
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+      out.write(log.getBytes(StandardCharsets.UTF_8));
+    }
+
+    HttpRequest get = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs/download")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror")
+        .withQueryStringParameter("date", date.toString());
+    client.when(get).respond(response().withBody(json("{ \"redirect\": \"%s/logs/author-aemerror-%s.log.gz\" }".formatted(baseUrl, date))));
+    HttpRequest download = request().withMethod("GET").withPath("/logs/author-aemerror-%s.log.gz".formatted(date));
+    client.when(download).respond(response().withBody(compressed.toByteArray()));
+
+    LogFilter filter = LogFilter.builder()
+        .from(LocalDateTime.of(2019, 9, 8, 10, 0, 1))
+        .to(LocalDateTime.of(2019, 9, 8, 10, 0, 4))
+        .levels("error")
+        .build();
+    try (Stream<String> lines = underTest.streamLogs("1", "1", option, date, filter)) {
+      assertEquals(List.of(
+          "08.09.2019 10:00:01.000 *ERROR* [worker-1] com.example.Service Failed",
+          "java.lang.IllegalStateException: broken",
+          "\tat com.example.Service.run(Service.java:10)",
+          "08.09.2019 10:00:03.000 *ERROR* [worker-3] com.example.Other Failed",
+          "08.09.2019 10:00:04.000 *ERROR* [worker-4] com.example.Service Failed again"
+      ), lines.collect(Collectors.toList()), "Entries filtered.");
+    }
+
+    filter = LogFilter.builder().pattern("com\\.example\\.Service ").build();
+    try (Stream<String> lines = underTest.streamLogs("1", "1", option, date, filter)) {
+      assertEquals(4, lines.count(), "Lines filtered.");
+    }
+    client.verify(get, VerificationTimes.exactly(2));
+    client.verify(download, VerificationTimes.exactly(2));
+    client.clear(get);
+    client.clear(download);
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class, () -> LogFilter.builder().from(LocalDateTime.of(2019, 9, 8, 10, 0)).to(LocalDateTime.of(2019, 9, 8, 9, 0)).build(), "Exception thrown.");
+    assertEquals("Log filter must not end before it starts.", exception.getMessage(), "Message was correct.");
+  }
+
+  @Test
+  void streamLogs_truncated() throws Exception {
+    LocalDate date = LocalDate.of(2019, 9, 8);
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+      for (int i = 0; i < 1000; i++) {
+        out.write("08.09.2019 10:00:00.000 *INFO* [main] com.example.Startup Line %d%n".formatted(i).getBytes(StandardCharsets.UTF_8));
+      }
+    }
+    byte[] truncated = Arrays.copyOf(compressed.toByteArray(), compressed.size() / 2);
+
+    HttpRequest get = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs/download")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror")
+        .withQueryStringParameter("date", date.toString());
+    client.when(get).respond(response().withBody(json("{ \"redirect\": \"%s/logs/author-aemerror-%s.log.gz\" }".formatted(baseUrl, date))));
+    HttpRequest download = request().withMethod("GET").withPath("/logs/author-aemerror-%s.log.gz".formatted(date));
+    client.when(download).respond(response().withBody(truncated));
+
+    try (Stream<String> lines = underTest.streamLogs("1", "1", option, date, LogFilter.builder().build())) {
+      UncheckedCloudManagerApiException exception = assertThrows(UncheckedCloudManagerApiException.class, lines::count, "Exception thrown.");
+      assertEquals("Unable to read log: Unexpected end of ZLIB input stream.", exception.getCause().getMessage(), "Message was correct.");
+    }
+    client.clear(get);
+    client.clear(download);
+  }
+
+  @Test
+  void streamLogs_not_cached() throws Exception {
+    LocalDate date = LocalDate.of(2019, 9, 8);
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+      out.write("08.09.2019 10:00:00.000 *INFO* [main] com.example.Startup Started".getBytes(StandardCharsets.UTF_8));
+    }
+    HttpTransport transport = HttpTransport.builder().cacheSize(1024 * 1024).build();
+    EnvironmentApi cached = build(EnvironmentApi.class, b -> b.transport(transport));
+    HttpRequest get = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs/download");
+    client.when(get).respond(response().withBody(json("{ \"redirect\": \"%s/logs/author-aemerror-%s.log.gz\" }".formatted(baseUrl, date))));
+    HttpRequest download = request().withMethod("GET").withPath("/logs/author-aemerror-%s.log.gz".formatted(date));
+    client.when(download).respond(response().withHeader("ETag", "\"v1\"").withBody(compressed.toByteArray()));
+
+    for (int i = 0; i < 2; i++) {
+      try (Stream<String> lines = cached.streamLogs("1", "1", option, date, LogFilter.builder().build())) {
+        assertEquals(1, lines.count(), "Log read.");
+      }
+    }
+    client.verify(download.clone().withHeader("If-None-Match", ".*"), VerificationTimes.never());
+    client.verify(download, VerificationTimes.exactly(2));
+    client.clear(get);
+    client.clear(download);
+  }
+
+  @Test
+  void tail_success() throws Exception {
+    LocalDate date = LocalDate.now(ZoneOffset.UTC);
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    byte[] first = gzip("10:00:00 ERROR existing\n10:00:01 INFO existing\n");
+    byte[] second = gzip("10:00:02 ERROR appended\n10:00:03 INFO appended\n10:00:04 ERROR appended again\n");
+
+    HttpRequest get = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs/download")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror")
+        .withQueryStringParameter("date", date.toString());
+    client.when(get).respond(response().withBody(json("{ \"redirect\": \"%s/logs/author-aemerror-%s.log.gz\" }".formatted(baseUrl, date))));
+    String path = "/logs/author-aemerror-%s.log.gz".formatted(date);
+    HttpRequest appended = request().withMethod("GET").withPath(path).withHeader("Range", "bytes=%d-".formatted(first.length));
+    client.when(appended, Times.once()).respond(response().withStatusCode(206).withHeader("Content-Range", "bytes %d-%d/%d".formatted(first.length, first.length + second.length - 1, first.length + second.length)).withBody(second));
+    HttpRequest unchanged = request().withMethod("GET").withPath(path).withHeader("Range", "bytes=.*");
+    client.when(unchanged).respond(response().withStatusCode(416));
+    HttpRequest download = request().withMethod("GET").withPath(path);
+    client.when(download).respond(response().withBody(first));
+
+    List<String> lines = Collections.synchronizedList(new ArrayList<>());
+    try (LogTail tail = underTest.tail("1", "1", option, Duration.ofMillis(50), LogFilter.builder().pattern("ERROR").build())) {
+      tail.consume(lines::add);
+      long deadline = System.currentTimeMillis() + 5000;
+      while (lines.size() < 2 && System.currentTimeMillis() < deadline) {
+        Thread.sleep(50);
+      }
+      client.verify(unchanged, VerificationTimes.atLeast(1));
+    }
+    assertEquals(List.of("10:00:02 ERROR appended", "10:00:04 ERROR appended again"), lines, "Only new lines published.");
+    client.verify(appended, VerificationTimes.exactly(1));
+    client.clear(get);
+    client.clear(download);
+
+    assertThrows(IllegalArgumentException.class, () -> underTest.tail("1", "1", option, Duration.ZERO, LogFilter.builder().build()), "Exception thrown.");
+  }
+
+  private static byte[] gzip(String content) throws IOException {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+      out.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+    return compressed.toByteArray();
+  }
+
   @Test
   void getRegionDeployment_failure_404() {
     String sessionId = UUID.randomUUID().toString();
@@ -825,6 +1149,54 @@ public class EnvironmentTest extends AbstractApiTest {
     client.clear(patch);
   }
 
+  @Test
+  void syncVariables_success(@Mock com.adobe.aio.cloudmanager.Environment first, @Mock com.adobe.aio.cloudmanager.Environment second) throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(first.getProgramId()).thenReturn("1");
+    when(first.getId()).thenReturn("1");
+    when(second.getProgramId()).thenReturn("1");
+    when(second.getId()).thenReturn("2");
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    EnvironmentApi parallel = build(EnvironmentApi.class, b -> b.executor(executor));
+
+    HttpRequest getFirst = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1/variables");
+    client.when(getFirst).respond(response().withBody(LIST_VARIABLES_BODY));
+    HttpRequest getSecond = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/2/variables");
+    client.when(getSecond).respond(response().withBody(json("{ \"_embedded\": { \"variables\": [ { \"name\": \"foo\", \"value\": \"bar\", \"type\": \"string\", \"service\": \"author\" } ] } }")));
+    HttpRequest patchFirst = request().withMethod("PATCH")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withHeader("Content-Type", "application/json")
+        .withPath("/api/program/1/environment/1/variables")
+        .withBody(json("""
+            [ { \
+            "name": "foo", "value": "baz", "type": "string", "service": "author" }, \
+            { "name": "secretFoo", "type": "secretString", "service": "publish" \
+            } ]\
+            """));
+    client.when(patchFirst).respond(response().withBody(LIST_VARIABLES_BODY));
+    HttpRequest patchSecond = request().withMethod("PATCH").withPath("/api/program/1/environment/2/variables");
+
+    Variable foo = Variable.builder().name("foo").value("bar").type(Variable.Type.STRING).service(com.adobe.aio.cloudmanager.Environment.Tier.AUTHOR).build();
+    Variable changed = Variable.builder().name("foo").value("baz").type(Variable.Type.STRING).service(com.adobe.aio.cloudmanager.Environment.Tier.AUTHOR).build();
+    Map<com.adobe.aio.cloudmanager.Environment, Set<Variable>> changes;
+    try {
+      changes = parallel.syncVariables(Map.of(first, List.of(changed), second, List.of(foo)));
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(2, changes.get(first).size(), "Changes sent.");
+    assertTrue(changes.get(second).isEmpty(), "Already in sync.");
+    client.verify(getFirst);
+    client.verify(getSecond);
+    client.verify(patchFirst);
+    client.verify(patchSecond, VerificationTimes.never());
+    client.clear(getFirst);
+    client.clear(getSecond);
+    client.clear(patchFirst);
+  }
+
   @Test
   void downloadLogs_redirect_failure_404() {
     LocalDate date = LocalDate.now().withYear(2019).withMonth(9).withDayOfMonth(8);
@@ -956,6 +1328,76 @@ public class EnvironmentTest extends AbstractApiTest {
     client.clear(download2);
   }
 
+  @Test
+  void downloadLogs_parallel_resume() throws Exception {
+    byte[] zipBytes = IOUtils.toByteArray(EnvironmentTest.class.getClassLoader().getResourceAsStream("file.log.gz"));
+    LocalDate firstDate = LocalDate.now().withYear(2019).withMonth(9).withDayOfMonth(8);
+    LocalDate secondDate = LocalDate.now().withYear(2019).withMonth(9).withDayOfMonth(7);
+    String lastModified = "Sun, 08 Sep 2019 10:00:00 GMT";
+    FileTime modified = FileTime.from(ZonedDateTime.of(2019, 9, 8, 10, 0, 0, 0, ZoneOffset.UTC).toInstant());
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    EnvironmentApi parallel = build(EnvironmentApi.class, b -> b.executor(executor));
+
+    HttpRequest listLogs = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror")
+        .withQueryStringParameter("days", "1");
+    client.when(listLogs).respond(response().withBody(LIST_LOGS_BODY));
+    HttpRequest getRedirect = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs/download")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror");
+    client.when(getRedirect).respond(response().withBody(json("{ \"redirect\": \"%s/logs/resume.txt\" }".formatted(baseUrl))));
+
+    // First log was partially downloaded, second is complete.
+    File outputDir = Files.createTempDirectory("log-output").toFile();
+    int partial = zipBytes.length / 2;
+    File first = new File(outputDir, "environment-1-author-aemerror-%s.log.gz".formatted(firstDate));
+    File firstPartial = new File(outputDir, first.getName() + ".part");
+    FileUtils.writeByteArrayToFile(firstPartial, Arrays.copyOf(zipBytes, partial));
+    Files.setLastModifiedTime(firstPartial.toPath(), modified);
+    File second = new File(outputDir, "environment-1-author-aemerror-%s.log.gz".formatted(secondDate));
+    FileUtils.writeByteArrayToFile(second, zipBytes);
+    Files.setLastModifiedTime(second.toPath(), modified);
+
+    HttpRequest resume = request().withMethod("GET").withPath("/logs/resume.txt").withHeader("Range", "bytes=%d-".formatted(partial)).withHeader("If-Range", lastModified);
+    client.when(resume).respond(response()
+        .withStatusCode(PARTIAL_CONTENT_206.code())
+        .withHeader("Content-Range", "bytes %d-%d/%d".formatted(partial, zipBytes.length - 1, zipBytes.length))
+        .withHeader("Last-Modified", lastModified)
+        .withBody(Arrays.copyOfRange(zipBytes, partial, zipBytes.length)));
+    HttpRequest complete = request().withMethod("GET").withPath("/logs/resume.txt").withHeader("Range", "bytes=%d-".formatted(zipBytes.length)).withHeader("If-Range", lastModified);
+    client.when(complete).respond(response()
+        .withStatusCode(REQUESTED_RANGE_NOT_SATISFIABLE_416.code())
+        .withHeader("Content-Range", "bytes */%d".formatted(zipBytes.length)));
+
+    try {
+      List<EnvironmentLog> logs = new ArrayList<>(parallel.downloadLogs("1", "1", option, 1, outputDir));
+      assertEquals(2, logs.size(), "Correct Object response");
+    } finally {
+      executor.shutdownNow();
+    }
+    assertArrayEquals(zipBytes, FileUtils.readFileToByteArray(first), "Download resumed.");
+    assertFalse(firstPartial.exists(), "Partial file moved.");
+    assertArrayEquals(zipBytes, FileUtils.readFileToByteArray(second), "Download skipped.");
+
+    client.verify(getRedirect, VerificationTimes.exactly(2));
+    client.verify(resume, VerificationTimes.once());
+    client.verify(complete, VerificationTimes.once());
+    client.clear(listLogs);
+    client.clear(getRedirect);
+    client.clear(resume);
+    client.clear(complete);
+  }
+
   @Test
   void getDeveloperConsoleUrl() throws CloudManagerApiException {
     String sessionId = UUID.randomUUID().toString();
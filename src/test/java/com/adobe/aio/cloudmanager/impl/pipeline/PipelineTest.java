@@ -23,9 +23,16 @@ package com.adobe.aio.cloudmanager.impl.pipeline;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import com.adobe.aio.cloudmanager.impl.generated.Pipeline;
 import com.adobe.aio.ims.feign.AuthInterceptor;
@@ -33,6 +40,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.adobe.aio.cloudmanager.ApiBuilder;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
 import com.adobe.aio.cloudmanager.PipelineApi;
+import com.adobe.aio.cloudmanager.PipelineSummary;
 import com.adobe.aio.cloudmanager.PipelineUpdate;
 import com.adobe.aio.cloudmanager.Variable;
 import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
@@ -154,6 +162,27 @@ class PipelineTest extends AbstractApiTest {
     client.clear(list);
   }
 
+  @Test
+  void listSummaries_success() throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipelines");
+    client.when(list).respond(response().withStatusCode(OK_200.code()).withBody(LIST_BODY));
+    List<PipelineSummary> pipelines = new ArrayList<>(underTest.listSummaries("1"));
+    assertEquals(4, pipelines.size(), "Correct pipelines list length");
+    assertEquals("1", pipelines.get(0).getId(), "Id correct.");
+    assertEquals("test1", pipelines.get(0).getName(), "Name correct.");
+    assertEquals(com.adobe.aio.cloudmanager.Pipeline.Status.IDLE, pipelines.get(0).getStatusState(), "Status correct.");
+    client.verify(list);
+    client.clear(list);
+
+    client.when(list).respond(response().withStatusCode(OK_200.code()).withBody(json("{}")));
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> underTest.listSummaries("1"), "Exception thrown.");
+    assertEquals("Cannot find pipelines for program 1.", exception.getMessage(), "Message was correct");
+    client.clear(list);
+  }
+
   @Test
   void get_failure_404() {
     String sessionId = UUID.randomUUID().toString();
@@ -503,6 +532,32 @@ class PipelineTest extends AbstractApiTest {
     client.clear(patch);
   }
 
+  @Test
+  void syncVariables_success(@Mock com.adobe.aio.cloudmanager.Pipeline mock) throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(mock.getProgramId()).thenReturn("1");
+    when(mock.getId()).thenReturn("1");
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/variables");
+    client.when(get).respond(response().withBody(LIST_VARIABLES_BODY));
+    HttpRequest patch = request().withMethod("PATCH")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withHeader("Content-Type", "application/json")
+        .withPath("/api/program/1/pipeline/1/variables")
+        .withBody(json("[ { \"name\": \"secretFoo\", \"value\": \"secretBar\", \"type\": \"secretString\" }, { \"name\": \"added\", \"value\": \"value\", \"type\": \"string\" } ]"));
+    client.when(patch).respond(response().withBody(LIST_VARIABLES_BODY));
+    Variable var1 = Variable.builder().name("foo").value("bar").type(Variable.Type.STRING).build();
+    Variable var2 = Variable.builder().name("secretFoo").value("secretBar").type(Variable.Type.SECRET).build();
+    Variable var3 = Variable.builder().name("added").value("value").type(Variable.Type.STRING).build();
+
+    Map<com.adobe.aio.cloudmanager.Pipeline, Set<Variable>> changes = underTest.syncVariables(Map.of(mock, List.of(var1, var2, var3)));
+    assertEquals(Set.of("secretFoo", "added"), changes.get(mock).stream().map(Variable::getName).collect(Collectors.toSet()), "Changes sent.");
+    client.verify(get);
+    client.verify(patch);
+    client.clear(get);
+    client.clear(patch);
+  }
+
   @Test
   void status() {
     assertEquals(com.adobe.aio.cloudmanager.Pipeline.Status.valueOf("WAITING"), com.adobe.aio.cloudmanager.Pipeline.Status.WAITING);
@@ -526,4 +581,67 @@ class PipelineTest extends AbstractApiTest {
     client.verify(list, VerificationTimes.exactly(3));
     client.clear(list);
   }
+
+  @Test
+  void listByTenant_failure_403() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest programs = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1/programs");
+    client.when(programs).respond(response().withBody(loadBodyJson("program/list.json")));
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/.*/pipelines");
+    client.when(list).respond(response().withStatusCode(FORBIDDEN_403.code()));
+
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> underTest.listByTenant("1"), "Exception thrown.");
+    assertEquals("Cannot retrieve pipelines: %s/api/program/1/pipelines (403 Forbidden).".formatted(baseUrl), exception.getMessage(), "Message was correct");
+    client.verify(programs);
+    client.clear(programs);
+    client.clear(list);
+  }
+
+  @Test
+  void listByTenant_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest programs = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1/programs");
+    client.when(programs).respond(response().withBody(loadBodyJson("program/list.json")));
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/.*/pipelines");
+    client.when(list).respond(response().withBody(LIST_BODY));
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      PipelineApi bulk = build(PipelineApi.class, b -> b.executor(executor));
+      Map<String, Collection<com.adobe.aio.cloudmanager.Pipeline>> pipelines = bulk.listByTenant("1");
+      assertEquals(7, pipelines.size(), "Correct program count");
+      assertEquals("1", pipelines.keySet().iterator().next(), "Program order retained");
+      pipelines.values().forEach(p -> assertEquals(4, p.size(), "Correct pipelines list length"));
+    } finally {
+      executor.shutdownNow();
+    }
+    client.verify(programs);
+    client.verify(list, VerificationTimes.exactly(7));
+    client.clear(programs);
+    client.clear(list);
+  }
+
+  @Test
+  void listByTenant_onExecutor() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest programs = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1/programs");
+    client.when(programs).respond(response().withBody(loadBodyJson("program/list.json")));
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/.*/pipelines");
+    client.when(list).respond(response().withBody(LIST_BODY));
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      PipelineApi bulk = build(PipelineApi.class, b -> b.executor(executor));
+      Map<String, Collection<com.adobe.aio.cloudmanager.Pipeline>> pipelines = executor.submit(() -> bulk.listByTenant("1")).get(30, TimeUnit.SECONDS);
+      assertEquals(7, pipelines.size(), "Listed from a task on the executor.");
+    } finally {
+      executor.shutdownNow();
+    }
+    client.verify(list, VerificationTimes.exactly(7));
+    client.clear(programs);
+    client.clear(list);
+  }
 }
@@ -25,14 +25,27 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
@@ -42,9 +55,14 @@ import com.adobe.aio.cloudmanager.impl.generated.PipelineExecution;
 import com.adobe.aio.event.webhook.service.EventVerifier;
 import com.adobe.aio.ims.feign.AuthInterceptor;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.adobe.aio.cloudmanager.ApiBuilder;
 import com.adobe.aio.cloudmanager.Artifact;
+import com.adobe.aio.cloudmanager.AsyncPipelineExecutionApi;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.EventIngestor;
+import com.adobe.aio.cloudmanager.InstrumentationRegistry;
+import com.adobe.aio.cloudmanager.ExecutionTracker;
 import com.adobe.aio.cloudmanager.Metric;
 import com.adobe.aio.cloudmanager.PipelineApi;
 import com.adobe.aio.cloudmanager.PipelineExecutionApi;
@@ -54,20 +72,29 @@ import com.adobe.aio.cloudmanager.PipelineExecutionStepEndEvent;
 import com.adobe.aio.cloudmanager.PipelineExecutionStepStartEvent;
 import com.adobe.aio.cloudmanager.PipelineExecutionStepState;
 import com.adobe.aio.cloudmanager.PipelineExecutionStepWaitingEvent;
+import com.adobe.aio.cloudmanager.PipelineExecutionSummary;
 import com.adobe.aio.cloudmanager.StepAction;
 import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
 import com.adobe.aio.cloudmanager.impl.pipeline.PipelineImpl;
 import org.junit.jupiter.api.BeforeEach;
+import feign.Request;
+import feign.RetryableException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.JsonBody;
+import org.mockserver.matchers.Times;
 import org.mockserver.verify.VerificationTimes;
 
 import static com.adobe.aio.util.Constants.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 import static org.mockserver.model.HttpRequest.*;
 import static org.mockserver.model.HttpResponse.*;
@@ -80,9 +107,11 @@ public class PipelineExecutionTest extends AbstractApiTest {
   private static final JsonBody GET_WAITING_BODY = loadBodyJson("pipeline/execution/approval-waiting.json");
   private static final JsonBody GET_CODE_QUALITY_BODY = loadBodyJson("pipeline/execution/codeQuality-waiting.json");
   public static final JsonBody LIST_BODY = loadBodyJson("pipeline/execution/list.json");
+  private static final JsonBody FINISHED_BODY = json("{ \"id\": \"1\", \"programId\": \"1\", \"pipelineId\": \"1\", \"status\": \"FINISHED\" }");
 
   private PipelineApi pipelineApi;
   private PipelineExecutionApiImpl executionApi;
+  private AsyncPipelineExecutionApi asyncApi;
 
   @BeforeEach
   void before() throws Exception {
@@ -94,6 +123,7 @@ public class PipelineExecutionTest extends AbstractApiTest {
     )) {
       pipelineApi = new ApiBuilder<>(PipelineApi.class).workspace(workspace).url(new URL(baseUrl)).build();
       executionApi = (PipelineExecutionApiImpl) new ApiBuilder<>(PipelineExecutionApi.class).workspace(workspace).url(new URL(baseUrl)).build();
+      asyncApi = new ApiBuilder<>(AsyncPipelineExecutionApi.class).workspace(workspace).url(new URL(baseUrl)).build();
     }
   }
 
@@ -184,6 +214,30 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(get);
   }
 
+  @Test
+  void async_current_failure_404() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution");
+    client.when(get).respond(response().withStatusCode(NOT_FOUND_404.code()));
+
+    assertFalse(asyncApi.getCurrent("1", "1").get().isPresent(), "Correct state");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void async_current_failure_500() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution");
+    client.when(get).respond(response().withStatusCode(INTERNAL_SERVER_ERROR_500.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> asyncApi.getCurrent("1", "1").get(), "Exception was thrown.");
+    assertEquals("Cannot get execution: %s/api/program/1/pipeline/1/execution (500 Unknown).".formatted(baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(get);
+    client.clear(get);
+  }
+
   @Test
   void start_failure_404() {
     String sessionId = UUID.randomUUID().toString();
@@ -371,6 +425,7 @@ public class PipelineExecutionTest extends AbstractApiTest {
     List<com.adobe.aio.cloudmanager.PipelineExecution> executions = new ArrayList<>(executionApi.list(new PipelineImpl(mock, pipelineApi, executionApi)));
     com.adobe.aio.cloudmanager.PipelineExecution execution = executions.get(0);
     assertEquals(StepAction.build, execution.getCurrentStep().getStepAction(), "Correct step found.");
+    assertSame(execution.getCurrentStep(), execution.getStep(StepAction.build), "Step wrapped once.");
 
     // No running step.
     execution = executions.get(1);
@@ -386,6 +441,31 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(list);
   }
 
+  @Test
+  void indexedSteps_via_execution(@Mock Pipeline mock) throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(mock.getProgramId()).thenReturn("1");
+    when(mock.getId()).thenReturn("1");
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/executions");
+    client.when(list).respond(response().withBody(LIST_BODY));
+
+    List<com.adobe.aio.cloudmanager.PipelineExecution> executions = new ArrayList<>(executionApi.list(new PipelineImpl(mock, pipelineApi, executionApi)));
+    PipelineExecutionImpl execution = (PipelineExecutionImpl) executions.get(0);
+    assertSame(execution.getStep(StepAction.codeQuality), execution.getIndexedStep(StepAction.codeQuality), "Action lookup.");
+    assertNull(execution.getIndexedStep(StepAction.deploy), "No deploy step.");
+    assertSame(execution.getCurrentStep(), execution.getIndexedStep(com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionStepState.StatusEnum.RUNNING), "Status lookup.");
+    assertNull(execution.getIndexedStep(com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionStepState.StatusEnum.WAITING), "No waiting step.");
+    assertEquals(List.of(StepAction.build, StepAction.codeQuality), execution.getPhaseSteps("2").stream().map(PipelineExecutionStepStateImpl::getStepAction).collect(Collectors.toList()), "Phase lookup.");
+    assertTrue(execution.getPhaseSteps("9").isEmpty(), "Unknown phase.");
+
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> executionApi.getCancelableStep((PipelineExecutionImpl) executions.get(1)), "Exception thrown.");
+    assertEquals("Cannot find a cancelable step for pipeline 1, execution 2.", exception.getMessage(), "Message was correct.");
+
+    client.verify(list, VerificationTimes.once());
+    client.clear(list);
+  }
+
   @Test
   void advance_failure_403() {
     String sessionId = UUID.randomUUID().toString();
@@ -465,6 +545,61 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(put);
   }
 
+  @Test
+  void advance_codeQuality_waiting_fresh() throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_CODE_QUALITY_BODY));
+
+    HttpRequest metrics = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/2/metrics");
+    client.when(metrics).respond(response().withBody(loadBodyJson("pipeline/execution/codeQuality-metrics.json")));
+
+    HttpRequest put = request().withMethod("PUT")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/2/advance")
+        .withBody(loadBodyJson("pipeline/execution/put-metrics-override.json"));
+    client.when(put).respond(response().withStatusCode(ACCEPTED_202.code()));
+
+    executionApi.setMaxStaleness(Duration.ofMinutes(1));
+    com.adobe.aio.cloudmanager.PipelineExecution execution = executionApi.get("1", "1", "1");
+    executionApi.advance(execution);
+    client.verify(get, VerificationTimes.once());
+    client.verify(metrics, VerificationTimes.once());
+    client.verify(put, VerificationTimes.once());
+
+    // Older than the bound, retrieved again.
+    executionApi.setMaxStaleness(Duration.ofNanos(1));
+    assertNotNull(executionApi.getStepState(execution, StepAction.codeQuality), "Step found.");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+    client.clear(metrics);
+    client.clear(put);
+  }
+
+  @Test
+  void async_advance_codeQuality_waiting() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_CODE_QUALITY_BODY));
+
+    HttpRequest metrics = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/2/metrics");
+    client.when(metrics).respond(response().withBody(loadBodyJson("pipeline/execution/codeQuality-metrics.json")));
+
+    HttpRequest put = request().withMethod("PUT")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/2/advance")
+        .withBody(loadBodyJson("pipeline/execution/put-metrics-override.json"));
+    client.when(put).respond(response().withStatusCode(ACCEPTED_202.code()));
+
+    asyncApi.advance("1", "1", "1").get();
+    client.verify(get, metrics, put);
+    client.clear(get);
+    client.clear(metrics);
+    client.clear(put);
+  }
+
   @Test
   void advance_via_execution() throws Exception {
     String sessionId = UUID.randomUUID().toString();
@@ -957,6 +1092,69 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(list);
   }
 
+  @Test
+  void listSummaries_success() throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/pipeline/1/executions")
+        .withQueryStringParameter("start", "10")
+        .withQueryStringParameter("limit", "30");
+    client.when(list).respond(response().withBody(LIST_BODY));
+    List<PipelineExecutionSummary> executions = new ArrayList<>(executionApi.listSummaries("1", "1", 10, 30));
+    assertEquals(20, executions.size(), "Correct length.");
+    PipelineExecutionSummary summary = executions.get(0);
+    assertEquals("1", summary.getId(), "Id correct.");
+    assertEquals("1", summary.getPipelineId(), "Pipeline id correct.");
+    assertEquals(com.adobe.aio.cloudmanager.PipelineExecution.Status.RUNNING, summary.getStatusState(), "Status correct.");
+    assertEquals("AB1234567C8D90123E466EAB@AdobeID", summary.getUser(), "User correct.");
+    assertNotNull(summary.getCreatedAt(), "Created correct.");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void forEach_success() throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/pipeline/1/executions")
+        .withQueryStringParameter("start", "10")
+        .withQueryStringParameter("limit", "30");
+    client.when(list).respond(response().withBody(LIST_BODY));
+    List<com.adobe.aio.cloudmanager.PipelineExecution> executions = new ArrayList<>();
+    executionApi.forEach("1", "1", 10, 30, executions::add);
+    assertEquals(20, executions.size(), "Correct length.");
+    client.clear(list);
+
+    client.when(list).respond(response().withBody(json("{ \"_links\": {}, \"_embedded\": { \"executions\": [ { \"id\": \"1\" }, 2 ] } }")));
+    executions.clear();
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> executionApi.forEach("1", "1", 10, 30, executions::add), "Exception thrown.");
+    assertTrue(exception.getMessage().startsWith("Unable to read response: "), "Message was correct.");
+    assertEquals(1, executions.size(), "Visited before failure.");
+    client.clear(list);
+  }
+
+  @Test
+  void forEach_instrumented() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    InstrumentationRegistry registry = InstrumentationRegistry.create();
+    PipelineExecutionApi instrumented = build(PipelineExecutionApi.class, b -> b.instrumentation(registry));
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/executions");
+    client.when(list).respond(response().withBody(LIST_BODY));
+
+    List<Long> inFlight = new ArrayList<>();
+    instrumented.forEach("1", "1", 0, 20, e -> inFlight.add(registry.getInFlight("PipelineExecutionApi", "list")));
+    assertEquals(20, inFlight.size(), "Correct length.");
+    assertTrue(inFlight.stream().allMatch(i -> i == 1L), "Call timed while items are read.");
+    assertEquals(0, registry.getInFlight("PipelineExecutionApi", "list"), "Call ended once read.");
+    assertEquals(1, registry.getTimers().stream().filter(t -> t.getMethod().equals("list")).findFirst().orElseThrow().getCount(), "Call counted once.");
+    client.clear(list);
+  }
+
   @Test
   void listArtifacts_failure_403(@Mock com.adobe.aio.cloudmanager.PipelineExecution execution, @Mock PipelineExecutionStepState step) throws CloudManagerApiException {
     String sessionId = UUID.randomUUID().toString();
@@ -1150,6 +1348,123 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(getFile);
   }
 
+  @Test
+  void archive_zip_parallel() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    PipelineExecutionApi parallel = build(PipelineExecutionApi.class, b -> b.executor(executor));
+
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_BODY));
+    HttpRequest logRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/1/logs");
+    client.when(logRedirect).respond(response().withBody(json("{ \"redirect\": \"%s/logs/build.txt\" }".formatted(baseUrl))));
+    HttpRequest logFile = request().withMethod("GET").withPath("/logs/build.txt");
+    client.when(logFile).respond(response().withBody("some log line\nsome other log line\n"));
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/1/artifacts");
+    client.when(list).respond(response().withBody(loadBodyJson("pipeline/execution/list-artifacts.json")));
+    HttpRequest artifactRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/1/artifact/1");
+    client.when(artifactRedirect).respond(response().withBody(json("{ \"redirect\": \"%s/artifacts/dispatcher.zip\" }".formatted(baseUrl))));
+    HttpRequest artifactFile = request().withMethod("GET").withPath("/artifacts/dispatcher.zip");
+    client.when(artifactFile).respond(response().withBody("dispatcher"));
+
+    File target = new File(Files.createTempDirectory("archive-output").toFile(), "execution-1.zip");
+    try {
+      parallel.archive(parallel.get("1", "1", "1"), target);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Map<String, String> entries = new HashMap<>();
+    try (ZipFile zip = new ZipFile(target)) {
+      for (ZipEntry entry : Collections.list(zip.entries())) {
+        entries.put(entry.getName(), IOUtils.toString(zip.getInputStream(entry), Charset.defaultCharset()));
+      }
+    }
+    assertEquals(3, entries.size(), "Entry count correct.");
+    assertEquals("some log line\nsome other log line\n", entries.get("logs/1-build.txt"), "Log archived.");
+    assertEquals("dispatcher", entries.get("artifacts/1-build/1-mysite.dispatcher.cloud-1.0.0-SNAPSHOT.zip"), "Artifact archived.");
+    String manifest = entries.get("manifest.json");
+    assertEquals("1", JsonPath.read(manifest, "$.executionId"), "Manifest execution correct.");
+    assertEquals(List.of("logs/1-build.txt", "artifacts/1-build/1-mysite.dispatcher.cloud-1.0.0-SNAPSHOT.zip"), JsonPath.read(manifest, "$.files[*].path"), "Manifest files correct.");
+    assertEquals(List.of(10), JsonPath.read(manifest, "$.files[?(@.type == 'artifact')].size"), "Manifest size correct.");
+
+    client.verify(logRedirect, VerificationTimes.once());
+    client.verify(artifactRedirect, VerificationTimes.once());
+    client.clear(get);
+    client.clear(logRedirect);
+    client.clear(logFile);
+    client.clear(list);
+    client.clear(artifactRedirect);
+    client.clear(artifactFile);
+  }
+
+  @Test
+  void archive_repeated_action(@TempDir File dir) throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(loadBodyJson("pipeline/execution/two-deploys.json")));
+    HttpRequest stageRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/3/step/3/logs");
+    client.when(stageRedirect).respond(response().withBody(json("{ \"redirect\": \"%s/logs/stage.txt\" }".formatted(baseUrl))));
+    HttpRequest stageFile = request().withMethod("GET").withPath("/logs/stage.txt");
+    client.when(stageFile).respond(response().withBody("stage deployment\n"));
+    HttpRequest prodRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/5/step/5/logs");
+    client.when(prodRedirect).respond(response().withBody(json("{ \"redirect\": \"%s/logs/prod.txt\" }".formatted(baseUrl))));
+    HttpRequest prodFile = request().withMethod("GET").withPath("/logs/prod.txt");
+    client.when(prodFile).respond(response().withBody("prod deployment\n"));
+
+    executionApi.archive(executionApi.get("1", "1", "1"), dir);
+
+    assertEquals("stage deployment\n", FileUtils.readFileToString(new File(dir, "logs/3-deploy.txt"), Charset.defaultCharset()), "Stage log archived.");
+    assertEquals("prod deployment\n", FileUtils.readFileToString(new File(dir, "logs/5-deploy.txt"), Charset.defaultCharset()), "Prod log archived.");
+
+    client.verify(stageRedirect, VerificationTimes.once());
+    client.verify(prodRedirect, VerificationTimes.once());
+    client.clear(get);
+    client.clear(stageRedirect);
+    client.clear(stageFile);
+    client.clear(prodRedirect);
+    client.clear(prodFile);
+  }
+
+  @Test
+  void archive_duplicate_names_unknown_action(@TempDir File dir) throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(json(GET_BODY.getValue().replace("\"action\": \"codeQuality\"", "\"action\": \"securityScan\""))));
+    HttpRequest logRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/1/logs");
+    client.when(logRedirect).respond(response().withBody(json("{ \"redirect\": \"%s/logs/build.txt\" }".formatted(baseUrl))));
+    HttpRequest logFile = request().withMethod("GET").withPath("/logs/build.txt");
+    client.when(logFile).respond(response().withBody("some log line\n"));
+    String artifact = "{ \"id\": \"%s\", \"type\": \"CONTENT_PACKAGE\", \"file\": \"%s/site.all-1.0.0.zip\" }";
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/1/artifacts");
+    client.when(list).respond(response().withBody(json("{ \"_embedded\": { \"artifacts\": [ %s, %s ] } }".formatted(artifact.formatted("1", "all/target"), artifact.formatted("2", "dispatcher/target")))));
+    HttpRequest artifactRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/1/artifact/[12]");
+    client.when(artifactRedirect).respond(response().withBody(json("{ \"redirect\": \"%s/artifacts/site.zip\" }".formatted(baseUrl))));
+    HttpRequest artifactFile = request().withMethod("GET").withPath("/artifacts/site.zip");
+    client.when(artifactFile).respond(response().withBody("site"));
+
+    executionApi.archive(executionApi.get("1", "1", "1"), dir);
+
+    assertTrue(new File(dir, "artifacts/1-build/1-site.all-1.0.0.zip").isFile(), "First artifact archived.");
+    assertTrue(new File(dir, "artifacts/1-build/2-site.all-1.0.0.zip").isFile(), "Second artifact archived.");
+    String manifest = FileUtils.readFileToString(new File(dir, "manifest.json"), Charset.defaultCharset());
+    assertEquals(List.of("1", "2"), JsonPath.read(manifest, "$.files[?(@.type == 'artifact')].artifactId"), "Manifest artifacts correct.");
+
+    client.verify(artifactRedirect, VerificationTimes.exactly(2));
+    client.clear(get);
+    client.clear(logRedirect);
+    client.clear(logFile);
+    client.clear(list);
+    client.clear(artifactRedirect);
+    client.clear(artifactFile);
+  }
+
   @Test
   void downloadStepLog_namedFile_redirect_failure_404() throws CloudManagerApiException, IOException {
     String sessionId = UUID.randomUUID().toString();
@@ -1239,6 +1554,88 @@ public class PipelineExecutionTest extends AbstractApiTest {
     }
   }
 
+  @Test
+  void ingest_batch_parallel() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+
+    String start = IOUtils.resourceToString("pipeline/execution/event/pipeline-start.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader());
+    String stepStart = IOUtils.resourceToString("pipeline/execution/event/pipeline-step-start.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader())
+        .replace("\"@id\": \"1\",", "\"@id\": \"2\",");
+    String unknown = IOUtils.resourceToString("pipeline/execution/event/unknown.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader())
+        .replace("\"@id\": \"1\",", "\"@id\": \"3\",");
+    Map<String, String> signed = Map.of("x-adobe-digital-signature-1", "signed");
+    Map<String, String> forged = Map.of("x-adobe-digital-signature-1", "forged");
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try (MockedConstruction<EventVerifier> verifier = mockConstruction(EventVerifier.class, (mock, mockContext) -> {
+          when(mock.verify(anyString(), eq(sessionId), eq(signed))).thenReturn(true);
+        }
+    )) {
+      PipelineExecutionApi api = build(PipelineExecutionApi.class, b -> b.executor(executor));
+      try (EventIngestor ingestor = api.ingestor(2, Duration.ofMinutes(1))) {
+        List<EventIngestor.Outcome> outcomes = ingestor.ingest(List.of(
+            EventIngestor.Delivery.of(start, signed),
+            EventIngestor.Delivery.of(start, signed),
+            EventIngestor.Delivery.of(stepStart, forged),
+            EventIngestor.Delivery.of(unknown, signed),
+            EventIngestor.Delivery.of(stepStart, signed)
+        ));
+        assertEquals(List.of(EventIngestor.Outcome.QUEUED, EventIngestor.Outcome.DUPLICATE, EventIngestor.Outcome.REJECTED, EventIngestor.Outcome.INVALID, EventIngestor.Outcome.QUEUED), outcomes, "Outcomes correct.");
+        assertEquals(2, ingestor.size(), "Queue size correct.");
+        assertTrue(ingestor.take() instanceof PipelineExecutionStartEvent, "First event correct.");
+        assertTrue(ingestor.poll(Duration.ofSeconds(1)).orElseThrow() instanceof PipelineExecutionStepStartEvent, "Second event correct.");
+        assertTrue(ingestor.drain(10).isEmpty(), "Queue drained.");
+
+        assertEquals(List.of(EventIngestor.Outcome.DUPLICATE), ingestor.ingest(List.of(EventIngestor.Delivery.of(start, signed))), "Redelivery ignored.");
+        ingestor.close();
+        assertThrows(IllegalStateException.class, () -> ingestor.ingest(List.of(EventIngestor.Delivery.of(start, signed))), "Closed ingestor rejects deliveries.");
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void ingest_interrupted() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+
+    String start = IOUtils.resourceToString("pipeline/execution/event/pipeline-start.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader());
+    String stepStart = IOUtils.resourceToString("pipeline/execution/event/pipeline-step-start.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader())
+        .replace("\"@id\": \"1\",", "\"@id\": \"2\",");
+    Map<String, String> signed = Map.of("x-adobe-digital-signature-1", "signed");
+    List<EventIngestor.Delivery> batch = List.of(EventIngestor.Delivery.of(start, signed), EventIngestor.Delivery.of(stepStart, signed));
+
+    try (MockedConstruction<EventVerifier> verifier = mockConstruction(EventVerifier.class, (mock, mockContext) -> {
+          when(mock.verify(anyString(), eq(sessionId), eq(signed))).thenReturn(true);
+        }
+    )) {
+      PipelineExecutionApi api = build(PipelineExecutionApi.class, b -> b);
+      try (EventIngestor ingestor = api.ingestor(1, Duration.ofMinutes(1))) {
+        CompletableFuture<List<EventIngestor.Outcome>> interrupted = new CompletableFuture<>();
+        Thread delivery = new Thread(() -> {
+          try {
+            interrupted.complete(ingestor.ingest(batch));
+          } catch (CloudManagerApiException e) {
+            interrupted.completeExceptionally(e);
+          }
+        });
+        delivery.start();
+        while (ingestor.size() == 0) {
+          Thread.sleep(10);
+        }
+        delivery.interrupt();
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> interrupted.get(5, TimeUnit.SECONDS), "Exception thrown.");
+        assertEquals("Interrupted waiting to queue event 2 of 2.", exception.getCause().getMessage(), "Message was correct.");
+        assertTrue(ingestor.poll(Duration.ofSeconds(1)).orElseThrow() instanceof PipelineExecutionStartEvent, "First event queued.");
+
+        assertEquals(List.of(EventIngestor.Outcome.DUPLICATE, EventIngestor.Outcome.QUEUED), ingestor.ingest(batch), "Redelivery queues the rest.");
+        assertTrue(ingestor.poll(Duration.ofSeconds(1)).orElseThrow() instanceof PipelineExecutionStepStartEvent, "Second event queued.");
+      }
+    }
+  }
+
   @Test
   void parseEvent_unknown() throws IOException {
     String unknown = IOUtils.resourceToString("pipeline/execution/event/unknown.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader());
@@ -1252,6 +1649,22 @@ public class PipelineExecutionTest extends AbstractApiTest {
     String unknownEvent = IOUtils.resourceToString("pipeline/execution/event/unknown-event.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader());
     exception = assertThrows(CloudManagerApiException.class, () -> executionApi.parseEvent(unknownEvent), "Exception thrown.");
     assertEquals("Unknown event/object types (Event: 'https://ns.adobe.com/experience/cloudmanager/event/unknown', Object: 'https://ns.adobe.com/experience/cloudmanager/execution-step-state').", exception.getMessage(), "Message was correct.");
+
+    exception = assertThrows(CloudManagerApiException.class, () -> executionApi.parseEvent("{ \"event\": "), "Exception thrown.");
+    assertTrue(exception.getMessage().startsWith("Unable to process event: "), "Message was correct.");
+  }
+
+  @Test
+  void parseEvent_typesAfterPayload() throws CloudManagerApiException {
+    String body = """
+        { "event": {
+            "activitystreams:object": { "@id": "https://cloudmanager.adobe.io/api/program/1/pipeline/1/execution/1", "@type": "xdmImsOrg" },
+            "@type": "https://ns.adobe.com/experience/cloudmanager/event/ended",
+            "xdmEventEnvelope:objectType": "https://ns.adobe.com/experience/cloudmanager/pipeline-execution"
+          },
+          "@type": "https://ns.adobe.com/experience/cloudmanager/event/started"
+        }""";
+    assertInstanceOf(PipelineExecutionEndEvent.class, executionApi.parseEvent(body), "Types read from the event envelope only.");
   }
 
   @Test
@@ -1272,6 +1685,7 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(get);
 
     // Execution detail not found
+    event = (PipelineExecutionStartEvent) executionApi.parseEvent(body);
     client.when(get).respond(response().withStatusCode(NOT_FOUND_404.code()));
     CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, event::getExecution, "Exception thrown.");
     assertEquals("Cannot get execution: %s/api/program/1/pipeline/1/execution/1 (404 Not Found).".formatted(baseUrl), exception.getMessage(), "Message was correct.");
@@ -1295,12 +1709,14 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.when(getStep).respond(response().withBody(GET_STEP_BODY));
     client.when(get).respond(response().withBody(GET_BODY));
     assertNotNull(event.getStepState());
+    assertSame(event.getStepState(), event.getStepState(), "Step state resolved once.");
     client.verify(getStep, VerificationTimes.once());
     client.verify(get, VerificationTimes.once());
     client.clear(getStep);
     client.clear(get);
 
     // Step State not found
+    event = (PipelineExecutionStepStartEvent) executionApi.parseEvent(body);
     getStep = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1");
     client.when(getStep).respond(response().withStatusCode(NOT_FOUND_404.code()));
     CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, event::getStepState, "Exception thrown.");
@@ -1312,6 +1728,70 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(get);
   }
 
+  @Test
+  void parseEvent_stepEvents_shareExecution() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+
+    // Shared by default.
+    PipelineExecutionApi cached = executionApi;
+
+    HttpRequest getStep = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1");
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(getStep).respond(response().withBody(GET_STEP_BODY));
+    client.when(get).respond(response().withBody(GET_BODY));
+
+    String start = IOUtils.resourceToString("pipeline/execution/event/pipeline-step-start.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader());
+    String end = IOUtils.resourceToString("pipeline/execution/event/pipeline-step-end.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader());
+    PipelineExecutionStepState started = ((PipelineExecutionStepStartEvent) cached.parseEvent(start)).getStepState();
+    PipelineExecutionStepState ended = ((PipelineExecutionStepEndEvent) cached.parseEvent(end)).getStepState();
+    assertSame(started.getExecution(), ended.getExecution(), "Execution shared.");
+    client.verify(getStep, VerificationTimes.exactly(2));
+    client.verify(get, VerificationTimes.once());
+
+    // Execution events always retrieve the execution again.
+    String pipelineEnd = IOUtils.resourceToString("pipeline/execution/event/pipeline-end.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader());
+    assertNotNull(((PipelineExecutionEndEvent) cached.parseEvent(pipelineEnd)).getExecution());
+    client.verify(get, VerificationTimes.exactly(2));
+
+    PipelineExecutionApi uncached = build(PipelineExecutionApi.class, b -> b.eventStaleness(Duration.ZERO));
+    ((PipelineExecutionStepStartEvent) uncached.parseEvent(start)).getStepState();
+    ((PipelineExecutionStepEndEvent) uncached.parseEvent(end)).getStepState();
+    client.verify(get, VerificationTimes.exactly(4));
+    client.clear(getStep);
+    client.clear(get);
+  }
+
+  @Test
+  void parseEvent_pipelineEnd_reloadsInFlight() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+
+    HttpRequest getStep = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1");
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(getStep).respond(response().withBody(GET_STEP_BODY));
+    client.when(get, Times.once()).respond(response().withBody(GET_BODY).withDelay(TimeUnit.SECONDS, 2));
+    client.when(get).respond(response().withBody(FINISHED_BODY));
+
+    String start = IOUtils.resourceToString("pipeline/execution/event/pipeline-step-start.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader());
+    String end = IOUtils.resourceToString("pipeline/execution/event/pipeline-end.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader());
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<PipelineExecutionStepState> step = executor.submit(() -> ((PipelineExecutionStepStartEvent) executionApi.parseEvent(start)).getStepState());
+      while (client.retrieveRecordedRequests(get).length == 0) {
+        Thread.sleep(10);
+      }
+      com.adobe.aio.cloudmanager.PipelineExecution ended = ((PipelineExecutionEndEvent) executionApi.parseEvent(end)).getExecution();
+      assertEquals(com.adobe.aio.cloudmanager.PipelineExecution.Status.FINISHED, ended.getStatusState(), "Did not join the older retrieval.");
+      assertEquals(com.adobe.aio.cloudmanager.PipelineExecution.Status.RUNNING, step.get(5, TimeUnit.SECONDS).getExecution().getStatusState(), "Step event kept its own retrieval.");
+    } finally {
+      executor.shutdownNow();
+    }
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(getStep);
+    client.clear(get);
+  }
+
   @Test
   void parseEvent_pipelineStepWaiting() throws IOException, CloudManagerApiException {
     String sessionId = UUID.randomUUID().toString();
@@ -1334,6 +1814,7 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(get);
 
     // Step State not found
+    event = (PipelineExecutionStepWaitingEvent) executionApi.parseEvent(body);
     getStep = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1");
     client.when(getStep).respond(response().withStatusCode(NOT_FOUND_404.code()));
     CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, event::getStepState, "Exception thrown.");
@@ -1367,6 +1848,7 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(get);
 
     // Step State not found
+    event = (PipelineExecutionStepEndEvent) executionApi.parseEvent(body);
     getStep = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1");
     client.when(getStep).respond(response().withStatusCode(NOT_FOUND_404.code()));
     CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, event::getStepState, "Exception thrown.");
@@ -1416,4 +1898,141 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(get);
   }
 
+  @Test
+  void tracker_invalid() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> executionApi.tracker(Duration.ZERO, Duration.ofSeconds(1)), "Exception thrown.");
+    assertEquals("Poll intervals must be positive, and the maximum no less than the minimum.", exception.getMessage(), "Message was correct.");
+    assertThrows(IllegalArgumentException.class, () -> executionApi.tracker(Duration.ofSeconds(2), Duration.ofSeconds(1)), "Exception thrown.");
+  }
+
+  @Test
+  void tracker_events() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get, Times.once()).respond(response().withBody(GET_BODY));
+    client.when(get).respond(response().withBody(FINISHED_BODY));
+
+    List<com.adobe.aio.cloudmanager.PipelineExecutionEvent> received = new ArrayList<>();
+    try (ExecutionTracker tracker = executionApi.tracker(Duration.ofMinutes(1), Duration.ofMinutes(5))) {
+      CompletableFuture<com.adobe.aio.cloudmanager.PipelineExecution> result = tracker.track(executionApi.get("1", "1", "1"), new ExecutionTracker.Listener() {
+        @Override
+        public void onEvent(com.adobe.aio.cloudmanager.PipelineExecutionEvent event) {
+          received.add(event);
+        }
+      });
+      assertEquals(com.adobe.aio.cloudmanager.PipelineExecution.Status.RUNNING, tracker.getStatus("1").orElseThrow(), "Status correct.");
+
+      tracker.accept(executionApi.parseEvent(IOUtils.resourceToString("pipeline/execution/event/pipeline-step-start.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader())));
+      tracker.accept(executionApi.parseEvent(IOUtils.resourceToString("pipeline/execution/event/pipeline-step-end.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader())));
+      assertFalse(result.isDone(), "Still running.");
+      client.verify(get, VerificationTimes.once());
+
+      tracker.accept(executionApi.parseEvent(IOUtils.resourceToString("pipeline/execution/event/pipeline-end.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader())));
+      assertEquals(com.adobe.aio.cloudmanager.PipelineExecution.Status.FINISHED, result.get(5, TimeUnit.SECONDS).getStatusState(), "Final status correct.");
+      assertTrue(tracker.getStatus("1").isEmpty(), "No longer tracked.");
+    }
+    assertEquals(3, received.size(), "Events delivered.");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void tracker_polling() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get, Times.exactly(3)).respond(response().withBody(GET_BODY));
+    client.when(get).respond(response().withBody(FINISHED_BODY));
+
+    try (ExecutionTracker tracker = executionApi.tracker(Duration.ofMillis(10), Duration.ofMillis(40))) {
+      CompletableFuture<com.adobe.aio.cloudmanager.PipelineExecution> result = tracker.track(executionApi.get("1", "1", "1"));
+      assertEquals(com.adobe.aio.cloudmanager.PipelineExecution.Status.FINISHED, result.get(5, TimeUnit.SECONDS).getStatusState(), "Final status correct.");
+    }
+    client.verify(get, VerificationTimes.exactly(4));
+    client.clear(get);
+  }
+
+  @Test
+  void tracker_polling_failure() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get, Times.once()).respond(response().withBody(GET_BODY));
+    client.when(get).respond(response().withStatusCode(NOT_FOUND_404.code()));
+
+    try (ExecutionTracker tracker = executionApi.tracker(Duration.ofMillis(10), Duration.ofMillis(40))) {
+      CompletableFuture<com.adobe.aio.cloudmanager.PipelineExecution> result = tracker.track(executionApi.get("1", "1", "1"));
+      ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS), "Exception thrown.");
+      assertEquals("Cannot get execution: %s/api/program/1/pipeline/1/execution/1 (404 Not Found).".formatted(baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    }
+    client.clear(get);
+  }
+
+  @Test
+  void tracker_polling_unavailable() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get, Times.once()).respond(response().withBody(GET_BODY));
+    client.when(get, Times.exactly(2)).respond(response().withStatusCode(SERVICE_UNAVAILABLE_503.code()));
+    client.when(get).respond(response().withBody(FINISHED_BODY));
+
+    try (ExecutionTracker tracker = executionApi.tracker(Duration.ofMillis(10), Duration.ofMillis(40))) {
+      CompletableFuture<com.adobe.aio.cloudmanager.PipelineExecution> result = tracker.track(executionApi.get("1", "1", "1"));
+      assertEquals(com.adobe.aio.cloudmanager.PipelineExecution.Status.FINISHED, result.get(5, TimeUnit.SECONDS).getStatusState(), "Tracked past transient failures.");
+    }
+    client.verify(get, VerificationTimes.exactly(4));
+    client.clear(get);
+
+    client.when(get, Times.once()).respond(response().withBody(GET_BODY));
+    client.when(get).respond(response().withStatusCode(BAD_GATEWAY_502.code()));
+    try (ExecutionTracker tracker = executionApi.tracker(Duration.ofMillis(10), Duration.ofMillis(40))) {
+      CompletableFuture<com.adobe.aio.cloudmanager.PipelineExecution> result = tracker.track(executionApi.get("1", "1", "1"));
+      ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS), "Exception thrown.");
+      assertEquals("Cannot get execution: %s/api/program/1/pipeline/1/execution/1 (502 Unknown).".formatted(baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    }
+    client.verify(get, VerificationTimes.exactly(1 + ExecutionTrackerImpl.MAX_FAILURES));
+    client.clear(get);
+  }
+
+  @Test
+  void tracker_polling_unchecked() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get, Times.once()).respond(response().withBody(GET_BODY));
+    client.when(get).respond(response().withBody(FINISHED_BODY));
+
+    com.adobe.aio.cloudmanager.PipelineExecution running = executionApi.get("1", "1", "1");
+    Request request = Request.create(Request.HttpMethod.GET, baseUrl, Map.of(), null, StandardCharsets.UTF_8, null);
+    PipelineExecutionApiImpl failing = spy(executionApi);
+    doThrow(new RetryableException(-1, "Connection reset", Request.HttpMethod.GET, (Long) null, request)).doCallRealMethod().when(failing).get("1", "1", "1");
+
+    List<com.adobe.aio.cloudmanager.PipelineExecution> updates = new CopyOnWriteArrayList<>();
+    try (ExecutionTracker tracker = new ExecutionTrackerImpl(failing, Duration.ofMillis(10), Duration.ofMillis(40))) {
+      CompletableFuture<com.adobe.aio.cloudmanager.PipelineExecution> result = tracker.track(running, new ExecutionTracker.Listener() {
+        @Override
+        public void onUpdate(com.adobe.aio.cloudmanager.PipelineExecution execution) {
+          throw new IllegalStateException("Listener failure.");
+        }
+      });
+      tracker.track(running, new ExecutionTracker.Listener() {
+        @Override
+        public void onUpdate(com.adobe.aio.cloudmanager.PipelineExecution execution) {
+          updates.add(execution);
+        }
+      });
+      assertEquals(com.adobe.aio.cloudmanager.PipelineExecution.Status.FINISHED, result.get(5, TimeUnit.SECONDS).getStatusState(), "Final status correct.");
+    }
+    assertEquals(1, updates.size(), "Other listener notified.");
+
+    doThrow(new IllegalStateException("Unexpected failure.")).when(failing).get("1", "1", "1");
+    try (ExecutionTracker tracker = new ExecutionTrackerImpl(failing, Duration.ofMillis(10), Duration.ofMillis(40))) {
+      CompletableFuture<com.adobe.aio.cloudmanager.PipelineExecution> result = tracker.track(running);
+      ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS), "Exception thrown.");
+      assertEquals("Unexpected failure.", exception.getCause().getMessage(), "Message was correct.");
+    }
+    client.clear(get);
+  }
 }
@@ -20,26 +20,50 @@ package com.adobe.aio.cloudmanager.impl.program;
  * #L%
  */
 
+import java.io.File;
 import java.net.URL;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import com.adobe.aio.ims.feign.AuthInterceptor;
 import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.AsyncProgramApi;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.Environment;
+import com.adobe.aio.cloudmanager.HttpTransport;
+import com.adobe.aio.cloudmanager.InstrumentationRegistry;
+import com.adobe.aio.cloudmanager.Pipeline;
 import com.adobe.aio.cloudmanager.Program;
 import com.adobe.aio.cloudmanager.ProgramApi;
+import com.adobe.aio.cloudmanager.ProgramSnapshot;
+import com.adobe.aio.cloudmanager.ProgramSummary;
 import com.adobe.aio.cloudmanager.Region;
+import com.adobe.aio.cloudmanager.RetryPolicy;
 import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
+import com.adobe.aio.cloudmanager.impl.HttpTransportImpl;
 import com.adobe.aio.cloudmanager.impl.generated.EmbeddedProgram;
 import com.adobe.aio.cloudmanager.impl.generated.Tenant;
 import com.adobe.aio.cloudmanager.impl.tenant.TenantImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
+import org.mockserver.matchers.Times;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.JsonBody;
+import org.mockserver.verify.VerificationTimes;
 
 import static com.adobe.aio.util.Constants.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -68,6 +92,241 @@ class ProgramTest extends AbstractApiTest {
     }
   }
 
+  @Test
+  void shared_transport() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpTransport transport = HttpTransport.builder().build();
+    ProgramApi first = build(ProgramApi.class, b -> b.transport(transport));
+    ProgramApi second = build(ProgramApi.class, b -> b.transport(transport));
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(get).respond(response().withBody(GET_BODY));
+    assertNotNull(first.get("1"), "Program found.");
+    assertNotNull(second.get("1"), "Program found.");
+    assertEquals(1, ((HttpTransportImpl) transport).getHttpClient().connectionPool().connectionCount(), "Connection reused.");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void snapshot_roundtrip(@TempDir File dir) throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(get).respond(response().withBody(GET_BODY));
+    HttpRequest environments = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environments");
+    client.when(environments).respond(response().withBody(loadBodyJson("environment/list.json")));
+    HttpRequest deployments = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/[0-9]+/regionDeployments");
+    client.when(deployments).respond(response().withBody(loadBodyJson("environment/list-regions.json")));
+    HttpRequest variables = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/[0-9]+/variables");
+    client.when(variables).respond(response().withBody(loadBodyJson("environment/list-variables.json")));
+    HttpRequest pipelines = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipelines");
+    client.when(pipelines).respond(response().withBody(loadBodyJson("pipeline/list.json")));
+    HttpRequest repositories = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/repositories");
+    client.when(repositories).respond(response().withBody(loadBodyJson("repository/list.json")));
+    HttpRequest contentSets = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentSets");
+    client.when(contentSets).respond(response().withBody(loadBodyJson("content/set/list.json")));
+
+    File file = new File(dir, "program-1.json.gz");
+    // Every executor thread takes a snapshot, so none is free for their parts.
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    ProgramSnapshot snapshot;
+    ProgramSnapshot read;
+    try {
+      ProgramApi parallel = build(ProgramApi.class, b -> b.executor(executor));
+      Future<ProgramSnapshot> first = executor.submit(() -> parallel.snapshot("1"));
+      Future<ProgramSnapshot> second = executor.submit(() -> parallel.snapshot("1"));
+      snapshot = first.get(10, TimeUnit.SECONDS);
+      assertEquals(snapshot.getEnvironments().size(), second.get(10, TimeUnit.SECONDS).getEnvironments().size(), "Concurrent snapshot correct.");
+      snapshot.write(file);
+      read = parallel.readSnapshot(file);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (ProgramSnapshot s : List.of(snapshot, read)) {
+      assertEquals("1", s.getProgram().getId(), "Program correct.");
+      assertEquals(4, s.getEnvironments().size(), "Environments correct.");
+      assertEquals(2, s.getEnvironments(Environment.Type.DEV).size(), "Environments by type correct.");
+      Environment prod = s.getEnvironment("1").orElseThrow();
+      assertEquals(2, s.getRegionDeployments(prod).size(), "Region deployments correct.");
+      assertEquals(2, s.getVariables(prod).size(), "Variables correct.");
+      assertEquals(4, s.getPipelines().size(), "Pipelines correct.");
+      assertEquals(List.of("1", "4"), s.getPipelines(s.getRepository("1").orElseThrow()).stream().map(Pipeline::getId).collect(Collectors.toList()), "Pipelines by repository correct.");
+      assertEquals(3, s.getRepositories().size(), "Repositories correct.");
+      assertFalse(s.getContentSets().isEmpty(), "Content sets correct.");
+      assertTrue(s.getPipeline("2").isPresent(), "Pipeline by id correct.");
+      assertTrue(s.getEnvironment("10").isEmpty(), "Unknown environment empty.");
+    }
+    assertEquals(snapshot.getCapturedAt(), read.getCapturedAt(), "Capture time kept.");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.verify(variables, VerificationTimes.exactly(8));
+    client.clear(get);
+    client.clear(environments);
+    client.clear(deployments);
+    client.clear(variables);
+    client.clear(pipelines);
+    client.clear(repositories);
+    client.clear(contentSets);
+  }
+
+  @Test
+  void readSnapshot_invalid(@TempDir File dir) throws Exception {
+    File file = new File(dir, "program-1.json.gz");
+    Files.createFile(file.toPath());
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> underTest.readSnapshot(file), "Exception thrown.");
+    assertTrue(exception.getMessage().startsWith("Cannot read program snapshot %s".formatted(file)), "Message was correct.");
+  }
+
+  @Test
+  void cached_get() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpTransport transport = HttpTransport.builder().cacheSize(1024 * 1024).build();
+    ProgramApi cached = build(ProgramApi.class, b -> b.transport(transport));
+    HttpRequest revalidate = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withHeader("If-None-Match", "\"v1\"").withPath("/api/program/1");
+    client.when(revalidate).respond(response().withStatusCode(NOT_MODIFIED_304.code()).withHeader("ETag", "\"v1\""));
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(get).respond(response().withHeader("ETag", "\"v1\"").withBody(GET_BODY));
+
+    Program first = cached.get("1");
+    Program second = cached.get("1");
+    assertEquals(first.getId(), second.getId(), "Same program.");
+    assertEquals(first.getName(), second.getName(), "Same program.");
+    client.verify(revalidate, VerificationTimes.exactly(1));
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void throttled_get() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpTransport transport = HttpTransport.builder().rateLimit(100, 1).build();
+    ProgramApi limited = build(ProgramApi.class, b -> b.transport(transport));
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(get, Times.once()).respond(response().withStatusCode(429).withHeader("Retry-After", "1"));
+    client.when(get).respond(response().withBody(GET_BODY));
+
+    long start = System.nanoTime();
+    assertNotNull(limited.get("1"), "Program found after throttling.");
+    assertTrue(System.nanoTime() - start >= TimeUnit.SECONDS.toNanos(1), "Retry-After honored.");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+
+    client.when(get).respond(response().withStatusCode(SERVICE_UNAVAILABLE_503.code()).withHeader("Retry-After", "60"));
+    HttpTransport bounded = HttpTransport.builder().rateLimit(100, 1).maxThrottleWait(Duration.ofSeconds(5)).build();
+    ProgramApi unavailable = build(ProgramApi.class, b -> b.transport(bounded));
+    assertThrows(CloudManagerApiException.class, () -> unavailable.get("1"), "Exception was thrown");
+    client.verify(get, VerificationTimes.exactly(1));
+    client.clear(get);
+  }
+
+  @Test
+  void async_throttled_get() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpTransport transport = HttpTransport.builder().rateLimit(100, 1).build();
+    AsyncProgramApi limited = build(AsyncProgramApi.class, b -> b.transport(transport));
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(get, Times.once()).respond(response().withStatusCode(429).withHeader("Retry-After", "1"));
+    client.when(get).respond(response().withBody(GET_BODY));
+
+    long start = System.nanoTime();
+    CompletableFuture<Program> future = limited.get("1");
+    assertFalse(future.isDone(), "Waiting for the rate limit.");
+    assertNotNull(future.get(5, TimeUnit.SECONDS), "Program found after throttling.");
+    assertTrue(System.nanoTime() - start >= TimeUnit.SECONDS.toNanos(1), "Retry-After honored.");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void retried_get() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    RetryPolicy policy = RetryPolicy.builder().maxAttempts(3).backoff(Duration.ofMillis(10), Duration.ofMillis(50)).build();
+    InstrumentationRegistry registry = InstrumentationRegistry.create();
+    ProgramApi retrying = build(ProgramApi.class, b -> b.retryPolicy(policy).instrumentation(registry));
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(get, Times.once()).respond(response().withStatusCode(BAD_GATEWAY_502.code()));
+    client.when(get).respond(response().withBody(GET_BODY));
+
+    assertNotNull(retrying.get("1"), "Program found after retry.");
+    assertEquals(1, policy.getRetryCount(), "Retry counted.");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+
+    client.when(get).respond(response().withStatusCode(GATEWAY_TIMEOUT_504.code()));
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> retrying.get("1"), "Exception was thrown");
+    assertEquals("Cannot retrieve program: %s/api/program/1 (504 Unknown).".formatted(baseUrl), exception.getMessage(), "Correct exception message");
+    assertEquals(3, policy.getRetryCount(), "Retries counted.");
+    assertEquals(1, policy.getExhaustedCount(), "Exhaustion counted.");
+    assertEquals(3, registry.getRetries("ProgramApi", "get"), "Retries reported.");
+    assertEquals(1, registry.getExhausted("ProgramApi", "get"), "Exhaustion reported.");
+    client.verify(get, VerificationTimes.exactly(3));
+    client.clear(get);
+  }
+
+  @Test
+  void async_retried_get() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    RetryPolicy policy = RetryPolicy.builder().maxAttempts(3).backoff(Duration.ofMillis(10), Duration.ofMillis(50)).build();
+    AsyncProgramApi retrying = build(AsyncProgramApi.class, b -> b.retryPolicy(policy));
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(get, Times.once()).respond(response().withStatusCode(429).withHeader("Retry-After", "1"));
+    client.when(get).respond(response().withBody(GET_BODY));
+
+    CompletableFuture<Program> future = retrying.get("1");
+    assertFalse(future.isDone(), "Retry waiting for its backoff.");
+    assertNotNull(future.get(5, TimeUnit.SECONDS), "Program found after retry.");
+    assertEquals(1, policy.getRetryCount(), "Retry counted.");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+
+    client.when(get).respond(response().withStatusCode(GATEWAY_TIMEOUT_504.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> retrying.get("1").get(5, TimeUnit.SECONDS), "Exception was thrown");
+    assertInstanceOf(CloudManagerApiException.class, exception.getCause(), "Cause was correct");
+    assertEquals("Cannot retrieve program: %s/api/program/1 (504 Unknown).".formatted(baseUrl), exception.getCause().getMessage(), "Correct exception message");
+    assertEquals(3, policy.getRetryCount(), "Retries counted.");
+    assertEquals(1, policy.getExhaustedCount(), "Exhaustion counted.");
+    client.verify(get, VerificationTimes.exactly(3));
+    client.clear(get);
+  }
+
+  @Test
+  void instrumented_get() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    InstrumentationRegistry registry = InstrumentationRegistry.create();
+    ProgramApi instrumented = build(ProgramApi.class, b -> b.instrumentation(registry));
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(get).respond(response().withBody(GET_BODY));
+    HttpRequest missing = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/2");
+    client.when(missing).respond(response().withStatusCode(NOT_FOUND_404.code()));
+
+    instrumented.get("1");
+    instrumented.get("1");
+    assertThrows(CloudManagerApiException.class, () -> instrumented.get("2"), "Exception was thrown");
+
+    InstrumentationRegistry.Timer success = registry.getTimers().stream().filter(t -> t.getStatus() == 200).findFirst().orElseThrow();
+    assertEquals("ProgramApi", success.getApi(), "API name correct.");
+    assertEquals("get", success.getMethod(), "Method name correct.");
+    assertEquals(2, success.getCount(), "Count correct.");
+    assertEquals(0, success.getErrorCount(), "No errors.");
+    assertTrue(success.getMaxTime().compareTo(success.getTotalTime()) <= 0, "Max within total.");
+    InstrumentationRegistry.Timer failure = registry.getTimers().stream().filter(t -> t.getStatus() == 404).findFirst().orElseThrow();
+    assertEquals(1, failure.getErrorCount(), "Error counted.");
+    assertEquals(0, registry.getInFlight("ProgramApi", "get"), "Nothing in flight.");
+    String scraped = registry.scrape();
+    assertTrue(scraped.contains("cloudmanager_requests_seconds_count{api=\"ProgramApi\",method=\"get\",status=\"200\"} 2\n"), "Count scraped.");
+    assertTrue(scraped.contains("cloudmanager_request_errors_total{api=\"ProgramApi\",method=\"get\",status=\"404\"} 1\n"), "Errors scraped.");
+    assertTrue(scraped.contains("cloudmanager_requests_in_flight{api=\"ProgramApi\",method=\"get\"} 0\n"), "In flight scraped.");
+    client.clear(get);
+    client.clear(missing);
+  }
+
   @Test
   void get_failure_404() {
     String sessionId = UUID.randomUUID().toString();
@@ -176,6 +435,25 @@ class ProgramTest extends AbstractApiTest {
     client.clear(list);
   }
 
+  @Test
+  void listSummaries_success() throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1/programs");
+    client.when(list).respond(response().withBody(LIST_BODY));
+    List<ProgramSummary> programs = new ArrayList<>(underTest.listSummaries("1"));
+    assertEquals(7, programs.size(), "Correct length of program list");
+    assertEquals("1", programs.get(0).getId(), "Id correct.");
+    assertEquals("test1", programs.get(0).getName(), "Name correct.");
+    assertTrue(programs.get(0).isEnabled(), "Enabled correct.");
+    client.verify(list);
+    client.clear(list);
+
+    client.when(list).respond(response().withBody(json("{ \"_embedded\": {} }")));
+    assertTrue(underTest.listSummaries("1").isEmpty());
+    client.clear(list);
+  }
+
   @Test
   void listRegions_failure_404() {
     String sessionId = UUID.randomUUID().toString();
@@ -22,7 +22,11 @@ package com.adobe.aio.cloudmanager.impl.repository;
 
 import java.net.URL;
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import com.adobe.aio.cloudmanager.impl.generated.Repository;
 import com.adobe.aio.ims.feign.AuthInterceptor;
@@ -30,6 +34,7 @@ import com.adobe.aio.cloudmanager.ApiBuilder;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
 import com.adobe.aio.cloudmanager.Program;
 import com.adobe.aio.cloudmanager.RepositoryApi;
+import com.adobe.aio.cloudmanager.exception.UncheckedCloudManagerApiException;
 import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
 import com.adobe.aio.cloudmanager.impl.generated.EmbeddedProgram;
 import com.adobe.aio.cloudmanager.impl.program.ProgramImpl;
@@ -314,4 +319,89 @@ public class RepositoryTest extends AbstractApiTest {
     client.verify(list);
     client.clear(list);
   }
+
+  private HttpRequest page(String sessionId, int start, int limit) {
+    return request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/repositories")
+        .withQueryStringParameter("start", String.valueOf(start))
+        .withQueryStringParameter("limit", String.valueOf(limit));
+  }
+
+  @Test
+  void stream_failure_403() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest first = page(sessionId, 0, 3);
+    client.when(first).respond(response().withStatusCode(FORBIDDEN_403.code()));
+
+    UncheckedCloudManagerApiException exception = assertThrows(UncheckedCloudManagerApiException.class, () -> underTest.stream("1", 3).count(), "Exception thrown for 403");
+    assertEquals("Cannot retrieve repositories: %s/api/program/1/repositories?start=0&limit=3 (403 Forbidden).".formatted(baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(first);
+    client.clear(first);
+  }
+
+  @Test
+  void stream_success() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest first = page(sessionId, 0, 3);
+    client.when(first).respond(response().withBody(LIST_BODY));
+    HttpRequest second = page(sessionId, 3, 3);
+    client.when(second).respond(response().withBody(json("{}")));
+
+    List<com.adobe.aio.cloudmanager.Repository> repositories = underTest.stream("1", 3).collect(Collectors.toList());
+    assertEquals(3, repositories.size(), "Correct repository count");
+    client.verify(first, VerificationTimes.once());
+    client.verify(second, VerificationTimes.never());
+    client.clear(first);
+    client.clear(second);
+  }
+
+  @Test
+  void stream_short_circuit() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest first = page(sessionId, 0, 3);
+    client.when(first).respond(response().withBody(LIST_BODY));
+    HttpRequest second = page(sessionId, 3, 3);
+    client.when(second).respond(response().withBody(LIST_BODY));
+    HttpRequest third = page(sessionId, 6, 3);
+    client.when(third).respond(response().withBody(LIST_BODY));
+
+    assertTrue(underTest.stream("1", 3).findFirst().isPresent(), "Repository found");
+    client.verify(first, VerificationTimes.once());
+    client.verify(third, VerificationTimes.never());
+    client.clear(first);
+    client.clear(second);
+    client.clear(third);
+  }
+
+  @Test
+  void stream_follows_page() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    String body = LIST_BODY.getValue().replace("\"_totalNumberOfItems\": 3", "\"_totalNumberOfItems\": 6");
+    HttpRequest first = page(sessionId, 0, 5);
+    client.when(first).respond(response().withBody(json(body.replace("\"next\": 20", "\"next\": 3"))));
+    HttpRequest second = page(sessionId, 3, 5);
+    client.when(second).respond(response().withBody(json(body)));
+    HttpRequest third = page(sessionId, 6, 5);
+    client.when(third).respond(response().withBody(LIST_BODY));
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      RepositoryApi prefetching = build(RepositoryApi.class, b -> b.executor(executor));
+      assertEquals(6, prefetching.stream("1", 5).count(), "Continued past the short page to the total.");
+    } finally {
+      executor.shutdownNow();
+    }
+    client.verify(first, VerificationTimes.once());
+    client.verify(second, VerificationTimes.once());
+    client.verify(third, VerificationTimes.never());
+    client.clear(first);
+    client.clear(second);
+    client.clear(third);
+  }
 }
@@ -23,9 +23,11 @@ package com.adobe.aio.cloudmanager.impl.tenant;
 import java.net.URL;
 import java.util.Collection;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 
 import com.adobe.aio.ims.feign.AuthInterceptor;
 import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.AsyncTenantApi;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
 import com.adobe.aio.cloudmanager.Tenant;
 import com.adobe.aio.cloudmanager.TenantApi;
@@ -47,6 +49,7 @@ import static org.mockserver.model.JsonBody.*;
 public class TenantTest extends AbstractApiTest {
 
   private TenantApi underTest;
+  private AsyncTenantApi asyncApi;
 
   @BeforeEach
   void before() throws Exception {
@@ -57,6 +60,7 @@ public class TenantTest extends AbstractApiTest {
         }
     )) {
       underTest = new ApiBuilder<>(TenantApi.class).workspace(workspace).url(new URL(baseUrl)).build();
+      asyncApi = new ApiBuilder<>(AsyncTenantApi.class).workspace(workspace).url(new URL(baseUrl)).build();
     }
   }
 
@@ -155,4 +159,29 @@ public class TenantTest extends AbstractApiTest {
     client.verify(get);
     client.clear(get);
   }
+
+  @Test
+  void async_list_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenants");
+    client.when(list).respond(response().withBody(loadBodyJson("tenant/list.json")));
+    Collection<Tenant> tenants = asyncApi.list().get();
+    assertEquals(1, tenants.size(), "Correct length of tenant list");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void async_get_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1");
+    client.when(get).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> asyncApi.get("1").get(), "Exception thrown for 404");
+    assertInstanceOf(CloudManagerApiException.class, exception.getCause(), "Cause was correct");
+    assertEquals("Cannot retrieve tenant: %s/api/tenant/1 (404 Not Found).".formatted(baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(get);
+    client.clear(get);
+  }
 }